@@ -0,0 +1,75 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.benchmarks.ResumeFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First-parse and steady-state latency of {@link JsonCodec}, with and without the
+ * bytecode module. The first-parse benchmarks time a single databind read in a fresh JVM
+ * per fork: {@code firstParse} on a new codec, {@code firstParseAfterWarmUp} on a codec
+ * that ran {@link JsonCodec#warmUp()} first. Lives in the codec's package to reach both
+ * of its read paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonCodecBenchmark {
+
+    @Param({"false", "true"})
+    public boolean bytecodeModule;
+
+    private byte[] json;
+    private JsonCodec codec;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        json = ResumeFixtures.json(ResumeFixtures.Size.TYPICAL);
+        codec = new JsonCodec(bytecodeModule);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public ResumeDto firstParse() throws IOException {
+        return codec.readDatabind(json);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public ResumeDto firstParseAfterWarmUp(WarmedUp warmedUp) throws IOException {
+        return warmedUp.codec.readDatabind(json);
+    }
+
+    @Benchmark
+    public ResumeDto databind() throws IOException {
+        return codec.readDatabind(json);
+    }
+
+    @Benchmark
+    public ResumeDto read() throws IOException {
+        return codec.read(json);
+    }
+
+    @State(Scope.Thread)
+    public static class WarmedUp {
+        JsonCodec codec;
+
+        @Setup(Level.Iteration)
+        public void setUp(JsonCodecBenchmark benchmark) {
+            codec = new JsonCodec(benchmark.bytecodeModule);
+            codec.warmUp();
+        }
+    }
+}
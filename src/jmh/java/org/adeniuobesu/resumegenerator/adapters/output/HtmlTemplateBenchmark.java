@@ -0,0 +1,51 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.benchmarks.ResumeFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One HTML document per operation. {@code appendWriter} is the exporter before templates,
+ * appending each piece to a buffered writer; {@code compiledTemplate} is
+ * {@link HtmlExporter}, copying pre-encoded segments and escaping values as it encodes
+ * them. Both write into the same reused buffer. Lives in the exporter's package because the baseline uses package-private code.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HtmlTemplateBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private final LegacyHtmlWriter legacy = new LegacyHtmlWriter(null);
+    private final HtmlExporter exporter = new HtmlExporter();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+    private ResumeDto resume;
+
+    @Setup
+    public void setUp() {
+        resume = ResumeFixtures.create(size);
+    }
+
+    @Benchmark
+    public long appendWriter() throws IOException {
+        out.reset();
+        legacy.generate(resume, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public long compiledTemplate() {
+        out.reset();
+        exporter.generate(resume, out);
+        return out.size();
+    }
+}
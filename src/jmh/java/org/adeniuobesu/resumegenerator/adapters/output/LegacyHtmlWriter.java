@@ -0,0 +1,382 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * {@link HtmlExporter} as it was before templates, kept as the baseline for
+ * {@link HtmlTemplateBenchmark}: appends to a buffered writer, values unescaped.
+ */
+final class LegacyHtmlWriter {
+    private final String cssFilePath;
+
+    LegacyHtmlWriter(String cssFilePath) {
+        this.cssFilePath = cssFilePath;
+    }
+
+    void generate(ResumeDto resume, OutputStream outputStream) throws IOException {
+        Writer writer = StreamingOutput.utf8Writer(outputStream);
+        writeHtml(resume, writer);
+        writer.flush();
+    }
+
+    private void writeHtml(ResumeDto resume, Writer out) throws IOException {
+        writeHead(resume, out);
+        writeHeader(resume, out);
+
+        out.append("        <div class=\"resume-body\">\n");
+        openSection("contact-section", "Contact Information", out);
+        out.append("<ul class=\"contact-list\">\n")
+            .append("                    ");
+        writeContactMethods(resume.contactMethods(), out);
+        out.append("\n                </ul>");
+        closeSection(out);
+
+        openSection("experience-section", "Professional Experience", out);
+        writeWorkExperiences(resume.workExperiences(), out);
+        closeSection(out);
+
+        openSection("education-section", "Education", out);
+        writeEducation(resume.educationHistory(), out);
+        closeSection(out);
+
+        openSection("skills-section", "Technical Skills", out);
+        writeSkills(resume.skillCategories(), out);
+        closeSection(out);
+
+        openSection("languages-section", "Languages", out);
+        writeLanguages(resume.languages(), out);
+        closeSection(out);
+
+        openSection("interests-section", "Interests", out);
+        writeHobbies(resume.hobbies(), out);
+        out.append("\n            </section>\n");
+        out.append("        </div>\n");
+
+        writeFooter(out);
+    }
+
+    private void writeHead(ResumeDto resume, Writer out) throws IOException {
+        out.append("""
+            <!DOCTYPE html>
+            <html lang="en">
+            <head>
+                <meta charset="UTF-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+            """);
+        out.append("    <title>").append(resume.fullName()).append(" - Resume</title>\n");
+        out.append("    ").append(getCssLink()).append('\n');
+        out.append("    <style>\n");
+        out.append("        ").append(getDefaultCss()).append('\n');
+        out.append("    </style>\n");
+        out.append("</head>\n");
+    }
+
+    private void writeHeader(ResumeDto resume, Writer out) throws IOException {
+        String summary = resume.professionalSummary() != null ? resume.professionalSummary() : "";
+        out.append("<body>\n")
+            .append("    <div class=\"resume-container\">\n")
+            .append("        <header class=\"resume-header\">\n")
+            .append("            <h1>").append(resume.fullName()).append("</h1>\n")
+            .append("            <h2>").append(resume.professionalTitle()).append("</h2>\n")
+            .append("            <p class=\"summary\">").append(summary).append("</p>\n")
+            .append("        </header>\n")
+            .append('\n');
+    }
+
+    private static void writeFooter(Writer out) throws IOException {
+        out.append("""
+                </div>
+
+                <script>
+                    function toggleTheme() {
+                        document.body.classList.toggle('dark-mode');
+                        localStorage.setItem('theme',
+                            document.body.classList.contains('dark-mode') ? 'dark' : 'light');
+                    }
+
+                    // Load saved theme
+                    if (localStorage.getItem('theme') === 'dark') {
+                        document.body.classList.add('dark-mode');
+                    }
+                </script>
+            </body>
+            </html>
+            """);
+    }
+
+    private static void openSection(String cssClass, String title, Writer out) throws IOException {
+        out.append("            <section class=\"").append(cssClass).append("\">\n")
+            .append("                <h3>").append(title).append("</h3>\n")
+            .append("                ");
+    }
+
+    private static void closeSection(Writer out) throws IOException {
+        out.append("\n            </section>\n")
+            .append('\n');
+    }
+
+    private String getCssLink() {
+        return cssFilePath != null ? 
+            String.format("<link rel=\"stylesheet\" href=\"%s\">", cssFilePath) : "";
+    }
+
+    private static String getDefaultCss() {
+        return """
+            :root {
+                --primary-color: #2c3e50;
+                --secondary-color: #3498db;
+                --text-color: #333;
+                --bg-color: #f9f9f9;
+                --section-bg: #fff;
+                --border-color: #e0e0e0;
+            }
+            
+            .dark-mode {
+                --primary-color: #3498db;
+                --secondary-color: #2c3e50;
+                --text-color: #f0f0f0;
+                --bg-color: #121212;
+                --section-bg: #1e1e1e;
+                --border-color: #444;
+            }
+            
+            body {
+                font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
+                line-height: 1.6;
+                color: var(--text-color);
+                background-color: var(--bg-color);
+                margin: 0;
+                padding: 20px;
+                transition: all 0.3s ease;
+            }
+            
+            .resume-container {
+                max-width: 800px;
+                margin: 0 auto;
+                background: var(--section-bg);
+                padding: 30px;
+                box-shadow: 0 0 20px rgba(0,0,0,0.1);
+                border-radius: 8px;
+            }
+            
+            .resume-header {
+                text-align: center;
+                margin-bottom: 30px;
+                border-bottom: 2px solid var(--secondary-color);
+                padding-bottom: 20px;
+            }
+            
+            h1 {
+                color: var(--primary-color);
+                margin-bottom: 5px;
+            }
+            
+            h2 {
+                color: var(--secondary-color);
+                font-weight: normal;
+                margin-top: 0;
+            }
+            
+            h3 {
+                color: var(--primary-color);
+                border-bottom: 1px solid var(--border-color);
+                padding-bottom: 5px;
+            }
+            
+            section {
+                margin-bottom: 25px;
+            }
+            
+            .contact-list {
+                display: flex;
+                flex-wrap: wrap;
+                gap: 15px;
+                list-style: none;
+                padding: 0;
+            }
+            
+            .contact-list li {
+                background: var(--secondary-color);
+                color: white;
+                padding: 5px 10px;
+                border-radius: 4px;
+                font-size: 0.9em;
+            }
+            
+            .job {
+                margin-bottom: 20px;
+            }
+            
+            .job-header {
+                display: flex;
+                justify-content: space-between;
+                margin-bottom: 5px;
+            }
+            
+            .job-title {
+                font-weight: bold;
+                color: var(--primary-color);
+            }
+            
+            .job-date {
+                color: #666;
+            }
+            
+            .achievements {
+                padding-left: 20px;
+            }
+            
+            .achievements li {
+                margin-bottom: 5px;
+            }
+            
+            .skills-container {
+                display: grid;
+                grid-template-columns: repeat(auto-fill, minmax(200px, 1fr));
+                gap: 15px;
+            }
+            
+            .skill-category {
+                margin-bottom: 15px;
+            }
+            
+            .skill-items {
+                display: flex;
+                flex-wrap: wrap;
+                gap: 8px;
+            }
+            
+            .skill-item {
+                background: var(--secondary-color);
+                color: white;
+                padding: 3px 8px;
+                border-radius: 3px;
+                font-size: 0.85em;
+            }
+            
+            .theme-toggle {
+                position: fixed;
+                top: 20px;
+                right: 20px;
+                background: var(--secondary-color);
+                color: white;
+                border: none;
+                padding: 8px 15px;
+                border-radius: 4px;
+                cursor: pointer;
+            }
+            """;
+    }
+
+    private static void writeContactMethods(List<ContactMethodDto> methods, Writer out) throws IOException {
+        for (int i = 0; i < methods.size(); i++) {
+            ContactMethodDto m = methods.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<li><strong>").append(String.valueOf(m.type())).append(":</strong> ");
+            if (m.type() == ContactTypeDto.EMAIL) {
+                out.append("<a href=\"mailto:").append(m.value()).append("\">")
+                    .append(m.value()).append("</a>");
+            } else if (m.type() == ContactTypeDto.LINKEDIN || m.type() == ContactTypeDto.GITHUB) {
+                out.append("<a href=\"").append(m.value()).append("\" target=\"_blank\">")
+                    .append(m.value()).append("</a>");
+            } else {
+                out.append(m.value());
+            }
+            out.append("</li>");
+        }
+    }
+
+    private static void writeWorkExperiences(List<WorkExperienceDto> experiences, Writer out) throws IOException {
+        for (int i = 0; i < experiences.size(); i++) {
+            WorkExperienceDto exp = experiences.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<div class=\"job\">\n")
+                .append("    <div class=\"job-header\">\n")
+                .append("        <span class=\"job-title\">").append(exp.jobTitle()).append("</span>\n")
+                .append("        <span class=\"job-date\">").append(exp.startDate())
+                    .append(" - ").append(exp.endDate()).append("</span>\n")
+                .append("    </div>\n")
+                .append("    <div class=\"job-company\">").append(exp.companyName()).append("</div>\n")
+                .append("    <ul class=\"achievements\">\n")
+                .append("        ");
+            List<String> achievements = exp.keyAchievements();
+            for (int a = 0; a < achievements.size(); a++) {
+                if (a > 0) out.append('\n');
+                out.append("<li>").append(achievements.get(a)).append("</li>");
+            }
+            out.append('\n')
+                .append("    </ul>\n")
+                .append("</div>\n");
+        }
+    }
+
+    private static void writeEducation(List<EducationDto> education, Writer out) throws IOException {
+        for (int i = 0; i < education.size(); i++) {
+            EducationDto edu = education.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<div class=\"education\">\n")
+                .append("    <div class=\"education-header\">\n")
+                .append("        <span class=\"degree\">").append(edu.degree())
+                    .append(edu.fieldOfStudy() != null ? " in " + edu.fieldOfStudy() : "").append("</span>\n")
+                .append("        <span class=\"education-date\">").append(edu.startDate())
+                    .append(" - ").append(edu.endDate()).append("</span>\n")
+                .append("    </div>\n")
+                .append("    <div class=\"institution\">").append(edu.institutionName()).append("</div>\n")
+                .append("</div>\n");
+        }
+    }
+
+    private static void writeSkills(List<SkillCategoryDto> skills, Writer out) throws IOException {
+        out.append("<div class=\"skills-container\">\n")
+            .append("    ");
+        for (int i = 0; i < skills.size(); i++) {
+            SkillCategoryDto skill = skills.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<div class=\"skill-category\">\n")
+                .append("    <h4>").append(skill.categoryName()).append("</h4>\n")
+                .append("    <div class=\"skill-items\">\n")
+                .append("        ");
+            List<String> items = skill.skills();
+            for (int s = 0; s < items.size(); s++) {
+                if (s > 0) out.append('\n');
+                out.append("<span class=\"skill-item\">").append(items.get(s)).append("</span>");
+            }
+            out.append('\n')
+                .append("    </div>\n")
+                .append("</div>\n");
+        }
+        out.append('\n')
+            .append("</div>\n");
+    }
+
+    private static void writeLanguages(List<LanguageDto> languages, Writer out) throws IOException {
+        out.append("<div class=\"languages-container\">\n")
+            .append("    ");
+        for (int i = 0; i < languages.size(); i++) {
+            LanguageDto lang = languages.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<div class=\"language\">\n")
+                .append("    <span class=\"language-name\">").append(lang.language()).append("</span>\n")
+                .append("    <span class=\"language-proficiency\">(")
+                    .append(lang.proficiency().toString().toLowerCase()).append(")</span>\n")
+                .append("</div>\n");
+        }
+        out.append('\n')
+            .append("</div>\n");
+    }
+
+    private static void writeHobbies(List<HobbyDto> hobbies, Writer out) throws IOException {
+        for (int i = 0; i < hobbies.size(); i++) {
+            HobbyDto hobby = hobbies.get(i);
+            if (i > 0) out.append('\n');
+            out.append("<div class=\"hobby\">\n")
+                .append("    <strong>").append(hobby.name()).append("</strong>")
+                    .append(hobby.description() != null ? ": " + hobby.description() : "").append('\n')
+                .append("</div>\n");
+        }
+    }
+}
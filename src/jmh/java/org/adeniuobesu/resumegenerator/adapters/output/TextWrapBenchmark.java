@@ -0,0 +1,91 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word wrap of one long paragraph. {@code remeasureLines} is the wrap the exporter used
+ * to run, measuring the whole candidate line through the embedded font for every word;
+ * {@code wrap} is {@link PdfLayoutEngine#wrap}. Lives in the exporter's package because
+ * the layout classes are package-private.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TextWrapBenchmark {
+
+    private static final String[] WORDS = {
+        "distributed", "systems", "engineer", "with", "a", "focus", "on", "throughput,",
+        "latency", "and", "clean", "architecture;", "mentored", "developers", "across", "teams."
+    };
+    private static final float FONT_SIZE = 12;
+    private static final float MAX_WIDTH = PdfLayoutEngine.PAGE_SIZE.getWidth() - 2 * PdfLayoutEngine.MARGIN;
+
+    @Param({"50", "5000"})
+    public int words;
+
+    private PdfLayoutEngine engine;
+    private PDDocument document;
+    private PDFont font;
+    private String paragraph;
+
+    @Setup
+    public void setUp() throws IOException {
+        FontRegistry registry = FontRegistry.shared();
+        engine = new PdfLayoutEngine(registry);
+        document = new PDDocument();
+        font = registry.embed(document).get(Face.REGULAR);
+
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        paragraph = builder.toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        document.close();
+    }
+
+    @Benchmark
+    public List<String> wrap() {
+        return engine.wrap(paragraph, Face.REGULAR, FONT_SIZE, MAX_WIDTH);
+    }
+
+    @Benchmark
+    public List<String> remeasureLines() throws IOException {
+        List<String> wrapped = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : paragraph.split(" ")) {
+            String candidate = line.length() > 0 ? line + " " + word : word;
+            if (line.length() > 0 && font.getStringWidth(candidate) / 1000 * FONT_SIZE > MAX_WIDTH) {
+                wrapped.add(line.toString());
+                line.setLength(0);
+                line.append(word);
+            } else {
+                line.setLength(0);
+                line.append(candidate);
+            }
+        }
+        if (line.length() > 0) {
+            wrapped.add(line.toString());
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,25 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import java.io.OutputStream;
+
+/**
+ * Discards everything written but counts the bytes, so benchmarks can return the
+ * count and keep the JIT from eliminating the rendering work.
+ */
+final class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        count += len;
+    }
+
+    long count() {
+        return count;
+    }
+}
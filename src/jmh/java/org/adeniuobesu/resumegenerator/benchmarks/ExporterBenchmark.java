@@ -0,0 +1,41 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Rendering cost of each exporter, from a validated DTO into a discarding stream. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExporterBenchmark {
+
+    @Param({"PDF", "HTML", "MARKDOWN", "TEXT"})
+    public OutputType format;
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private OutputStrategy<ResumeDto> exporter;
+    private ResumeDto resume;
+
+    @Setup
+    public void setUp() {
+        exporter = new OutputStrategyFactory().create(format);
+        resume = ResumeFixtures.create(size);
+    }
+
+    @Benchmark
+    public long generate() {
+        CountingOutputStream out = new CountingOutputStream();
+        exporter.generate(resume, out);
+        return out.count();
+    }
+}
@@ -0,0 +1,73 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.core.validation.ValidationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Format checks through {@link ValidationUtils} against the {@link String#matches}
+ * calls they replaced. The regular expressions are copied from
+ * {@code ValidationUtils.REGEX_PATTERNS}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatValidationBenchmark {
+    private static final String EMAIL_REGEX = "^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$";
+    private static final String PHONE_REGEX = "^[+\\d\\s()-]{8,20}$";
+    private static final String URL_REGEX = "^(https?|ftp)://[^\\s/$.?#].[^\\s]*$";
+    private static final String ISO_DATE_REGEX = "^\\d{4}-(0[1-9]|1[0-2])$";
+
+    public String email = "jane.doe-smith@mail.example.com";
+    public String phone = "+33 (1) 23-45-67-89";
+    public String url = "https://github.com/jane-doe/resume-generator";
+    public String date = "2023-05";
+
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public String emailScanner() {
+        ValidationUtils.validatePattern(email, "email", "EMAIL");
+        return email;
+    }
+
+    @Benchmark
+    public boolean phoneRegex() {
+        return phone.matches(PHONE_REGEX);
+    }
+
+    @Benchmark
+    public String phoneScanner() {
+        ValidationUtils.validatePattern(phone, "phone", "PHONE");
+        return phone;
+    }
+
+    @Benchmark
+    public boolean urlRegex() {
+        return url.matches(URL_REGEX);
+    }
+
+    @Benchmark
+    public String urlScanner() {
+        ValidationUtils.validatePattern(url, "url", "URL");
+        return url;
+    }
+
+    @Benchmark
+    public boolean isoDateRegex() {
+        return date.matches(ISO_DATE_REGEX);
+    }
+
+    @Benchmark
+    public String isoDateScanner() {
+        ValidationUtils.validateIsoDate(date, "date");
+        return date;
+    }
+}
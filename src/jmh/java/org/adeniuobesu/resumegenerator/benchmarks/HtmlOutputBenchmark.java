@@ -0,0 +1,81 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlExporter;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing one HTML file through {@link OutputTargets}, plain or minified, with or without
+ * its precompressed {@code .gz} copy. The file sizes show up as the {@code bytes} and
+ * {@code gzipBytes} secondary results next to the render time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HtmlOutputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean minify;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private HtmlExporter exporter;
+    private ResumeDto resume;
+    private Path directory;
+    private Path output;
+
+    /** Sizes of the last files; every render of a fixture produces the same sizes. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+        public long bytes;
+        public long gzipBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        exporter = new HtmlExporter(null, null, minify);
+        resume = ResumeFixtures.create(size);
+        directory = Files.createTempDirectory("html-output");
+        output = directory.resolve("resume.html");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(OutputTargets.precompressedPath(output));
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long write(Output sizes) throws IOException {
+        Set<OutputType> precompressed = gzip ? Set.of(OutputType.HTML) : Set.of();
+        try (OutputTargets targets = OutputTargets.open(Map.of(OutputType.HTML, output),
+                format -> exporter, RenderOptions.defaults().withPrecompressed(precompressed))) {
+            for (RenderTarget target : targets.targets().values()) {
+                exporter.generate(resume, target.stream());
+            }
+        }
+        sizes.bytes = Files.size(output);
+        sizes.gzipBytes = gzip ? Files.size(OutputTargets.precompressedPath(output)) : 0;
+        return sizes.bytes;
+    }
+}
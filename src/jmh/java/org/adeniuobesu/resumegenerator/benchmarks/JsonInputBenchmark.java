@@ -0,0 +1,51 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonCodec;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing cost of {@link JsonInputStrategy}, from in-memory JSON bytes. {@code databind}
+ * is the reflection-driven path the strategy falls back to for unusual input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonInputBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonCodec codec = new JsonCodec(objectMapper);
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        json = ResumeFixtures.json(size);
+    }
+
+    @Benchmark
+    public ResumeDto collectData() {
+        return new JsonInputStrategy(new ByteArrayInputStream(json)).collectData();
+    }
+
+    @Benchmark
+    public ResumeDto collectDataOwnCodec() {
+        return new JsonInputStrategy(new ByteArrayInputStream(json), codec).collectData();
+    }
+
+    @Benchmark
+    public ResumeDto databind() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(json), ResumeDto.class);
+    }
+}
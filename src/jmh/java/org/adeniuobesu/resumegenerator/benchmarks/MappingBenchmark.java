@@ -0,0 +1,40 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.mappers.ResumeMapper;
+import org.adeniuobesu.resumegenerator.core.models.Resume;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of both {@link ResumeMapper} directions. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private ResumeDto dto;
+    private Resume resume;
+
+    @Setup
+    public void setUp() {
+        dto = ResumeFixtures.create(size);
+        resume = ResumeMapper.toDomain(dto);
+    }
+
+    @Benchmark
+    public Resume toDomain() {
+        return ResumeMapper.toDomain(dto);
+    }
+
+    @Benchmark
+    public ResumeDto toDto() {
+        return ResumeMapper.toDto(resume);
+    }
+}
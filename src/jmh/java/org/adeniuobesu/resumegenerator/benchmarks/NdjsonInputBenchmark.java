@@ -0,0 +1,71 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonCodec;
+import org.adeniuobesu.resumegenerator.adapters.input.MappedNdjsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.input.NdjsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Reading a whole NDJSON file of {@code records} resumes, through buffered reads and
+ * through memory-mapped segments. Each record is collected and its name counted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NdjsonInputBenchmark {
+
+    @Param({"TYPICAL"})
+    public ResumeFixtures.Size size;
+
+    @Param({"10000"})
+    public int records;
+
+    private final JsonCodec codec = JsonCodec.shared();
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] line = ResumeFixtures.json(size);
+        file = Files.createTempFile("resumes", ".ndjson");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (int i = 0; i < records; i++) {
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long buffered() throws IOException {
+        return read(new NdjsonInputStrategy(Files.newInputStream(file), codec));
+    }
+
+    @Benchmark
+    public long mapped() {
+        return read(new MappedNdjsonInputStrategy(file, codec));
+    }
+
+    private static long read(StreamingInputStrategy<ResumeDto> input) {
+        try (Stream<Record<ResumeDto>> stream = input.records()) {
+            return stream.map(Record::collectData).filter(resume -> resume.fullName() != null).count();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfExporter;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render time and output size of each {@link PdfProfile}. The document size shows up
+ * as the {@code bytes} secondary result next to the render time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PdfProfileBenchmark {
+
+    @Param({"SIZE", "BALANCED", "SPEED"})
+    public PdfProfile profile;
+
+    @Param({"TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private PdfExporter exporter;
+    private ResumeDto resume;
+
+    /** Size of the last document; every render of a fixture produces the same size. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Output {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        exporter = new PdfExporter(profile);
+        resume = ResumeFixtures.create(size);
+    }
+
+    @Benchmark
+    public long generate(Output output) {
+        CountingOutputStream out = new CountingOutputStream();
+        exporter.generate(resume, out);
+        output.bytes = out.count();
+        return out.count();
+    }
+}
@@ -0,0 +1,43 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/** Whole {@link BuildResumeUseCase#execute} run: parse, map, validate and export. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    @Param({"PDF", "HTML", "MARKDOWN", "TEXT"})
+    public OutputType format;
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private BuildResumeUseCase pipeline;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        pipeline = new BuildResumeUseCase(new OutputStrategyFactory().create(format), new ResumeValidator());
+        json = ResumeFixtures.json(size);
+    }
+
+    @Benchmark
+    public long execute() {
+        CountingOutputStream out = new CountingOutputStream();
+        pipeline.execute(new JsonInputStrategy(new ByteArrayInputStream(json)), out);
+        return out.count();
+    }
+}
@@ -0,0 +1,151 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic resumes for the benchmarks. Every fixture passes {@code ResumeValidator},
+ * so whole-pipeline benchmarks measure rendering rather than validation failures.
+ */
+public final class ResumeFixtures {
+
+    public enum Size {
+        /** Bare minimum: one contact, one job, one achievement. */
+        SMALL(1, 1, 1, 0, 0, 0, 0),
+        /** Roughly the shape of {@code samples/resume.json}. */
+        TYPICAL(6, 4, 4, 2, 4, 3, 3),
+        /** Long career history, every list near or past its usual length. */
+        HUGE(7, 200, 10, 50, 100, 30, 50);
+
+        private final int contacts;
+        private final int jobs;
+        private final int achievementsPerJob;
+        private final int educations;
+        private final int skillCategories;
+        private final int languages;
+        private final int hobbies;
+
+        Size(int contacts, int jobs, int achievementsPerJob, int educations,
+             int skillCategories, int languages, int hobbies) {
+            this.contacts = contacts;
+            this.jobs = jobs;
+            this.achievementsPerJob = achievementsPerJob;
+            this.educations = educations;
+            this.skillCategories = skillCategories;
+            this.languages = languages;
+            this.hobbies = hobbies;
+        }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static final List<ContactMethodDto> CONTACTS = List.of(
+        new ContactMethodDto(ContactTypeDto.EMAIL, "alex.chen@example.com"),
+        new ContactMethodDto(ContactTypeDto.PHONE, "+1 (555) 123-4567"),
+        new ContactMethodDto(ContactTypeDto.LINKEDIN, "https://linkedin.com/in/alexandrachen"),
+        new ContactMethodDto(ContactTypeDto.GITHUB, "https://github.com/alexandrachen"),
+        new ContactMethodDto(ContactTypeDto.PORTFOLIO, "https://alexandrachen.dev"),
+        new ContactMethodDto(ContactTypeDto.CITY, "London"),
+        new ContactMethodDto(ContactTypeDto.COUNTRY, "England")
+    );
+
+    private static final String SUMMARY = "Passionate backend engineer with years of experience designing "
+        + "high-throughput distributed systems. Open-source contributor focused on clean architecture "
+        + "and mentoring junior developers. Strong advocate for DevOps best practices.";
+
+    private static final String ACHIEVEMENT = "Designed and shipped a service handling %d requests per second, "
+        + "cutting p99 latency by %d%% through careful profiling and batching";
+
+    private ResumeFixtures() {}
+
+    public static ResumeDto create(Size size) {
+        return new ResumeDto(
+            "Alexandra Chen",
+            "Senior Java Backend Engineer",
+            SUMMARY,
+            CONTACTS.subList(0, size.contacts),
+            size == Size.SMALL ? List.of() : List.of("Leadership", "Communication", "Mentoring"),
+            workExperiences(size),
+            educationHistory(size),
+            skillCategories(size),
+            hobbies(size),
+            languages(size)
+        );
+    }
+
+    public static byte[] json(Size size) {
+        try {
+            return JSON.writeValueAsBytes(create(size));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize fixture " + size, e);
+        }
+    }
+
+    private static List<WorkExperienceDto> workExperiences(Size size) {
+        List<WorkExperienceDto> jobs = new ArrayList<>(size.jobs);
+        for (int i = 0; i < size.jobs; i++) {
+            List<String> achievements = new ArrayList<>(size.achievementsPerJob);
+            for (int a = 0; a < size.achievementsPerJob; a++) {
+                achievements.add(String.format(ACHIEVEMENT, 1000 * (i + a + 1), 10 + a));
+            }
+            int year = 1990 + i % 30;
+            jobs.add(new WorkExperienceDto(
+                "Company " + i,
+                "Software Engineer " + i,
+                year + "-01",
+                year + "-12",
+                achievements
+            ));
+        }
+        return jobs;
+    }
+
+    private static List<EducationDto> educationHistory(Size size) {
+        List<EducationDto> education = new ArrayList<>(size.educations);
+        for (int i = 0; i < size.educations; i++) {
+            int year = 1980 + i % 30;
+            education.add(new EducationDto(
+                "University " + i,
+                "MSc",
+                "Computer Science",
+                year + "-09",
+                (year + 1) + "-06"
+            ));
+        }
+        return education;
+    }
+
+    private static List<SkillCategoryDto> skillCategories(Size size) {
+        List<SkillCategoryDto> categories = new ArrayList<>(size.skillCategories);
+        int skillsPerCategory = size == Size.HUGE ? 15 : 8;
+        for (int i = 0; i < size.skillCategories; i++) {
+            List<String> skills = new ArrayList<>(skillsPerCategory);
+            for (int s = 0; s < skillsPerCategory; s++) {
+                skills.add("Skill " + i + "." + s);
+            }
+            categories.add(new SkillCategoryDto("Category " + i, skills));
+        }
+        return categories;
+    }
+
+    private static List<LanguageDto> languages(Size size) {
+        LanguageProficiencyDto[] levels = LanguageProficiencyDto.values();
+        List<LanguageDto> languages = new ArrayList<>(size.languages);
+        for (int i = 0; i < size.languages; i++) {
+            languages.add(new LanguageDto("Language " + i, levels[i % levels.length]));
+        }
+        return languages;
+    }
+
+    private static List<HobbyDto> hobbies(Size size) {
+        List<HobbyDto> hobbies = new ArrayList<>(size.hobbies);
+        for (int i = 0; i < size.hobbies; i++) {
+            hobbies.add(new HobbyDto("Hobby " + i, "Practised every weekend for " + i + " years"));
+        }
+        return hobbies;
+    }
+}
@@ -0,0 +1,52 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.input.SnapshotInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.snapshot.ResumeSnapshot;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a resume from a binary {@link ResumeSnapshot} against parsing its JSON, both
+ * from in-memory bytes, and the cost of writing a snapshot.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private ResumeDto resume;
+    private byte[] json;
+    private byte[] snapshot;
+
+    @Setup
+    public void setUp() {
+        resume = ResumeFixtures.create(size);
+        json = ResumeFixtures.json(size);
+        snapshot = ResumeSnapshot.encode(resume);
+    }
+
+    @Benchmark
+    public ResumeDto loadJson() {
+        return new JsonInputStrategy(new ByteArrayInputStream(json)).collectData();
+    }
+
+    @Benchmark
+    public ResumeDto loadSnapshot() {
+        return new SnapshotInputStrategy(new ByteArrayInputStream(snapshot)).collectData();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return ResumeSnapshot.encode(resume);
+    }
+}
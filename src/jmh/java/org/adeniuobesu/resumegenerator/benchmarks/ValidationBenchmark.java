@@ -0,0 +1,35 @@
+package org.adeniuobesu.resumegenerator.benchmarks;
+
+import org.adeniuobesu.resumegenerator.application.mappers.ResumeMapper;
+import org.adeniuobesu.resumegenerator.core.models.Resume;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of {@link ResumeValidator#validate} on a valid resume. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    @Param({"SMALL", "TYPICAL", "HUGE"})
+    public ResumeFixtures.Size size;
+
+    private final ResumeValidator validator = new ResumeValidator();
+    private Resume resume;
+
+    @Setup
+    public void setUp() {
+        resume = ResumeMapper.toDomain(ResumeFixtures.create(size));
+    }
+
+    @Benchmark
+    public Resume validate() {
+        validator.validate(resume);
+        return resume;
+    }
+}
@@ -0,0 +1,322 @@
+package org.adeniuobesu.resumegenerator.adapters.cache;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed {@link RenderCache} in a local directory.
+ * <p>
+ * Resumes are fingerprinted with SHA-256 over a canonical JSON form (properties
+ * sorted by name), and each rendering is stored under a hash of that fingerprint
+ * and the rendering id. Entries are written to a temporary file and renamed into
+ * place, so several processes can share one directory and readers never see a
+ * partial entry. Hits refresh the entry's modification time; when the directory
+ * grows past its bound, the least recently used entries are deleted.
+ */
+public final class DiskRenderCache implements RenderCache {
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final String TEMP_PREFIX = "entry-";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int FAN_OUT_CHARS = 2;
+    private static final int SCAN_DEPTH = 2;
+    private static final double EVICTION_TARGET = 0.9;
+    private static final Duration STALE_TEMP_AGE = Duration.ofHours(1);
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ObjectMapper canonicalMapper = JsonMapper.builder()
+        .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .build();
+    private final AtomicLong approximateSize = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public DiskRenderCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        approximateSize.set(scanEntries().stream().mapToLong(CachedFile::size).sum());
+    }
+
+    @Override
+    public String fingerprint(ResumeDto resume) {
+        MessageDigest digest = sha256();
+        try (OutputStream sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            canonicalMapper.writeValue(sink, resume);
+        } catch (IOException e) {
+            throw new AdapterException("Failed to fingerprint resume for the render cache", e);
+        }
+        return HEX.formatHex(digest.digest());
+    }
+
+    @Override
+    public boolean copyTo(String fingerprint, String renderingId, OutputStream os) {
+        Path entry = entryPath(fingerprint, renderingId);
+        InputStream in;
+        try {
+            in = Files.newInputStream(entry);
+        } catch (IOException e) {
+            // Absent, or evicted by another worker since: either way a miss
+            misses.increment();
+            return false;
+        }
+
+        try (in) {
+            in.transferTo(os);
+        } catch (IOException e) {
+            throw new OutputProcessingException("render cache entry " + entry, e);
+        }
+        hits.increment();
+        touch(entry);
+        return true;
+    }
+
+    @Override
+    public Recording record(String fingerprint, String renderingId, OutputStream target) {
+        return new DiskRecording(entryPath(fingerprint, renderingId), target);
+    }
+
+    public RenderCacheStats stats() {
+        return new RenderCacheStats(hits.sum(), misses.sum(), stores.sum(), evictions.sum());
+    }
+
+    private Path entryPath(String fingerprint, String renderingId) {
+        MessageDigest digest = sha256();
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(renderingId.getBytes(StandardCharsets.UTF_8));
+        String key = HEX.formatHex(digest.digest());
+        return directory.resolve(key.substring(0, FAN_OUT_CHARS)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    private void stored(long size) {
+        stores.increment();
+        if (approximateSize.addAndGet(size) > maxBytes) {
+            evict();
+        }
+    }
+
+    // One evicting thread at a time; the others keep rendering
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<CachedFile> entries = scanEntries();
+            entries.sort(Comparator.comparing(CachedFile::lastModified));
+            long total = entries.stream().mapToLong(CachedFile::size).sum();
+            long target = (long) (maxBytes * EVICTION_TARGET);
+            for (CachedFile entry : entries) {
+                if (total <= target) {
+                    break;
+                }
+                try {
+                    if (Files.deleteIfExists(entry.path())) {
+                        evictions.increment();
+                    }
+                    total -= entry.size();
+                } catch (IOException ignored) {
+                    // Still in use or already gone; the next eviction retries
+                }
+            }
+            approximateSize.set(total);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** Lists the entries and deletes temporary files left behind by crashed writers. */
+    private List<CachedFile> scanEntries() {
+        List<CachedFile> entries = new ArrayList<>();
+        Instant staleBefore = Instant.now().minus(STALE_TEMP_AGE);
+        try (Stream<Path> files = Files.walk(directory, SCAN_DEPTH)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    if (!attributes.isRegularFile()) {
+                        return;
+                    }
+                    if (name.endsWith(ENTRY_SUFFIX)) {
+                        entries.add(new CachedFile(file, attributes.size(), attributes.lastModifiedTime()));
+                    } else if (name.endsWith(TEMP_SUFFIX)
+                            && attributes.lastModifiedTime().toInstant().isBefore(staleBefore)) {
+                        Files.deleteIfExists(file);
+                    }
+                } catch (IOException ignored) {
+                    // Removed concurrently by another worker
+                }
+            });
+        } catch (IOException | UncheckedIOException ignored) {
+            // A partial listing only makes eviction less precise
+        }
+        return entries;
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (IOException ignored) {
+            // Evicted right after the read; nothing to refresh
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+        }
+    }
+
+    private record CachedFile(Path path, long size, FileTime lastModified) {}
+
+    /**
+     * Writes through to the target and into a temporary file. A failure on the
+     * cache side only disables the recording; the target keeps receiving bytes.
+     */
+    private final class DiskRecording extends OutputStream implements Recording {
+        private final Path entry;
+        private final OutputStream target;
+        private Path temp;
+        private OutputStream file;
+        private long size;
+
+        DiskRecording(Path entry, OutputStream target) {
+            this.entry = entry;
+            this.target = target;
+            try {
+                Files.createDirectories(entry.getParent());
+                temp = Files.createTempFile(entry.getParent(), TEMP_PREFIX, TEMP_SUFFIX);
+                file = new BufferedOutputStream(Files.newOutputStream(temp));
+            } catch (IOException e) {
+                abandon();
+            }
+        }
+
+        @Override
+        public OutputStream stream() {
+            return this;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            if (file != null) {
+                try {
+                    file.write(b);
+                    size++;
+                } catch (IOException e) {
+                    abandon();
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+            if (file != null) {
+                try {
+                    file.write(b, off, len);
+                    size += len;
+                } catch (IOException e) {
+                    abandon();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        // Exporters that close their stream close the target, as without a cache
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+
+        @Override
+        public void commit() {
+            if (file == null) {
+                return;
+            }
+            try {
+                file.close();
+                file = null;
+                try {
+                    Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+                stored(size);
+            } catch (IOException e) {
+                abandon();
+            }
+        }
+
+        @Override
+        public void discard() {
+            abandon();
+        }
+
+        private void abandon() {
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException ignored) {
+                    // The temporary file is deleted below
+                }
+                file = null;
+            }
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Swept by a later scan once stale
+                }
+            }
+        }
+    }
+}
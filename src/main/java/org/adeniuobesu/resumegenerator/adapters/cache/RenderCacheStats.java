@@ -0,0 +1,11 @@
+package org.adeniuobesu.resumegenerator.adapters.cache;
+
+/**
+ * Counters of one {@link DiskRenderCache} since it was opened.
+ *
+ * @param hits Renderings served from disk
+ * @param misses Renderings that had to be produced
+ * @param stores Renderings written to disk
+ * @param evictions Entries deleted to stay under the size bound
+ */
+public record RenderCacheStats(long hits, long misses, long stores, long evictions) {}
@@ -0,0 +1,11 @@
+package org.adeniuobesu.resumegenerator.adapters.exceptions;
+
+public class SnapshotFormatException extends AdapterException {
+    public SnapshotFormatException(String details) {
+        super(String.format("Invalid resume snapshot: %s", details));
+    }
+
+    public SnapshotFormatException(String details, Throwable cause) {
+        super(String.format("Invalid resume snapshot: %s", details), cause);
+    }
+}
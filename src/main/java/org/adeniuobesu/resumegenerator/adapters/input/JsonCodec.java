@@ -0,0 +1,116 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.adapters.input.ResumeJsonReader.UnknownShapeException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Parses resume JSON: the streaming {@link ResumeJsonReader} first, and a prebuilt
+ * {@link ObjectReader} for {@link ResumeDto} for any input the streaming reader does not
+ * recognise. The streaming reader only knows databind's default configuration, so a
+ * codec built on a caller-configured mapper reads through that mapper alone.
+ * <p>
+ * A codec is immutable and thread-safe. Databind builds its deserializers on first use
+ * and caches them in the mapper, so one codec should serve the whole process:
+ * {@link #shared()} does, and {@link #warmUp()} moves that first-use cost to startup.
+ * The shared codec registers the Blackbird module, which replaces databind's reflective
+ * constructor calls with generated ones.
+ */
+public final class JsonCodec {
+    private static final String WARM_UP_RESOURCE = "/samples/resume.json";
+    private static final int WARM_UP_ROUNDS = 200;
+
+    private static volatile JsonCodec shared;
+
+    private final JsonFactory factory;
+    private final ObjectReader reader;
+    private final boolean streaming;
+
+    public JsonCodec(boolean bytecodeModule) {
+        this(bytecodeModule ? new ObjectMapper().registerModule(new BlackbirdModule()) : new ObjectMapper(), true);
+    }
+
+    /**
+     * Reads through a caller-configured mapper only: its naming strategy, mix-ins and
+     * features apply to every document, which the streaming reader would ignore.
+     */
+    public JsonCodec(ObjectMapper objectMapper) {
+        this(objectMapper, false);
+    }
+
+    private JsonCodec(ObjectMapper objectMapper, boolean streaming) {
+        this.factory = objectMapper.getFactory();
+        this.reader = objectMapper.readerFor(ResumeDto.class);
+        this.streaming = streaming;
+    }
+
+    public static JsonCodec shared() {
+        JsonCodec codec = shared;
+        if (codec == null) {
+            synchronized (JsonCodec.class) {
+                codec = shared;
+                if (codec == null) {
+                    codec = new JsonCodec(true);
+                    shared = codec;
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * Parses the bundled sample resume through both paths, so that the deserializers
+     * are built and the parsing code is compiled before the first real input arrives.
+     */
+    public void warmUp() {
+        byte[] sample;
+        try (InputStream in = JsonCodec.class.getResourceAsStream(WARM_UP_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Bundled sample resume is missing: " + WARM_UP_RESOURCE);
+            }
+            sample = in.readAllBytes();
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                read(sample);
+                readDatabind(sample);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to warm up the JSON codec", e);
+        }
+    }
+
+    ResumeDto read(byte[] json) throws IOException {
+        if (!streaming) {
+            return readDatabind(json);
+        }
+        try (JsonParser parser = factory.createParser(json)) {
+            return ResumeJsonReader.read(parser);
+        } catch (UnknownShapeException | IOException e) {
+            return readDatabind(json);
+        }
+    }
+
+    /** Parses the remaining bytes of {@code json} in place, leaving its position untouched. */
+    ResumeDto read(ByteBuffer json) throws IOException {
+        if (!streaming) {
+            return reader.readValue(new ByteBufferBackedInputStream(json.duplicate()));
+        }
+        try (JsonParser parser = factory.createParser(new ByteBufferBackedInputStream(json.duplicate()))) {
+            return ResumeJsonReader.read(parser);
+        } catch (UnknownShapeException | IOException e) {
+            return reader.readValue(new ByteBufferBackedInputStream(json.duplicate()));
+        }
+    }
+
+    ResumeDto readDatabind(byte[] json) throws IOException {
+        return reader.readValue(json);
+    }
+}
@@ -4,24 +4,34 @@ import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
 import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
 import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
 import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * Reads a {@link ResumeDto} through a {@link JsonCodec}: the streaming
+ * {@link ResumeJsonReader}, falling back to databind on the same bytes for any input the
+ * streaming reader does not recognise, so both paths accept and reject exactly the same
+ * documents.
+ */
 public class JsonInputStrategy implements InputStrategy<ResumeDto> {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonCodec codec;
     private final InputStream inputStream;
 
     public JsonInputStrategy(InputStream inputStream) {
+        this(inputStream, JsonCodec.shared());
+    }
+
+    public JsonInputStrategy(InputStream inputStream, JsonCodec codec) {
         this.inputStream = inputStream;
+        this.codec = codec;
     }
 
     @Override
     public ResumeDto collectData() throws InputProcessingException {
         try {
-            return objectMapper.readValue(inputStream, ResumeDto.class);
+            return codec.read(inputStream.readAllBytes());
         } catch (IOException e) {
             throw new JsonInputException("Failed to parse JSON input", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,296 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads an NDJSON file through memory-mapped segments instead of buffered reads, for
+ * multi-gigabyte exports.
+ * <p>
+ * The file is mapped {@link #SEGMENT_BYTES} at a time, each segment cut after its last
+ * newline so that no record straddles two segments. A record is a view of its line
+ * inside the segment: no bytes are copied onto the heap before Jackson reads them,
+ * whichever thread collects the record. Every record holds a reference on its segment,
+ * as does the reader until it moves past it, and the segment is unmapped as soon as the
+ * last reference is released rather than whenever the collector gets to it. A record
+ * that is never collected keeps its segment mapped until it is garbage collected.
+ * <p>
+ * Lines, blank lines and positions are handled as in {@link NdjsonInputStrategy}. The
+ * file is opened by {@link #records()} and closed with the stream.
+ */
+public class MappedNdjsonInputStrategy implements StreamingInputStrategy<ResumeDto> {
+    static final long SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private final Path path;
+    private final JsonCodec codec;
+    private final long segmentBytes;
+
+    public MappedNdjsonInputStrategy(Path path) {
+        this(path, JsonCodec.shared());
+    }
+
+    public MappedNdjsonInputStrategy(Path path, JsonCodec codec) {
+        this(path, codec, SEGMENT_BYTES);
+    }
+
+    MappedNdjsonInputStrategy(Path path, JsonCodec codec, long segmentBytes) {
+        this.path = path;
+        this.codec = codec;
+        this.segmentBytes = segmentBytes;
+    }
+
+    @Override
+    public Stream<Record<ResumeDto>> records() throws InputProcessingException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new InputProcessingException(path.toString(), e);
+        }
+        LineIterator lines = new LineIterator(channel);
+        Spliterator<Record<ResumeDto>> records = Spliterators.spliteratorUnknownSize(
+            lines, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(records, false).onClose(lines::close);
+    }
+
+    /** A mapped region of the file, unmapped when its last reference is released. */
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int limit;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private Segment(MappedByteBuffer buffer, int limit) {
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                Unmapper.unmap(buffer);
+            }
+        }
+    }
+
+    private final class Line implements Record<ResumeDto> {
+        private final long number;
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+        private final AtomicBoolean collected = new AtomicBoolean();
+
+        private Line(long number, Segment segment, int offset, int length) {
+            this.number = number;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public long position() {
+            return number;
+        }
+
+        @Override
+        public ResumeDto collectData() {
+            if (!collected.compareAndSet(false, true)) {
+                throw new IllegalStateException("Record at line " + number + " was already collected");
+            }
+            try {
+                return codec.read(segment.buffer.slice(offset, length));
+            } catch (IOException e) {
+                throw new JsonInputException("line " + number, e);
+            } finally {
+                segment.release();
+            }
+        }
+    }
+
+    private final class LineIterator implements Iterator<Record<ResumeDto>> {
+        private final FileChannel channel;
+        private long mapped;
+        private Segment segment;
+        private int position;
+        private long lineNumber;
+        private Line next;
+        private boolean exhausted;
+
+        private LineIterator(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = readRecord();
+                exhausted = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Record<ResumeDto> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Line record = next;
+            next = null;
+            return record;
+        }
+
+        private Line readRecord() {
+            try {
+                while (segment != null || nextSegment()) {
+                    if (position == segment.limit) {
+                        if (!nextSegment()) {
+                            return null;
+                        }
+                        continue;
+                    }
+                    ByteBuffer buffer = segment.buffer;
+                    int start = position;
+                    int end = start;
+                    while (end < segment.limit && buffer.get(end) != '\n') {
+                        end++;
+                    }
+                    position = Math.min(end + 1, segment.limit);
+                    lineNumber++;
+                    if (end > start && buffer.get(end - 1) == '\r') {
+                        end--;
+                    }
+                    if (!isBlank(buffer, start, end)) {
+                        segment.retain();
+                        return new Line(lineNumber, segment, start, end - start);
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** Releases the current segment and maps the next one, if any. */
+        private boolean nextSegment() throws IOException {
+            if (segment != null) {
+                segment.release();
+                segment = null;
+            }
+            long size = channel.size();
+            if (mapped >= size) {
+                return false;
+            }
+            long length = Math.min(segmentBytes, size - mapped);
+            while (true) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+                int limit = (int) length;
+                if (mapped + length < size) {
+                    limit = lastNewline(buffer, limit) + 1;
+                }
+                if (limit > 0 || length >= Integer.MAX_VALUE || mapped + length == size) {
+                    segment = new Segment(buffer, limit > 0 ? limit : (int) length);
+                    mapped += segment.limit;
+                    position = 0;
+                    return true;
+                }
+                // A single line longer than the segment; map more of it
+                Unmapper.unmap(buffer);
+                length = Math.min(Math.min(2 * length, size - mapped), Integer.MAX_VALUE);
+            }
+        }
+
+        private void close() {
+            if (segment != null) {
+                segment.release();
+                segment = null;
+            }
+            exhausted = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static int lastNewline(ByteBuffer buffer, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unmaps buffers through {@code sun.misc.Unsafe#invokeCleaner}, which the JDK exports
+     * for exactly this purpose. Where it is unavailable the buffer is left to the garbage
+     * collector, as it would be without this class.
+     */
+    private static final class Unmapper {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                unsafe = null;
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        private Unmapper() {
+        }
+
+        static void unmap(MappedByteBuffer buffer) {
+            if (INVOKE_CLEANER == null) {
+                return;
+            }
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // Left to the garbage collector
+            }
+        }
+    }
+}
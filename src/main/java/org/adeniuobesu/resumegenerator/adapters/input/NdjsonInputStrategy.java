@@ -0,0 +1,185 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads newline-delimited JSON, one resume per line, as a stream of records.
+ * <p>
+ * Lines are split on raw bytes, which is safe for UTF-8 since a newline byte never
+ * occurs inside a multi-byte character, and each record keeps only its own line. The
+ * JSON of a record is parsed when it is collected, like {@link JsonInputStrategy} and
+ * through one {@link JsonCodec}, so a sequential consumer runs in constant memory however
+ * long the input is. A parallel stream splits the input into batches of whole lines
+ * and parses them on the common pool. Blank lines are skipped but still counted, so a
+ * record's {@link Record#position() position} is its line number.
+ */
+public class NdjsonInputStrategy implements StreamingInputStrategy<ResumeDto> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JsonCodec codec;
+    private final InputStream inputStream;
+
+    public NdjsonInputStrategy(InputStream inputStream) {
+        this(inputStream, JsonCodec.shared());
+    }
+
+    public NdjsonInputStrategy(InputStream inputStream, JsonCodec codec) {
+        this.inputStream = inputStream;
+        this.codec = codec;
+    }
+
+    @Override
+    public Stream<Record<ResumeDto>> records() {
+        Spliterator<Record<ResumeDto>> lines = Spliterators.spliteratorUnknownSize(
+            new LineIterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(lines, false).onClose(this::closeInput);
+    }
+
+    private void closeInput() {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final class Line implements Record<ResumeDto> {
+        private final long number;
+        private final byte[] json;
+
+        private Line(long number, byte[] json) {
+            this.number = number;
+            this.json = json;
+        }
+
+        @Override
+        public long position() {
+            return number;
+        }
+
+        @Override
+        public ResumeDto collectData() {
+            try {
+                return codec.read(json);
+            } catch (IOException e) {
+                throw new JsonInputException("line " + number, e);
+            }
+        }
+    }
+
+    private final class LineIterator implements Iterator<Record<ResumeDto>> {
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long lineNumber;
+        private Line next;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = readRecord();
+                exhausted = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Record<ResumeDto> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Line record = next;
+            next = null;
+            return record;
+        }
+
+        private Line readRecord() {
+            try {
+                byte[] line;
+                while ((line = readLine()) != null) {
+                    lineNumber++;
+                    if (!isBlank(line)) {
+                        return new Line(lineNumber, line);
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /** The next line without its terminator, or {@code null} at the end of the input. */
+        private byte[] readLine() throws IOException {
+            ByteArrayOutputStream spanning = null;
+            while (true) {
+                if (position == limit && !fill()) {
+                    return spanning == null ? null : stripCarriageReturn(spanning.toByteArray());
+                }
+                int end = indexOfNewline();
+                if (end >= 0) {
+                    byte[] line;
+                    if (spanning == null) {
+                        line = Arrays.copyOfRange(buffer, position, end);
+                    } else {
+                        spanning.write(buffer, position, end - position);
+                        line = spanning.toByteArray();
+                    }
+                    position = end + 1;
+                    return stripCarriageReturn(line);
+                }
+                if (spanning == null) {
+                    spanning = new ByteArrayOutputStream(2 * (limit - position));
+                }
+                spanning.write(buffer, position, limit - position);
+                position = limit;
+            }
+        }
+
+        private boolean fill() throws IOException {
+            int read;
+            do {
+                read = inputStream.read(buffer);
+            } while (read == 0);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        }
+
+        private int indexOfNewline() {
+            for (int i = position; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static byte[] stripCarriageReturn(byte[] line) {
+        int length = line.length;
+        return length > 0 && line[length - 1] == '\r' ? Arrays.copyOf(line, length - 1) : line;
+    }
+
+    private static boolean isBlank(byte[] line) {
+        for (byte b : line) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,262 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a {@link ResumeDto} and its nested records straight from Jackson's token
+ * stream, without databind's bean introspection or intermediate trees.
+ * <p>
+ * The reader only accepts input that databind would map the same way: known property
+ * names, a string or {@code null} for every text property, an array or {@code null}
+ * for every list, and the exact constant name for every enum. Anything else, such as
+ * an unknown property, a number where text is expected or an enum given by index,
+ * throws {@link UnknownShapeException} so that the caller can hand the same bytes to
+ * databind and keep its coercions and error messages.
+ */
+final class ResumeJsonReader {
+
+    /** The input is valid JSON, or may be, but not in the shape this reader knows. */
+    static final class UnknownShapeException extends Exception {
+        private UnknownShapeException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final UnknownShapeException UNKNOWN_SHAPE = new UnknownShapeException();
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        /** Reads the value starting at the parser's current token. */
+        T read(JsonParser parser) throws IOException, UnknownShapeException;
+    }
+
+    private ResumeJsonReader() {
+    }
+
+    static ResumeDto read(JsonParser parser) throws IOException, UnknownShapeException {
+        String fullName = null;
+        String professionalTitle = null;
+        String professionalSummary = null;
+        List<ContactMethodDto> contactMethods = null;
+        List<String> softSkills = null;
+        List<WorkExperienceDto> workExperiences = null;
+        List<EducationDto> educationHistory = null;
+        List<SkillCategoryDto> skillCategories = null;
+        List<HobbyDto> hobbies = null;
+        List<LanguageDto> languages = null;
+
+        startObject(parser.nextToken());
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "fullName" -> fullName = text(parser);
+                case "professionalTitle" -> professionalTitle = text(parser);
+                case "professionalSummary" -> professionalSummary = text(parser);
+                case "contactMethods" -> contactMethods = list(parser, ResumeJsonReader::contactMethod);
+                case "softSkills" -> softSkills = list(parser, ResumeJsonReader::text);
+                case "workExperiences" -> workExperiences = list(parser, ResumeJsonReader::workExperience);
+                case "educationHistory" -> educationHistory = list(parser, ResumeJsonReader::education);
+                case "skillCategories" -> skillCategories = list(parser, ResumeJsonReader::skillCategory);
+                case "hobbies" -> hobbies = list(parser, ResumeJsonReader::hobby);
+                case "languages" -> languages = list(parser, ResumeJsonReader::language);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new ResumeDto(fullName, professionalTitle, professionalSummary, contactMethods, softSkills,
+            workExperiences, educationHistory, skillCategories, hobbies, languages);
+    }
+
+    private static ContactMethodDto contactMethod(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        ContactTypeDto type = null;
+        String value = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "type" -> type = constant(parser, ContactTypeDto.class);
+                case "value" -> value = text(parser);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new ContactMethodDto(type, value);
+    }
+
+    private static WorkExperienceDto workExperience(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        String companyName = null;
+        String jobTitle = null;
+        String startDate = null;
+        String endDate = null;
+        List<String> keyAchievements = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "companyName" -> companyName = text(parser);
+                case "jobTitle" -> jobTitle = text(parser);
+                case "startDate" -> startDate = text(parser);
+                case "endDate" -> endDate = text(parser);
+                case "keyAchievements" -> keyAchievements = list(parser, ResumeJsonReader::text);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new WorkExperienceDto(companyName, jobTitle, startDate, endDate, keyAchievements);
+    }
+
+    private static EducationDto education(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        String institutionName = null;
+        String degree = null;
+        String fieldOfStudy = null;
+        String startDate = null;
+        String endDate = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "institutionName" -> institutionName = text(parser);
+                case "degree" -> degree = text(parser);
+                case "fieldOfStudy" -> fieldOfStudy = text(parser);
+                case "startDate" -> startDate = text(parser);
+                case "endDate" -> endDate = text(parser);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new EducationDto(institutionName, degree, fieldOfStudy, startDate, endDate);
+    }
+
+    private static SkillCategoryDto skillCategory(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        String categoryName = null;
+        List<String> skills = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "categoryName" -> categoryName = text(parser);
+                case "skills" -> skills = list(parser, ResumeJsonReader::text);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new SkillCategoryDto(categoryName, skills);
+    }
+
+    private static HobbyDto hobby(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        String name = null;
+        String description = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = text(parser);
+                case "description" -> description = text(parser);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new HobbyDto(name, description);
+    }
+
+    private static LanguageDto language(JsonParser parser) throws IOException, UnknownShapeException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        startObject(parser.currentToken());
+        String language = null;
+        LanguageProficiencyDto proficiency = null;
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "language" -> language = text(parser);
+                case "proficiency" -> proficiency = constant(parser, LanguageProficiencyDto.class);
+                default -> throw UNKNOWN_SHAPE;
+            }
+        }
+        endObject(parser.currentToken());
+        return new LanguageDto(language, proficiency);
+    }
+
+    private static String text(JsonParser parser) throws IOException, UnknownShapeException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw UNKNOWN_SHAPE;
+    }
+
+    private static <E extends Enum<E>> E constant(JsonParser parser, Class<E> type)
+            throws IOException, UnknownShapeException {
+        String name = text(parser);
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw UNKNOWN_SHAPE;
+        }
+    }
+
+    private static <T> List<T> list(JsonParser parser, ValueReader<T> element) throws IOException, UnknownShapeException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw UNKNOWN_SHAPE;
+        }
+        List<T> values = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw UNKNOWN_SHAPE;
+            }
+            values.add(element.read(parser));
+        }
+        return values;
+    }
+
+    private static void startObject(JsonToken token) throws UnknownShapeException {
+        if (token != JsonToken.START_OBJECT) {
+            throw UNKNOWN_SHAPE;
+        }
+    }
+
+    private static void endObject(JsonToken token) throws UnknownShapeException {
+        if (token != JsonToken.END_OBJECT) {
+            throw UNKNOWN_SHAPE;
+        }
+    }
+}
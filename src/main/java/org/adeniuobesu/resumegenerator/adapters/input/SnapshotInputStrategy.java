@@ -0,0 +1,30 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.SnapshotFormatException;
+import org.adeniuobesu.resumegenerator.adapters.snapshot.ResumeSnapshot;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a {@link ResumeDto} from a binary {@link ResumeSnapshot}, as written by the
+ * {@code SNAPSHOT} output format.
+ */
+public class SnapshotInputStrategy implements InputStrategy<ResumeDto> {
+    private final InputStream inputStream;
+
+    public SnapshotInputStrategy(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    public ResumeDto collectData() throws InputProcessingException {
+        try {
+            return ResumeSnapshot.decode(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new SnapshotFormatException("failed to read input", e);
+        }
+    }
+}
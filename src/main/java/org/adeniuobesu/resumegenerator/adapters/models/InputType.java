@@ -3,4 +3,6 @@ package org.adeniuobesu.resumegenerator.adapters.models;
 public enum InputType {
     CLI,
     JSON,
+    NDJSON,
+    SNAPSHOT,
 }
@@ -5,4 +5,5 @@ public enum OutputType {
     HTML,
     MARKDOWN,
     TEXT,
+    SNAPSHOT,
 }
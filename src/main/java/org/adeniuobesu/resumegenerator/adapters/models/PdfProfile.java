@@ -0,0 +1,30 @@
+package org.adeniuobesu.resumegenerator.adapters.models;
+
+import java.util.zip.Deflater;
+
+public enum PdfProfile {
+    // Smallest files: strongest Flate level, objects packed into compressed object streams
+    SIZE(Deflater.BEST_COMPRESSION, true),
+    // PDFBox defaults: default Flate level with compressed object streams (default)
+    BALANCED(Deflater.DEFAULT_COMPRESSION, true),
+    // Fastest save: fastest Flate level, plain objects and a classic cross-reference table
+    SPEED(Deflater.BEST_SPEED, false);
+
+    private final int deflateLevel;
+    private final boolean objectStreams;
+
+    PdfProfile(int deflateLevel, boolean objectStreams) {
+        this.deflateLevel = deflateLevel;
+        this.objectStreams = objectStreams;
+    }
+
+    /** {@link Deflater} level for page content streams. */
+    public int deflateLevel() {
+        return deflateLevel;
+    }
+
+    /** Whether objects go into compressed object streams indexed by a cross-reference stream. */
+    public boolean objectStreams() {
+        return objectStreams;
+    }
+}
@@ -0,0 +1,43 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Direct buffers reused across renders. Allocating a direct buffer is slow and its
+ * memory is only reclaimed with the buffer object, so renders borrow one here and give
+ * it back. At most {@code retained} buffers are kept; a render that finds none idle
+ * allocates its own, which is dropped on release if the pool is full.
+ */
+final class DirectBufferPool {
+    static final DirectBufferPool SHARED = new DirectBufferPool(64 * 1024, 16);
+
+    private final int bufferSize;
+    private final int retained;
+    private final ConcurrentLinkedQueue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    DirectBufferPool(int bufferSize, int retained) {
+        this.bufferSize = bufferSize;
+        this.retained = retained;
+    }
+
+    /** A cleared buffer of {@code bufferSize} bytes, to be given back with {@link #release}. */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        idleCount.decrementAndGet();
+        return buffer;
+    }
+
+    void release(ByteBuffer buffer) {
+        if (idleCount.incrementAndGet() <= retained) {
+            idle.offer(buffer.clear());
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
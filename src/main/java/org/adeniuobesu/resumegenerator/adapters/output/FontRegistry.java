@@ -0,0 +1,210 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TTFSubsetter;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide set of parsed TrueType fonts for {@link PdfExporter}.
+ * <p>
+ * Each font file is read and parsed once per JVM. Documents share the parsed
+ * {@link TrueTypeFont} and only wrap it in their own {@link PDType0Font}, which is
+ * embedded as a subset holding just the glyphs that document uses. FontBox reads
+ * font tables lazily behind locks; they are all read here, up front, so concurrent
+ * renders find them ready.
+ * <p>
+ * The bundled family is DejaVu Sans. PDFBox builds the width array of every glyph in
+ * the font each time a document loads it, before subsetting, so the registry first
+ * cuts each file down to the {@link #REPERTOIRE} a resume needs: Latin, Greek and
+ * Cyrillic with their punctuation and symbols, about a third of DejaVu's glyphs.
+ * There is no oblique file in the bundle; {@link Face#OBLIQUE} slants the regular
+ * glyphs instead.
+ */
+final class FontRegistry {
+    private static final String REGULAR_RESOURCE = "/fonts/DejaVuSans.ttf";
+    private static final String BOLD_RESOURCE = "/fonts/DejaVuSans-Bold.ttf";
+    private static final float OBLIQUE_SLANT = 0.2126f; // tan(12°)
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+    // Inclusive code point ranges kept from the bundled fonts
+    private static final int[][] REPERTOIRE = {
+        {0x0020, 0x007E}, // Basic Latin
+        {0x00A0, 0x024F}, // Latin-1 Supplement, Latin Extended-A and -B
+        {0x0250, 0x036F}, // IPA extensions, spacing modifiers, combining diacritics
+        {0x0370, 0x03FF}, // Greek and Coptic
+        {0x0400, 0x052F}, // Cyrillic and Cyrillic Supplement
+        {0x1E00, 0x1EFF}, // Latin Extended Additional
+        {0x2000, 0x206F}, // General Punctuation
+        {0x20A0, 0x20CF}, // Currency Symbols
+        {0x2100, 0x214F}, // Letterlike Symbols
+        {0x2190, 0x21FF}, // Arrows
+        {0x25A0, 0x25FF}, // Geometric Shapes
+        {0x2700, 0x27BF}, // Dingbats
+        {REPLACEMENT_CHARACTER, REPLACEMENT_CHARACTER}
+    };
+
+    // Layout tables such as GSUB are left out: the subsetter copies them unchanged,
+    // so their glyph ids would point into the original font
+    private static final List<String> REDUCED_TABLES = List.of(
+        "head", "hhea", "maxp", "OS/2", "name", "post", "cmap", "hmtx", "loca", "glyf",
+        "cvt ", "fpgm", "prep", "gasp");
+
+    private static volatile FontRegistry shared;
+
+    enum Face {
+        REGULAR, BOLD, OBLIQUE
+    }
+
+    private final Map<Face, TrueTypeFont> fonts = new EnumMap<>(Face.class);
+    private final Map<Face, GlyphAdvances> advances = new EnumMap<>(Face.class);
+
+    private FontRegistry() throws IOException {
+        TrueTypeFont regular = parse(REGULAR_RESOURCE);
+        TrueTypeFont bold = parse(BOLD_RESOURCE);
+        fonts.put(Face.REGULAR, regular);
+        fonts.put(Face.BOLD, bold);
+        fonts.put(Face.OBLIQUE, regular);
+        GlyphAdvances regularAdvances = new GlyphAdvances(regular);
+        advances.put(Face.REGULAR, regularAdvances);
+        advances.put(Face.BOLD, new GlyphAdvances(bold));
+        advances.put(Face.OBLIQUE, regularAdvances);
+    }
+
+    static FontRegistry shared() {
+        FontRegistry registry = shared;
+        if (registry == null) {
+            synchronized (FontRegistry.class) {
+                registry = shared;
+                if (registry == null) {
+                    try {
+                        registry = new FontRegistry();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Failed to load the bundled PDF fonts", e);
+                    }
+                    shared = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Wraps every face in a font bound to {@code document}. Faces backed by the same
+     * font file share one {@link PDType0Font}, and so one embedded subset.
+     */
+    Map<Face, PDFont> embed(PDDocument document) throws IOException {
+        Map<TrueTypeFont, PDFont> embedded = new IdentityHashMap<>();
+        Map<Face, PDFont> faces = new EnumMap<>(Face.class);
+        for (Map.Entry<Face, TrueTypeFont> entry : fonts.entrySet()) {
+            PDFont font = embedded.get(entry.getValue());
+            if (font == null) {
+                font = PDType0Font.load(document, entry.getValue(), true);
+                embedded.put(entry.getValue(), font);
+            }
+            faces.put(entry.getKey(), font);
+        }
+        return faces;
+    }
+
+    /** Horizontal shear to apply to the text matrix, {@code 0} for upright faces. */
+    float slant(Face face) {
+        return face == Face.OBLIQUE ? OBLIQUE_SLANT : 0;
+    }
+
+    /**
+     * Width of {@code text} in thousandths of an em, rounded per glyph exactly as the
+     * width array PDFBox writes for the embedded font. Needs no document, so layout
+     * can be measured before one exists. Expects {@link #displayable} text.
+     */
+    float stringWidth(String text, Face face) {
+        return advances.get(face).width(text, 0, text.length());
+    }
+
+    /** Glyph advance table of {@code face}, for measuring parts of a string without copying them. */
+    GlyphAdvances advances(Face face) {
+        return advances.get(face);
+    }
+
+    /**
+     * Returns {@code text} with every code point the face has no glyph for replaced by
+     * U+FFFD, so a single unsupported character cannot fail the whole document.
+     */
+    String displayable(String text, Face face) {
+        GlyphAdvances glyphs = advances.get(face);
+        int missing = firstMissing(text, glyphs);
+        if (missing < 0) {
+            return text;
+        }
+
+        StringBuilder builder = new StringBuilder(text.length()).append(text, 0, missing);
+        int i = missing;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            builder.appendCodePoint(glyphs.has(codePoint) ? codePoint : REPLACEMENT_CHARACTER);
+            i += Character.charCount(codePoint);
+        }
+        return builder.toString();
+    }
+
+    private static int firstMissing(String text, GlyphAdvances glyphs) {
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (!glyphs.has(codePoint)) {
+                return i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return -1;
+    }
+
+    private static TrueTypeFont parse(String resource) throws IOException {
+        try (InputStream in = FontRegistry.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing font resource: " + resource);
+            }
+            TrueTypeFont font = reduce(new TTFParser().parse(new RandomAccessReadBuffer(in)));
+            readAllTables(font);
+            return font;
+        }
+    }
+
+    private static TrueTypeFont reduce(TrueTypeFont font) throws IOException {
+        TTFSubsetter subsetter = new TTFSubsetter(font, REDUCED_TABLES);
+        for (int[] range : REPERTOIRE) {
+            for (int codePoint = range[0]; codePoint <= range[1]; codePoint++) {
+                subsetter.add(codePoint);
+            }
+        }
+        ByteArrayOutputStream reduced = new ByteArrayOutputStream();
+        subsetter.writeToStream(reduced);
+        return new TTFParser().parse(new RandomAccessReadBuffer(reduced.toByteArray()));
+    }
+
+    private static void readAllTables(TrueTypeFont font) throws IOException {
+        font.getHeader();
+        font.getHorizontalHeader();
+        font.getMaximumProfile();
+        font.getHorizontalMetrics();
+        font.getIndexToLocation();
+        font.getGlyph();
+        font.getCmap();
+        font.getPostScript();
+        font.getNaming();
+        font.getOS2Windows();
+        font.getKerning();
+        font.getGsubData();
+    }
+}
@@ -0,0 +1,69 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.apache.fontbox.ttf.CmapLookup;
+import org.apache.fontbox.ttf.HorizontalMetricsTable;
+import org.apache.fontbox.ttf.TrueTypeFont;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Advance width of every character a font maps, in thousandths of an em, rounded per
+ * glyph exactly as the width array PDFBox writes for the embedded font.
+ * <p>
+ * The table is keyed by {@code char} and built once per font, so measuring a string
+ * costs one array read per character instead of a boxed cmap lookup and a metrics
+ * lookup. It is never written after construction and is shared by every document and
+ * thread. Entries are grouped in pages of 256 characters, and only pages holding at
+ * least one glyph are allocated.
+ */
+final class GlyphAdvances {
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+    private static final float MISSING = -1;
+
+    private final float[][] pages = new float[(Character.MAX_VALUE + 1) >> PAGE_BITS][];
+    private final float notdef;
+
+    GlyphAdvances(TrueTypeFont font) throws IOException {
+        CmapLookup cmap = font.getUnicodeCmapLookup();
+        HorizontalMetricsTable metrics = font.getHorizontalMetrics();
+        float scale = 1000f / font.getUnitsPerEm();
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            int glyphId = Character.isSurrogate((char) c) ? 0 : cmap.getGlyphId(c);
+            if (glyphId > 0) {
+                float[] page = pages[c >> PAGE_BITS];
+                if (page == null) {
+                    page = new float[PAGE_MASK + 1];
+                    Arrays.fill(page, MISSING);
+                    pages[c >> PAGE_BITS] = page;
+                }
+                page[c & PAGE_MASK] = Math.round(metrics.getAdvanceWidth(glyphId) * scale);
+            }
+        }
+        notdef = Math.round(metrics.getAdvanceWidth(0) * scale);
+    }
+
+    /** Whether the font has a glyph for {@code codePoint}. */
+    boolean has(int codePoint) {
+        return codePoint <= Character.MAX_VALUE && lookup((char) codePoint) >= 0;
+    }
+
+    /**
+     * Width of {@code text[start, end)}. Characters without a glyph measure as the
+     * font's {@code .notdef} glyph, which is what PDFBox would draw for them.
+     */
+    float width(CharSequence text, int start, int end) {
+        float width = 0;
+        for (int i = start; i < end; i++) {
+            float advance = lookup(text.charAt(i));
+            width += advance >= 0 ? advance : notdef;
+        }
+        return width;
+    }
+
+    private float lookup(char c) {
+        float[] page = pages[c >> PAGE_BITS];
+        return page == null ? MISSING : page[c & PAGE_MASK];
+    }
+}
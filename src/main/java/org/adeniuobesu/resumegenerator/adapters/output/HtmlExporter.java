@@ -1,34 +1,220 @@
 package org.adeniuobesu.resumegenerator.adapters.output;
 
 import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.HtmlGenerationException;
 import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
 import org.adeniuobesu.resumegenerator.application.dtos.*;
 import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * Renders a resume through an {@link HtmlTemplate}: the bundled layout, compiled once per
+ * process, or a theme template supplied by the user.
+ * <p>
+ * A theme is compiled when the exporter is created, so a broken theme fails at startup.
+ * Its modification time is checked before each render and the theme is compiled again
+ * when it changes, which lets a watch or serve session pick up edits without a restart;
+ * if the new version does not compile, renders fail with its error until it is fixed.
+ * The rendering id carries a digest of the theme source, so cached output rendered with
+ * an earlier version is not reused; a {@link #pinned() pinned} exporter reports the id
+ * of the very version it renders with, even if the file changes in between.
+ * <p>
+ * The bundled stylesheet is the {@code styles} partial. It is inlined into every page by
+ * default; an exporter created without inline styles links to {@code cssFilePath}
+ * instead, where the caller writes {@link #bundledStylesheet} once for all pages.
+ */
 public final class HtmlExporter implements OutputStrategy<ResumeDto> {
-    
+
     private static final OutputType OUTPUT_TYPE = OutputType.HTML;
+    private static final int RENDERING_VERSION = 2;
+    private static final String DEFAULT_TEMPLATE_RESOURCE = "/templates/resume.html";
+    private static final String STYLES_RESOURCE = "/templates/resume.css";
+    private static final HtmlTemplate.Schema<Page> SCHEMA = schema();
+    private static final String DEFAULT_TEMPLATE_SOURCE = readResource(DEFAULT_TEMPLATE_RESOURCE);
+    private static final String STYLES_SOURCE = readResource(STYLES_RESOURCE);
+    private static final String MINIFIED_STYLES_SOURCE = HtmlMinifier.minifyCss(STYLES_SOURCE);
+    private static final Map<String, String> PARTIALS = Map.of("styles", STYLES_SOURCE);
+    private static final Map<String, String> MINIFIED_PARTIALS = Map.of("styles", MINIFIED_STYLES_SOURCE);
+    private static final HtmlTemplate<Page> DEFAULT_TEMPLATE =
+        HtmlTemplate.compile(DEFAULT_TEMPLATE_RESOURCE, DEFAULT_TEMPLATE_SOURCE, SCHEMA, PARTIALS);
+    private static final HtmlTemplate<Page> MINIFIED_DEFAULT_TEMPLATE = HtmlTemplate.compile(
+        DEFAULT_TEMPLATE_RESOURCE, HtmlMinifier.minify(DEFAULT_TEMPLATE_SOURCE), SCHEMA, MINIFIED_PARTIALS);
+
     private final String cssFilePath;
-    
+    private final Path themePath;
+    private final boolean minify;
+    private final boolean inlineStyles;
+    private volatile Theme theme;
+
     public HtmlExporter() {
         this(null);
     }
 
     public HtmlExporter(String cssFilePath) {
+        this(cssFilePath, null);
+    }
+
+    /**
+     * @param themePath Template to render with instead of the bundled layout, or {@code null}
+     * @throws HtmlGenerationException if the theme cannot be read or does not compile
+     */
+    public HtmlExporter(String cssFilePath, Path themePath) {
+        this(cssFilePath, themePath, false);
+    }
+
+    /**
+     * @param minify Whether to strip indentation, comments and CSS whitespace from the
+     *               layout; see {@link HtmlMinifier}
+     */
+    public HtmlExporter(String cssFilePath, Path themePath, boolean minify) {
+        this(cssFilePath, themePath, minify, true);
+    }
+
+    /**
+     * @param inlineStyles Whether each page embeds the bundled stylesheet; without it,
+     *                     pages rely on {@code cssFilePath} alone
+     */
+    public HtmlExporter(String cssFilePath, Path themePath, boolean minify, boolean inlineStyles) {
+        if (!inlineStyles && cssFilePath == null) {
+            throw new IllegalArgumentException("A page without inline styles needs a stylesheet link");
+        }
         this.cssFilePath = cssFilePath;
+        this.themePath = themePath;
+        this.minify = minify;
+        this.inlineStyles = inlineStyles;
+        if (themePath != null) {
+            this.theme = loadTheme();
+        }
+    }
+
+    /**
+     * The bundled stylesheet as a page without inline styles expects it, named after a
+     * digest of its content so that it can be cached for as long as it exists.
+     */
+    public static Stylesheet bundledStylesheet(boolean minified) {
+        String css = minified ? MINIFIED_STYLES_SOURCE : STYLES_SOURCE;
+        return new Stylesheet("resume." + digest(css) + ".css", css.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** The names a theme template can use; see the README for what each one holds. */
+    static HtmlTemplate.Schema<Page> schema() {
+        HtmlTemplate.Schema<String> text = new HtmlTemplate.Schema<String>()
+            .value(".", value -> value);
+
+        HtmlTemplate.Schema<ContactMethodDto> contact = new HtmlTemplate.Schema<ContactMethodDto>()
+            .value("type", method -> String.valueOf(method.type()))
+            .value("value", ContactMethodDto::value)
+            .condition("email", method -> method.type() == ContactTypeDto.EMAIL)
+            .condition("link", method -> method.type() == ContactTypeDto.LINKEDIN
+                || method.type() == ContactTypeDto.GITHUB);
+
+        HtmlTemplate.Schema<WorkExperienceDto> job = new HtmlTemplate.Schema<WorkExperienceDto>()
+            .value("companyName", WorkExperienceDto::companyName)
+            .value("jobTitle", WorkExperienceDto::jobTitle)
+            .value("startDate", WorkExperienceDto::startDate)
+            .value("endDate", WorkExperienceDto::endDate)
+            .list("keyAchievements", WorkExperienceDto::keyAchievements, text);
+
+        HtmlTemplate.Schema<EducationDto> education = new HtmlTemplate.Schema<EducationDto>()
+            .value("institutionName", EducationDto::institutionName)
+            .value("degree", EducationDto::degree)
+            .value("fieldOfStudy", EducationDto::fieldOfStudy)
+            .value("startDate", EducationDto::startDate)
+            .value("endDate", EducationDto::endDate);
+
+        HtmlTemplate.Schema<SkillCategoryDto> skills = new HtmlTemplate.Schema<SkillCategoryDto>()
+            .value("categoryName", SkillCategoryDto::categoryName)
+            .list("skills", SkillCategoryDto::skills, text);
+
+        HtmlTemplate.Schema<LanguageDto> language = new HtmlTemplate.Schema<LanguageDto>()
+            .value("language", LanguageDto::language)
+            .value("proficiency", lang -> lang.proficiency() == null
+                ? null : lang.proficiency().toString().toLowerCase(Locale.ROOT));
+
+        HtmlTemplate.Schema<HobbyDto> hobby = new HtmlTemplate.Schema<HobbyDto>()
+            .value("name", HobbyDto::name)
+            .value("description", HobbyDto::description);
+
+        return new HtmlTemplate.Schema<Page>()
+            .value("stylesheet", Page::stylesheet)
+            .condition("inlineStyles", Page::inlineStyles)
+            .value("fullName", page -> page.resume().fullName())
+            .value("professionalTitle", page -> page.resume().professionalTitle())
+            .value("professionalSummary", page -> page.resume().professionalSummary())
+            .list("contactMethods", page -> page.resume().contactMethods(), contact)
+            .list("workExperiences", page -> page.resume().workExperiences(), job)
+            .list("educationHistory", page -> page.resume().educationHistory(), education)
+            .list("skillCategories", page -> page.resume().skillCategories(), skills)
+            .list("softSkills", page -> page.resume().softSkills(), text)
+            .list("languages", page -> page.resume().languages(), language)
+            .list("hobbies", page -> page.resume().hobbies(), hobby);
+    }
+
+    @Override
+    public String renderingId() {
+        return renderingId(themePath != null ? currentTheme() : null);
+    }
+
+    /** Fixes the theme's current version, which both the rendering id and the output then use. */
+    @Override
+    public OutputStrategy<ResumeDto> pinned() {
+        return themePath != null ? new Pinned(currentTheme()) : this;
     }
 
     @Override
     public void generate(ResumeDto resume, OutputStream outputStream) throws AdapterException {
+        generate(resume, outputStream, template(themePath != null ? currentTheme() : null));
+    }
+
+    /** Writes the page with gathering writes of the layout's own direct buffers. */
+    @Override
+    public void generate(ResumeDto resume, WritableByteChannel channel) throws AdapterException {
+        generate(resume, channel, template(themePath != null ? currentTheme() : null));
+    }
+
+    private String renderingId(Theme theme) {
+        String id = OUTPUT_TYPE + "/" + RENDERING_VERSION;
+        if (cssFilePath != null) {
+            id += ";css=" + cssFilePath;
+        }
+        if (minify) {
+            id += ";minified";
+        }
+        if (!inlineStyles) {
+            id += ";external-styles";
+        }
+        return theme != null ? id + ";theme=" + theme.digest() : id;
+    }
+
+    private void generate(ResumeDto resume, OutputStream outputStream, HtmlTemplate<Page> template) {
+        try {
+            validateInput(resume, outputStream, "Output stream");
+            template.render(new Page(resume, cssFilePath, inlineStyles), outputStream);
+        } catch (IOException e) {
+            throw new AdapterException(
+                "Failed to generate HTML output: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    private void generate(ResumeDto resume, WritableByteChannel channel, HtmlTemplate<Page> template) {
         try {
-            validateInput(resume, outputStream);
-            String html = buildHtml(resume);
-            writeToStream(html, outputStream);
+            validateInput(resume, channel, "Output channel");
+            template.render(new Page(resume, cssFilePath, inlineStyles), channel);
         } catch (IOException e) {
             throw new AdapterException(
                 "Failed to generate HTML output: " + e.getMessage(),
@@ -37,370 +223,110 @@ public final class HtmlExporter implements OutputStrategy<ResumeDto> {
         }
     }
 
-    private void validateInput(ResumeDto resume, OutputStream outputStream) {
+    /** The theme's template, or the bundled layout when {@code theme} is {@code null}. */
+    private HtmlTemplate<Page> template(Theme theme) {
+        return theme != null ? theme.template()
+            : minify ? MINIFIED_DEFAULT_TEMPLATE : DEFAULT_TEMPLATE;
+    }
+
+    private void validateInput(ResumeDto resume, Object target, String targetName) {
         if (resume == null) {
             throw new IllegalArgumentException("Resume cannot be null");
         }
-        if (outputStream == null) {
-            throw new IllegalArgumentException("Output stream cannot be null");
+        if (target == null) {
+            throw new IllegalArgumentException(targetName + " cannot be null");
         }
     }
 
-    private void writeToStream(String html, OutputStream outputStream) throws IOException {
-        outputStream.write(html.getBytes(StandardCharsets.UTF_8));
-        outputStream.flush();
+    /** The theme as compiled from the file's current version. */
+    private Theme currentTheme() {
+        Theme current = theme;
+        if (current.modified().equals(lastModified())) {
+            return current;
+        }
+        synchronized (this) {
+            current = theme;
+            if (!current.modified().equals(lastModified())) {
+                current = loadTheme();
+                theme = current;
+            }
+            return current;
+        }
     }
 
-    private String buildHtml(ResumeDto resume) {
-        return String.format("""
-            <!DOCTYPE html>
-            <html lang="en">
-            <head>
-                <meta charset="UTF-8">
-                <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                <title>%s - Resume</title>
-                %s
-                <style>
-                    %s
-                </style>
-            </head>
-            <body>
-                <div class="resume-container">
-                    <header class="resume-header">
-                        <h1>%s</h1>
-                        <h2>%s</h2>
-                        <p class="summary">%s</p>
-                    </header>
-                    
-                    <div class="resume-body">
-                        <section class="contact-section">
-                            <h3>Contact Information</h3>
-                            <ul class="contact-list">
-                                %s
-                            </ul>
-                        </section>
-                        
-                        <section class="experience-section">
-                            <h3>Professional Experience</h3>
-                            %s
-                        </section>
-                        
-                        <section class="education-section">
-                            <h3>Education</h3>
-                            %s
-                        </section>
-                        
-                        <section class="skills-section">
-                            <h3>Technical Skills</h3>
-                            %s
-                        </section>
-                        
-                        <section class="languages-section">
-                            <h3>Languages</h3>
-                            %s
-                        </section>
-                        
-                        <section class="interests-section">
-                            <h3>Interests</h3>
-                            %s
-                        </section>
-                    </div>
-                </div>
-                
-                <script>
-                    function toggleTheme() {
-                        document.body.classList.toggle('dark-mode');
-                        localStorage.setItem('theme', 
-                            document.body.classList.contains('dark-mode') ? 'dark' : 'light');
-                    }
-                    
-                    // Load saved theme
-                    if (localStorage.getItem('theme') === 'dark') {
-                        document.body.classList.add('dark-mode');
-                    }
-                </script>
-            </body>
-            </html>
-            """,
-            resume.fullName(),
-            getCssLink(),
-            getDefaultCss(),
-            resume.fullName(),
-            resume.professionalTitle(),
-            resume.professionalSummary() != null ? resume.professionalSummary() : "",
-            formatContactMethods(resume.contactMethods()),
-            formatWorkExperiences(resume.workExperiences()),
-            formatEducation(resume.educationHistory()),
-            formatSkills(resume.skillCategories()),
-            formatLanguages(resume.languages()),
-            formatHobbies(resume.hobbies())
-        );
+    private Theme loadTheme() {
+        try {
+            FileTime modified = lastModified();
+            String source = Files.readString(themePath, StandardCharsets.UTF_8);
+            HtmlTemplate<Page> template = HtmlTemplate.compile(
+                themePath.toString(), minify ? HtmlMinifier.minify(source) : source, SCHEMA,
+                minify ? MINIFIED_PARTIALS : PARTIALS);
+            return new Theme(template, modified, digest(source));
+        } catch (IOException e) {
+            throw new HtmlGenerationException("cannot read theme " + themePath, e);
+        }
     }
 
-    private String getCssLink() {
-        return cssFilePath != null ? 
-            String.format("<link rel=\"stylesheet\" href=\"%s\">", cssFilePath) : "";
+    private FileTime lastModified() {
+        try {
+            return Files.getLastModifiedTime(themePath);
+        } catch (IOException e) {
+            throw new HtmlGenerationException("cannot read theme " + themePath, e);
+        }
     }
 
-    private String getDefaultCss() {
-        return """
-            :root {
-                --primary-color: #2c3e50;
-                --secondary-color: #3498db;
-                --text-color: #333;
-                --bg-color: #f9f9f9;
-                --section-bg: #fff;
-                --border-color: #e0e0e0;
-            }
-            
-            .dark-mode {
-                --primary-color: #3498db;
-                --secondary-color: #2c3e50;
-                --text-color: #f0f0f0;
-                --bg-color: #121212;
-                --section-bg: #1e1e1e;
-                --border-color: #444;
-            }
-            
-            body {
-                font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif;
-                line-height: 1.6;
-                color: var(--text-color);
-                background-color: var(--bg-color);
-                margin: 0;
-                padding: 20px;
-                transition: all 0.3s ease;
-            }
-            
-            .resume-container {
-                max-width: 800px;
-                margin: 0 auto;
-                background: var(--section-bg);
-                padding: 30px;
-                box-shadow: 0 0 20px rgba(0,0,0,0.1);
-                border-radius: 8px;
-            }
-            
-            .resume-header {
-                text-align: center;
-                margin-bottom: 30px;
-                border-bottom: 2px solid var(--secondary-color);
-                padding-bottom: 20px;
-            }
-            
-            h1 {
-                color: var(--primary-color);
-                margin-bottom: 5px;
-            }
-            
-            h2 {
-                color: var(--secondary-color);
-                font-weight: normal;
-                margin-top: 0;
-            }
-            
-            h3 {
-                color: var(--primary-color);
-                border-bottom: 1px solid var(--border-color);
-                padding-bottom: 5px;
-            }
-            
-            section {
-                margin-bottom: 25px;
-            }
-            
-            .contact-list {
-                display: flex;
-                flex-wrap: wrap;
-                gap: 15px;
-                list-style: none;
-                padding: 0;
-            }
-            
-            .contact-list li {
-                background: var(--secondary-color);
-                color: white;
-                padding: 5px 10px;
-                border-radius: 4px;
-                font-size: 0.9em;
-            }
-            
-            .job {
-                margin-bottom: 20px;
-            }
-            
-            .job-header {
-                display: flex;
-                justify-content: space-between;
-                margin-bottom: 5px;
-            }
-            
-            .job-title {
-                font-weight: bold;
-                color: var(--primary-color);
-            }
-            
-            .job-date {
-                color: #666;
-            }
-            
-            .achievements {
-                padding-left: 20px;
-            }
-            
-            .achievements li {
-                margin-bottom: 5px;
-            }
-            
-            .skills-container {
-                display: grid;
-                grid-template-columns: repeat(auto-fill, minmax(200px, 1fr));
-                gap: 15px;
-            }
-            
-            .skill-category {
-                margin-bottom: 15px;
-            }
-            
-            .skill-items {
-                display: flex;
-                flex-wrap: wrap;
-                gap: 8px;
-            }
-            
-            .skill-item {
-                background: var(--secondary-color);
-                color: white;
-                padding: 3px 8px;
-                border-radius: 3px;
-                font-size: 0.85em;
-            }
-            
-            .theme-toggle {
-                position: fixed;
-                top: 20px;
-                right: 20px;
-                background: var(--secondary-color);
-                color: white;
-                border: none;
-                padding: 8px 15px;
-                border-radius: 4px;
-                cursor: pointer;
-            }
-            """;
+    private static String digest(String source) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
-    private String formatContactMethods(List<ContactMethodDto> methods) {
-        return methods.stream()
-            .map(m -> String.format("<li><strong>%s:</strong> %s</li>", 
-                m.type(), 
-                m.type() == ContactTypeDto.EMAIL ? 
-                    String.format("<a href=\"mailto:%s\">%s</a>", m.value(), m.value()) :
-                    m.type() == ContactTypeDto.LINKEDIN || m.type() == ContactTypeDto.GITHUB ?
-                    String.format("<a href=\"%s\" target=\"_blank\">%s</a>", m.value(), m.value()) :
-                    m.value()))
-            .collect(Collectors.joining("\n"));
+    static String readResource(String name) {
+        try (InputStream in = HtmlExporter.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Bundled HTML template is missing: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the bundled HTML template", e);
+        }
     }
 
-    private String formatWorkExperiences(List<WorkExperienceDto> experiences) {
-        return experiences.stream()
-            .map(exp -> String.format("""
-                <div class="job">
-                    <div class="job-header">
-                        <span class="job-title">%s</span>
-                        <span class="job-date">%s - %s</span>
-                    </div>
-                    <div class="job-company">%s</div>
-                    <ul class="achievements">
-                        %s
-                    </ul>
-                </div>
-                """,
-                exp.jobTitle(),
-                exp.startDate(),
-                exp.endDate(),
-                exp.companyName(),
-                exp.keyAchievements().stream()
-                    .map(a -> "<li>" + a + "</li>")
-                    .collect(Collectors.joining("\n"))
-            ))
-            .collect(Collectors.joining("\n"));
+    /** What a template renders: the resume, the optional stylesheet link and the styles mode. */
+    record Page(ResumeDto resume, String stylesheet, boolean inlineStyles) {
     }
 
-    private String formatEducation(List<EducationDto> education) {
-        return education.stream()
-            .map(edu -> String.format("""
-                <div class="education">
-                    <div class="education-header">
-                        <span class="degree">%s%s</span>
-                        <span class="education-date">%s - %s</span>
-                    </div>
-                    <div class="institution">%s</div>
-                </div>
-                """,
-                edu.degree(),
-                edu.fieldOfStudy() != null ? " in " + edu.fieldOfStudy() : "",
-                edu.startDate(),
-                edu.endDate(),
-                edu.institutionName()
-            ))
-            .collect(Collectors.joining("\n"));
+    /** A stylesheet file to write next to the pages that link to it. */
+    public record Stylesheet(String fileName, byte[] content) {
     }
 
-    private String formatSkills(List<SkillCategoryDto> skills) {
-        return String.format("""
-            <div class="skills-container">
-                %s
-            </div>
-            """,
-            skills.stream()
-                .map(skill -> String.format("""
-                    <div class="skill-category">
-                        <h4>%s</h4>
-                        <div class="skill-items">
-                            %s
-                        </div>
-                    </div>
-                    """,
-                    skill.categoryName(),
-                    skill.skills().stream()
-                        .map(s -> String.format("<span class=\"skill-item\">%s</span>", s))
-                        .collect(Collectors.joining("\n"))
-                ))
-                .collect(Collectors.joining("\n"))
-        );
+    private record Theme(HtmlTemplate<Page> template, FileTime modified, String digest) {
     }
 
-    private String formatLanguages(List<LanguageDto> languages) {
-        return String.format("""
-            <div class="languages-container">
-                %s
-            </div>
-            """,
-            languages.stream()
-                .map(lang -> String.format("""
-                    <div class="language">
-                        <span class="language-name">%s</span>
-                        <span class="language-proficiency">(%s)</span>
-                    </div>
-                    """,
-                    lang.language(),
-                    lang.proficiency().toString().toLowerCase()
-                ))
-                .collect(Collectors.joining("\n"))
-        );
-    }
+    /** This exporter with one version of its theme. */
+    private final class Pinned implements OutputStrategy<ResumeDto> {
+        private final Theme theme;
+
+        Pinned(Theme theme) {
+            this.theme = theme;
+        }
 
-    private String formatHobbies(List<HobbyDto> hobbies) {
-        return hobbies.stream()
-            .map(hobby -> String.format("""
-                <div class="hobby">
-                    <strong>%s</strong>%s
-                </div>
-                """,
-                hobby.name(),
-                hobby.description() != null ? ": " + hobby.description() : ""
-            ))
-            .collect(Collectors.joining("\n"));
+        @Override
+        public String renderingId() {
+            return HtmlExporter.this.renderingId(theme);
+        }
+
+        @Override
+        public void generate(ResumeDto resume, OutputStream outputStream) {
+            HtmlExporter.this.generate(resume, outputStream, theme.template());
+        }
+
+        @Override
+        public void generate(ResumeDto resume, WritableByteChannel channel) {
+            HtmlExporter.this.generate(resume, channel, theme.template());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Renders one page of an index linking to many resume pages, with links to the pages
+ * before and after it. Page 1 is {@code index.html}, page {@code n} is
+ * {@code index-n.html}, so the index of a site keeps its address whatever its length.
+ */
+public final class HtmlIndexExporter implements OutputStrategy<HtmlIndexExporter.Page> {
+
+    private static final String OUTPUT_TYPE = "HTML-INDEX";
+    private static final int RENDERING_VERSION = 1;
+    private static final String TEMPLATE_RESOURCE = "/templates/index.html";
+    private static final String TEMPLATE_SOURCE = HtmlExporter.readResource(TEMPLATE_RESOURCE);
+    private static final HtmlTemplate.Schema<Page> SCHEMA = schema();
+    private static final HtmlTemplate<Page> TEMPLATE =
+        HtmlTemplate.compile(TEMPLATE_RESOURCE, TEMPLATE_SOURCE, SCHEMA);
+    private static final HtmlTemplate<Page> MINIFIED_TEMPLATE =
+        HtmlTemplate.compile(TEMPLATE_RESOURCE, HtmlMinifier.minify(TEMPLATE_SOURCE), SCHEMA);
+
+    private final boolean minify;
+
+    public HtmlIndexExporter() {
+        this(false);
+    }
+
+    /**
+     * @param minify Whether to strip indentation and CSS whitespace from the layout
+     */
+    public HtmlIndexExporter(boolean minify) {
+        this.minify = minify;
+    }
+
+    /** The file name of page {@code number}, counted from 1. */
+    public static String fileName(int number) {
+        if (number < 1) {
+            throw new IllegalArgumentException("Index pages are counted from 1: " + number);
+        }
+        return number == 1 ? "index.html" : "index-" + number + ".html";
+    }
+
+    private static HtmlTemplate.Schema<Page> schema() {
+        HtmlTemplate.Schema<Entry> entry = new HtmlTemplate.Schema<Entry>()
+            .value("href", Entry::href)
+            .value("fullName", Entry::fullName)
+            .value("professionalTitle", Entry::professionalTitle);
+
+        return new HtmlTemplate.Schema<Page>()
+            .value("number", page -> Integer.toString(page.number()))
+            .value("count", page -> Integer.toString(page.count()))
+            .value("previous", page -> page.number() > 1 ? fileName(page.number() - 1) : null)
+            .value("next", page -> page.number() < page.count() ? fileName(page.number() + 1) : null)
+            .list("entries", Page::entries, entry);
+    }
+
+    @Override
+    public String renderingId() {
+        String id = OUTPUT_TYPE + "/" + RENDERING_VERSION;
+        return minify ? id + ";minified" : id;
+    }
+
+    @Override
+    public void generate(Page page, OutputStream outputStream) throws AdapterException {
+        if (page == null) {
+            throw new IllegalArgumentException("Index page cannot be null");
+        }
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        try {
+            (minify ? MINIFIED_TEMPLATE : TEMPLATE).render(page, outputStream);
+        } catch (IOException e) {
+            throw new AdapterException(
+                "Failed to generate HTML index output: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    /** A link to one resume page, relative to the index. */
+    public record Entry(String href, String fullName, String professionalTitle) {
+    }
+
+    /**
+     * @param number This page's number, counted from 1
+     * @param count  How many pages the index has
+     */
+    public record Page(List<Entry> entries, int number, int count) {
+        public Page {
+            if (number < 1 || number > count) {
+                throw new IllegalArgumentException("Page " + number + " of " + count);
+            }
+            entries = List.copyOf(entries);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import java.util.Locale;
+
+/**
+ * Strips the bytes a browser ignores from an HTML template's source, before the template
+ * is compiled: the minified layout costs nothing per render, and values written into it
+ * are left exactly as they are.
+ * <p>
+ * The rules are conservative, so the page renders the same:
+ * <ul>
+ *   <li>in markup, a whitespace run becomes one newline if it contains one, one space
+ *       otherwise; quoted attribute values are kept as they are</li>
+ *   <li>comments are dropped, except conditional comments</li>
+ *   <li>in {@code <style>}, comments and the whitespace around {@code { } ; , >} and
+ *       after {@code :} are dropped, as is the last {@code ;} of each block</li>
+ *   <li>in {@code <script>}, only indentation is dropped: line breaks are kept, so
+ *       automatic semicolon insertion is unaffected</li>
+ *   <li>{@code <pre>} and {@code <textarea>} are kept as they are</li>
+ * </ul>
+ * Template tags ({@code {{...}}}) are copied unchanged wherever they appear; a partial is
+ * a separate source and is minified on its own.
+ */
+final class HtmlMinifier {
+    private final String source;
+    private final StringBuilder out;
+    private int position;
+
+    private HtmlMinifier(String source) {
+        this.source = source;
+        this.out = new StringBuilder(source.length());
+    }
+
+    static String minify(String source) {
+        HtmlMinifier minifier = new HtmlMinifier(source);
+        minifier.markup();
+        return minifier.out.toString();
+    }
+
+    /** Minifies a stylesheet by the rules applied inside {@code <style>}. */
+    static String minifyCss(String source) {
+        HtmlMinifier minifier = new HtmlMinifier(source);
+        minifier.css();
+        return minifier.out.toString();
+    }
+
+    private void markup() {
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (startsWith("{{")) {
+                templateTag();
+            } else if (startsWith("<!--")) {
+                comment();
+            } else if (c == '<' && position + 1 < source.length() && isTagStart(source.charAt(position + 1))) {
+                String name = tag();
+                switch (name) {
+                    case "style" -> css();
+                    case "script" -> script();
+                    case "pre", "textarea" -> verbatimUntil("</" + name);
+                    default -> {
+                    }
+                }
+            } else if (Character.isWhitespace(c)) {
+                whitespace();
+            } else {
+                out.append(c);
+                position++;
+            }
+        }
+    }
+
+    /** Copies a tag, collapsing whitespace outside quotes, and returns its lower-case name. */
+    private String tag() {
+        int start = position;
+        int outStart = out.length();
+        out.append('<');
+        position++;
+        int nameStart = position;
+        while (position < source.length() && isNameChar(source.charAt(position))) {
+            out.append(source.charAt(position++));
+        }
+        String name = source.substring(nameStart, position).toLowerCase(Locale.ROOT);
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c == '>') {
+                out.append(c);
+                position++;
+                return name;
+            } else if (startsWith("{{")) {
+                templateTag();
+            } else if (c == '"' || c == '\'') {
+                quoted(c);
+            } else if (Character.isWhitespace(c)) {
+                whitespace();
+            } else {
+                out.append(c);
+                position++;
+            }
+        }
+        // An unterminated tag is left for the browser to make sense of
+        out.setLength(outStart);
+        out.append(source, start, position);
+        return name;
+    }
+
+    private void css() {
+        int end = indexOfIgnoreCase("</style", position);
+        boolean pendingSpace = false;
+        while (position < end) {
+            char c = source.charAt(position);
+            if (startsWith("{{")) {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                templateTag();
+            } else if (startsWith("/*")) {
+                int close = source.indexOf("*/", position + 2);
+                position = close < 0 || close + 2 > end ? end : close + 2;
+            } else if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0 && !isCssPunctuation(last(), true);
+                position++;
+            } else {
+                if (c == '}' && last() == ';') {
+                    out.setLength(out.length() - 1);
+                }
+                if (pendingSpace && !isCssPunctuation(c, false)) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+                if (c == '"' || c == '\'') {
+                    quoted(c);
+                } else {
+                    out.append(c);
+                    position++;
+                }
+            }
+        }
+        // Whitespace before the closing tag is dropped with the rest
+    }
+
+    private void script() {
+        int end = indexOfIgnoreCase("</script", position);
+        while (position < end) {
+            char c = source.charAt(position);
+            if (c == '\n' || c == '\r') {
+                // Keep the line break, drop the indentation and blank lines after it
+                while (position < end && Character.isWhitespace(source.charAt(position))) {
+                    position++;
+                }
+                out.append('\n');
+            } else {
+                out.append(c);
+                position++;
+            }
+        }
+    }
+
+    private void comment() {
+        int close = source.indexOf("-->", position + 4);
+        int end = close < 0 ? source.length() : close + 3;
+        if (startsWith("<!--[if")) {
+            out.append(source, position, end);
+        }
+        position = end;
+    }
+
+    private void whitespace() {
+        boolean newline = false;
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            newline |= source.charAt(position) == '\n';
+            position++;
+        }
+        char previous = last();
+        if (previous == '\n' || previous == ' ') {
+            // A dropped comment separated two runs; they collapse into one
+            if (newline && previous == ' ') {
+                out.setCharAt(out.length() - 1, '\n');
+            }
+            return;
+        }
+        out.append(newline ? '\n' : ' ');
+    }
+
+    private void templateTag() {
+        int close = source.indexOf("}}", position + 2);
+        int end = close < 0 ? source.length() : close + 2;
+        out.append(source, position, end);
+        position = end;
+    }
+
+    private void quoted(char quote) {
+        int close = source.indexOf(quote, position + 1);
+        int end = close < 0 ? source.length() : close + 1;
+        out.append(source, position, end);
+        position = end;
+    }
+
+    private void verbatimUntil(String closingTag) {
+        int end = indexOfIgnoreCase(closingTag, position);
+        out.append(source, position, end);
+        position = end;
+    }
+
+    private int indexOfIgnoreCase(String needle, int from) {
+        for (int i = from; i <= source.length() - needle.length(); i++) {
+            if (source.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return source.length();
+    }
+
+    private boolean startsWith(String prefix) {
+        return source.startsWith(prefix, position);
+    }
+
+    private char last() {
+        return out.length() == 0 ? '\n' : out.charAt(out.length() - 1);
+    }
+
+    private static boolean isTagStart(char c) {
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '/' || c == '!';
+    }
+
+    /** Whether whitespace next to {@code c} can go; a colon only sheds the space after it. */
+    private static boolean isCssPunctuation(char c, boolean before) {
+        return c == '{' || c == '}' || c == ';' || c == ',' || c == '>' || (before && c == ':');
+    }
+}
@@ -0,0 +1,478 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.HtmlGenerationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An HTML template compiled once into static segments, already encoded to UTF-8, and
+ * slots bound to accessors of the model.
+ * <p>
+ * The syntax is a subset of Mustache. {@code {{name}}} writes a value, HTML-escaped, or
+ * nothing for {@code null}. {@code {{#name}}...{{/name}}} repeats its body for each
+ * element of a list, in the element's scope, renders it if a condition holds, or if a
+ * value is neither {@code null} nor empty; {@code {{^name}}...{{/name}}} renders it in the
+ * opposite cases. {@code {{> name}}} includes a partial, another source compiled in its
+ * place and in the current scope. {@code {{! ...}}} is a comment. Text between tags is
+ * copied byte for byte, whitespace and newlines included.
+ * <p>
+ * Names are resolved against a {@link Schema} when the template is compiled, so a
+ * template that refers to an unknown name, or leaves a section open, fails to compile
+ * with its line number instead of rendering wrong output. Rendering reflects on nothing
+ * and formats nothing: it writes the segments and the escaped values.
+ * <p>
+ * A template renders to a stream through one buffer, or to a channel without copying
+ * its larger segments, which are kept in direct buffers and handed to the channel as
+ * they are; see {@link #render(Object, WritableByteChannel)}.
+ */
+final class HtmlTemplate<T> {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<Node<T>> nodes;
+
+    private HtmlTemplate(List<Node<T>> nodes) {
+        this.nodes = nodes;
+    }
+
+    static <T> HtmlTemplate<T> compile(String origin, String source, Schema<T> schema) {
+        return compile(origin, source, schema, Map.of());
+    }
+
+    /**
+     * @param origin Where the source comes from, for error messages
+     * @param partials Sources the template can include by name
+     * @throws HtmlGenerationException if the source does not compile against the schema
+     */
+    static <T> HtmlTemplate<T> compile(String origin, String source, Schema<T> schema,
+                                       Map<String, String> partials) {
+        Parser parser = new Parser(origin, source, partials, new HashSet<>());
+        List<Node<T>> nodes = parser.nodes(schema, null);
+        return new HtmlTemplate<>(nodes);
+    }
+
+    /** Writes the document; the output is flushed but not closed. */
+    void render(T model, OutputStream outputStream) throws IOException {
+        Utf8Sink sink = new Utf8Sink(outputStream);
+        renderAll(nodes, model, sink);
+        sink.flush();
+    }
+
+    /** Writes the document with gathering writes if the channel takes them; it is left open. */
+    void render(T model, WritableByteChannel channel) throws IOException {
+        ChannelSink sink = new ChannelSink(channel, DirectBufferPool.SHARED.acquire());
+        try {
+            renderAll(nodes, model, sink);
+            sink.flush();
+        } finally {
+            DirectBufferPool.SHARED.release(sink.values);
+        }
+    }
+
+    private static <T> void renderAll(List<Node<T>> nodes, T model, Sink sink) throws IOException {
+        for (Node<T> node : nodes) {
+            node.render(model, sink);
+        }
+    }
+
+    /** The names a template may use for a model of type {@code T}. */
+    static final class Schema<T> {
+        private final Map<String, Function<T, String>> values = new HashMap<>();
+        private final Map<String, Predicate<T>> conditions = new HashMap<>();
+        private final Map<String, ListBinding<T, ?>> lists = new HashMap<>();
+
+        Schema<T> value(String name, Function<T, String> accessor) {
+            values.put(name, accessor);
+            return this;
+        }
+
+        Schema<T> condition(String name, Predicate<T> test) {
+            conditions.put(name, test);
+            return this;
+        }
+
+        <E> Schema<T> list(String name, Function<T, List<E>> accessor, Schema<E> element) {
+            lists.put(name, new ListBinding<>(accessor, element));
+            return this;
+        }
+    }
+
+    private record ListBinding<T, E>(Function<T, List<E>> accessor, Schema<E> element) {
+    }
+
+    @FunctionalInterface
+    private interface Node<T> {
+        void render(T model, Sink sink) throws IOException;
+    }
+
+    private static final class Parser {
+        private final String origin;
+        private final String source;
+        private final Map<String, String> partials;
+        /** Partials being compiled, to reject one that includes itself. */
+        private final Set<String> including;
+        private int position;
+
+        private Parser(String origin, String source, Map<String, String> partials, Set<String> including) {
+            this.origin = origin;
+            this.source = source;
+            this.partials = partials;
+            this.including = including;
+        }
+
+        /** Parses up to the end of the source, or of the section named {@code section}. */
+        <T> List<Node<T>> nodes(Schema<T> schema, String section) {
+            List<Node<T>> nodes = new ArrayList<>();
+            while (position < source.length()) {
+                int open = source.indexOf(OPEN, position);
+                if (open < 0) {
+                    nodes.add(text(source.substring(position)));
+                    position = source.length();
+                    break;
+                }
+                if (open > position) {
+                    nodes.add(text(source.substring(position, open)));
+                }
+                int close = source.indexOf(CLOSE, open + OPEN.length());
+                if (close < 0) {
+                    throw error(open, "unclosed tag");
+                }
+                String tag = source.substring(open + OPEN.length(), close).trim();
+                position = close + CLOSE.length();
+                if (tag.isEmpty()) {
+                    throw error(open, "empty tag");
+                }
+                char kind = tag.charAt(0);
+                String name = tag.substring(1).trim();
+                switch (kind) {
+                    case '!' -> {
+                    }
+                    case '/' -> {
+                        if (!name.equals(section)) {
+                            throw error(open, "unexpected {{/" + name + "}}");
+                        }
+                        return nodes;
+                    }
+                    case '#' -> nodes.add(section(schema, name, false, open));
+                    case '^' -> nodes.add(section(schema, name, true, open));
+                    case '>' -> nodes.addAll(partial(schema, name, open));
+                    default -> nodes.add(value(schema, tag, open));
+                }
+            }
+            if (section != null) {
+                throw error(source.length(), "section {{#" + section + "}} is not closed");
+            }
+            return nodes;
+        }
+
+        private static <T> Node<T> text(String text) {
+            Segment segment = new Segment(text.getBytes(StandardCharsets.UTF_8));
+            return (model, sink) -> sink.write(segment);
+        }
+
+        private <T> List<Node<T>> partial(Schema<T> schema, String name, int at) {
+            String partial = partials.get(name);
+            if (partial == null) {
+                throw error(at, "unknown partial '" + name + "'");
+            }
+            if (!including.add(name)) {
+                throw error(at, "partial '" + name + "' includes itself");
+            }
+            List<Node<T>> nodes = new Parser(origin + " > " + name, partial, partials, including).nodes(schema, null);
+            including.remove(name);
+            return nodes;
+        }
+
+        private <T> Node<T> value(Schema<T> schema, String name, int at) {
+            Function<T, String> accessor = schema.values.get(name);
+            if (accessor == null) {
+                throw error(at, "unknown value '" + name + "'");
+            }
+            return (model, sink) -> sink.writeEscaped(accessor.apply(model));
+        }
+
+        private <T> Node<T> section(Schema<T> schema, String name, boolean inverted, int at) {
+            ListBinding<T, ?> list = schema.lists.get(name);
+            if (list != null) {
+                return inverted ? emptyList(list, nodes(schema, name)) : repeat(list, name);
+            }
+            Predicate<T> test = schema.conditions.get(name);
+            if (test == null) {
+                Function<T, String> accessor = schema.values.get(name);
+                if (accessor == null) {
+                    throw error(at, "unknown section '" + name + "'");
+                }
+                test = model -> {
+                    String value = accessor.apply(model);
+                    return value != null && !value.isEmpty();
+                };
+            }
+            Predicate<T> condition = inverted ? test.negate() : test;
+            List<Node<T>> body = nodes(schema, name);
+            return (model, sink) -> {
+                if (condition.test(model)) {
+                    renderAll(body, model, sink);
+                }
+            };
+        }
+
+        private <T, E> Node<T> repeat(ListBinding<T, E> list, String name) {
+            List<Node<E>> body = nodes(list.element(), name);
+            Function<T, List<E>> accessor = list.accessor();
+            return (model, sink) -> {
+                List<E> elements = accessor.apply(model);
+                if (elements != null) {
+                    for (E element : elements) {
+                        renderAll(body, element, sink);
+                    }
+                }
+            };
+        }
+
+        private static <T, E> Node<T> emptyList(ListBinding<T, E> list, List<Node<T>> body) {
+            Function<T, List<E>> accessor = list.accessor();
+            return (model, sink) -> {
+                List<E> elements = accessor.apply(model);
+                if (elements == null || elements.isEmpty()) {
+                    renderAll(body, model, sink);
+                }
+            };
+        }
+
+        private HtmlGenerationException error(int at, String message) {
+            int line = 1;
+            for (int i = 0; i < at && i < source.length(); i++) {
+                if (source.charAt(i) == '\n') {
+                    line++;
+                }
+            }
+            return new HtmlGenerationException(origin + " line " + line + ": " + message);
+        }
+    }
+
+    /**
+     * Static text of a template, encoded once. A segment large enough to be worth its own
+     * entry in a gathering write also gets a read-only direct copy, which renders to a
+     * channel share.
+     */
+    private static final class Segment {
+        private final byte[] bytes;
+        private final ByteBuffer direct;
+
+        private Segment(byte[] bytes) {
+            this.bytes = bytes;
+            this.direct = bytes.length >= ChannelSink.GATHER_THRESHOLD
+                ? ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer()
+                : null;
+        }
+    }
+
+    /**
+     * Where a render writes: segments as they are, values encoded by the JDK and escaped
+     * on the way in.
+     */
+    private abstract static class Sink {
+        private static final byte[][] ESCAPES = new byte[128][];
+
+        static {
+            ESCAPES['&'] = "&amp;".getBytes(StandardCharsets.US_ASCII);
+            ESCAPES['<'] = "&lt;".getBytes(StandardCharsets.US_ASCII);
+            ESCAPES['>'] = "&gt;".getBytes(StandardCharsets.US_ASCII);
+            ESCAPES['"'] = "&quot;".getBytes(StandardCharsets.US_ASCII);
+            ESCAPES['\''] = "&#39;".getBytes(StandardCharsets.US_ASCII);
+        }
+
+        abstract void write(Segment segment) throws IOException;
+
+        abstract void write(byte[] bytes, int offset, int length) throws IOException;
+
+        final void writeEscaped(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            // A UTF-8 continuation or lead byte is never ASCII, so the bytes to escape are
+            // found by scanning the encoded value; the runs between them are copied as is
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int run = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                byte b = bytes[i];
+                if (b >= 0 && ESCAPES[b] != null) {
+                    write(bytes, run, i - run);
+                    byte[] escape = ESCAPES[b];
+                    write(escape, 0, escape.length);
+                    run = i + 1;
+                }
+            }
+            write(bytes, run, bytes.length - run);
+        }
+    }
+
+    /** Buffers UTF-8 bytes for the target stream. */
+    private static final class Utf8Sink extends Sink {
+        private final OutputStream outputStream;
+        private final byte[] buffer = new byte[StreamingOutput.BUFFER_SIZE];
+        private int size;
+
+        private Utf8Sink(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        void write(Segment segment) throws IOException {
+            write(segment.bytes, 0, segment.bytes.length);
+        }
+
+        @Override
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > buffer.length - size) {
+                drain();
+                if (length > buffer.length) {
+                    outputStream.write(bytes, offset, length);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        void flush() throws IOException {
+            drain();
+            outputStream.flush();
+        }
+
+        private void drain() throws IOException {
+            if (size > 0) {
+                outputStream.write(buffer, 0, size);
+                size = 0;
+            }
+        }
+    }
+
+    /**
+     * Queues buffers for a channel: large segments by reference to their direct copy, and
+     * values and small segments, gathered in a heap array as {@link Utf8Sink} does, moved
+     * into one pooled direct buffer in bulk; each run between two large segments is
+     * queued as a slice of it. The queue goes out in one gathering write once it, or the
+     * pooled buffer, is full, so the bytes of a large segment are never copied and the
+     * JDK has no heap buffer to copy into a temporary direct one.
+     */
+    private static final class ChannelSink extends Sink {
+        /** Below this size, copying a segment costs less than an entry in a gathering write. */
+        static final int GATHER_THRESHOLD = 512;
+        private static final int MAX_GATHER = 64;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer values;
+        private final byte[] staging = new byte[StreamingOutput.BUFFER_SIZE];
+        private int staged;
+        private final ByteBuffer[] pending = new ByteBuffer[MAX_GATHER];
+        private int count;
+        /** Start of the bytes in {@code values} not queued yet. */
+        private int run;
+
+        private ChannelSink(WritableByteChannel channel, ByteBuffer values) {
+            this.channel = channel;
+            this.values = values;
+        }
+
+        @Override
+        void write(Segment segment) throws IOException {
+            if (segment.direct == null) {
+                write(segment.bytes, 0, segment.bytes.length);
+                return;
+            }
+            queueRun();
+            queue(segment.direct.duplicate());
+        }
+
+        @Override
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length > staging.length - staged) {
+                unstage();
+                if (length > staging.length) {
+                    put(bytes, offset, length);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, offset, staging, staged, length);
+            staged += length;
+        }
+
+        void flush() throws IOException {
+            queueRun();
+            drain();
+        }
+
+        /** Moves the staged bytes into the pooled buffer. */
+        private void unstage() throws IOException {
+            if (staged > 0) {
+                // Emptied first: a full pooled buffer queues its run, which unstages again
+                int length = staged;
+                staged = 0;
+                put(staging, 0, length);
+            }
+        }
+
+        private void put(byte[] bytes, int offset, int length) throws IOException {
+            while (length > values.remaining()) {
+                int part = values.remaining();
+                values.put(bytes, offset, part);
+                offset += part;
+                length -= part;
+                queueRun();
+                drain();
+            }
+            values.put(bytes, offset, length);
+        }
+
+        private void queueRun() throws IOException {
+            unstage();
+            int end = values.position();
+            if (end > run) {
+                ByteBuffer slice = values.slice(run, end - run);
+                run = end;
+                queue(slice);
+            }
+        }
+
+        private void queue(ByteBuffer buffer) throws IOException {
+            pending[count++] = buffer;
+            if (count == pending.length) {
+                drain();
+            }
+        }
+
+        /** Writes every queued buffer, after which the pooled buffer is free again. */
+        private void drain() throws IOException {
+            int first = 0;
+            while (first < count) {
+                if (channel instanceof GatheringByteChannel gathering) {
+                    gathering.write(pending, first, count - first);
+                } else {
+                    channel.write(pending[first]);
+                }
+                while (first < count && !pending[first].hasRemaining()) {
+                    first++;
+                }
+            }
+            Arrays.fill(pending, 0, count, null);
+            count = 0;
+            values.clear();
+            run = 0;
+        }
+    }
+}
@@ -12,19 +12,25 @@ import org.adeniuobesu.resumegenerator.application.dtos.WorkExperienceDto;
 import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class MarkdownExporter implements OutputStrategy<ResumeDto> {
     private static final OutputType OUTPUT_TYPE = OutputType.MARKDOWN;
+    private static final int RENDERING_VERSION = 1;
+
+    @Override
+    public String renderingId() {
+        return OUTPUT_TYPE + "/" + RENDERING_VERSION;
+    }
 
     @Override
     public void generate(ResumeDto resume, OutputStream outputStream) throws AdapterException {
         try {
             validateInput(resume, outputStream);
-            String markdown = buildMarkdown(resume);
-            writeToStream(markdown, outputStream);
+            Writer writer = StreamingOutput.utf8Writer(outputStream);
+            writeMarkdown(resume, writer);
+            writer.flush();
         } catch (IllegalArgumentException e) {
             throw new AdapterException("Invalid input parameters: " + e.getMessage(), e);
         } catch (IOException e) {
@@ -44,124 +50,98 @@ public final class MarkdownExporter implements OutputStrategy<ResumeDto> {
         }
     }
 
-    private void writeToStream(String markdown, OutputStream outputStream) throws IOException {
-        outputStream.write(markdown.getBytes(StandardCharsets.UTF_8));
-        outputStream.flush();
+    private void writeMarkdown(ResumeDto resume, Writer out) throws IOException {
+        out.append("# ").append(resume.fullName()).append('\n')
+            .append("## ").append(resume.professionalTitle()).append("\n\n");
+        writeSummary(resume.professionalSummary(), out);
+        out.append("\n\n## Contact Information\n");
+        writeContactMethods(resume.contactMethods(), out);
+        out.append("\n\n## Professional Experience\n");
+        writeWorkExperiences(resume.workExperiences(), out);
+        out.append("\n\n## Education\n");
+        writeEducation(resume.educationHistory(), out);
+        out.append("\n\n## Technical Skills\n");
+        writeSkills(resume.skillCategories(), out);
+        out.append("\n\n## Languages\n");
+        writeLanguages(resume.languages(), out);
+        out.append("\n\n## Interests\n");
+        writeHobbies(resume.hobbies(), out);
+        out.append('\n');
     }
 
-    private String buildMarkdown(ResumeDto resume) {
-        return String.format("""
-            # %s
-            ## %s
-            
-            %s
-            
-            ## Contact Information
-            %s
-            
-            ## Professional Experience
-            %s
-            
-            ## Education
-            %s
-            
-            ## Technical Skills
-            %s
-            
-            ## Languages
-            %s
-            
-            ## Interests
-            %s
-            """,
-            resume.fullName(),
-            resume.professionalTitle(),
-            formatSummary(resume.professionalSummary()),
-            formatContactMethods(resume.contactMethods()),
-            formatWorkExperiences(resume.workExperiences()),
-            formatEducation(resume.educationHistory()),
-            formatSkills(resume.skillCategories()),
-            formatLanguages(resume.languages()),
-            formatHobbies(resume.hobbies())
-        );
-    }
-
-    private String formatSummary(String summary) {
-        return summary != null ? summary + "\n" : "";
+    private void writeSummary(String summary, Writer out) throws IOException {
+        if (summary != null) {
+            out.append(summary).append('\n');
+        }
     }
 
-    private String formatContactMethods(List<ContactMethodDto> methods) {
-        return methods.stream()
-            .map(m -> "- **" + m.type() + "**: " + m.value())
-            .collect(Collectors.joining("\n"));
+    private void writeContactMethods(List<ContactMethodDto> methods, Writer out) throws IOException {
+        for (int i = 0; i < methods.size(); i++) {
+            ContactMethodDto m = methods.get(i);
+            if (i > 0) out.append('\n');
+            out.append("- **").append(String.valueOf(m.type())).append("**: ").append(m.value());
+        }
     }
 
-    private String formatWorkExperiences(List<WorkExperienceDto> experiences) {
-        return experiences.stream()
-            .map(exp -> String.format("""
-                ### %s
-                **%s** | %s - %s
-                
-                %s
-                """,
-                exp.companyName(),
-                exp.jobTitle(),
-                exp.startDate(),
-                exp.endDate(),
-                formatAchievements(exp.keyAchievements())
-            ))
-            .collect(Collectors.joining("\n"));
+    private void writeWorkExperiences(List<WorkExperienceDto> experiences, Writer out) throws IOException {
+        for (int i = 0; i < experiences.size(); i++) {
+            WorkExperienceDto exp = experiences.get(i);
+            if (i > 0) out.append('\n');
+            out.append("### ").append(exp.companyName()).append('\n')
+                .append("**").append(exp.jobTitle()).append("** | ")
+                .append(exp.startDate()).append(" - ").append(exp.endDate()).append("\n\n");
+            writeAchievements(exp.keyAchievements(), out);
+            out.append('\n');
+        }
     }
 
-    private String formatAchievements(List<String> achievements) {
-        return achievements.stream()
-            .map(a -> "- " + a)
-            .collect(Collectors.joining("\n"));
+    private void writeAchievements(List<String> achievements, Writer out) throws IOException {
+        for (int i = 0; i < achievements.size(); i++) {
+            if (i > 0) out.append('\n');
+            out.append("- ").append(achievements.get(i));
+        }
     }
 
-    private String formatEducation(List<EducationDto> education) {
-        return education.stream()
-            .map(edu -> String.format("""
-                ### %s
-                **%s in %s** | %s - %s
-                """,
-                edu.institutionName(),
-                edu.degree(),
-                edu.fieldOfStudy() != null ? edu.fieldOfStudy() : "",
-                edu.startDate(),
-                edu.endDate()
-            ))
-            .collect(Collectors.joining("\n"));
+    private void writeEducation(List<EducationDto> education, Writer out) throws IOException {
+        for (int i = 0; i < education.size(); i++) {
+            EducationDto edu = education.get(i);
+            if (i > 0) out.append('\n');
+            out.append("### ").append(edu.institutionName()).append('\n')
+                .append("**").append(edu.degree()).append(" in ")
+                .append(edu.fieldOfStudy() != null ? edu.fieldOfStudy() : "").append("** | ")
+                .append(edu.startDate()).append(" - ").append(edu.endDate()).append('\n');
+        }
     }
 
-    private String formatSkills(List<SkillCategoryDto> skills) {
-        return skills.stream()
-            .map(skill -> String.format("""
-                ### %s
-                %s
-                """,
-                skill.categoryName(),
-                skill.skills().stream()
-                    .map(s -> "- " + s)
-                    .collect(Collectors.joining("\n"))
-            ))
-            .collect(Collectors.joining("\n"));
+    private void writeSkills(List<SkillCategoryDto> skills, Writer out) throws IOException {
+        for (int i = 0; i < skills.size(); i++) {
+            SkillCategoryDto skill = skills.get(i);
+            if (i > 0) out.append('\n');
+            out.append("### ").append(skill.categoryName()).append('\n');
+            List<String> items = skill.skills();
+            for (int j = 0; j < items.size(); j++) {
+                if (j > 0) out.append('\n');
+                out.append("- ").append(items.get(j));
+            }
+            out.append('\n');
+        }
     }
 
-    private String formatLanguages(List<LanguageDto> languages) {
-        return languages.stream()
-            .map(lang -> "- " + lang.language() + " (" + lang.proficiency() + ")")
-            .collect(Collectors.joining("\n"));
+    private void writeLanguages(List<LanguageDto> languages, Writer out) throws IOException {
+        for (int i = 0; i < languages.size(); i++) {
+            LanguageDto lang = languages.get(i);
+            if (i > 0) out.append('\n');
+            out.append("- ").append(lang.language())
+                .append(" (").append(String.valueOf(lang.proficiency())).append(')');
+        }
     }
 
-    private String formatHobbies(List<HobbyDto> hobbies) {
-        return hobbies.stream()
-            .map(hobby -> String.format("""
-                - **%s**: %s
-                """,
-                hobby.name(),
-                hobby.description() != null ? hobby.description() : ""
-            ))
-            .collect(Collectors.joining("\n"));
+    private void writeHobbies(List<HobbyDto> hobbies, Writer out) throws IOException {
+        for (int i = 0; i < hobbies.size(); i++) {
+            HobbyDto hobby = hobbies.get(i);
+            if (i > 0) out.append('\n');
+            out.append("- **").append(hobby.name()).append("**: ")
+                .append(hobby.description() != null ? hobby.description() : "").append('\n');
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.PdfGenerationException;
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PageMode;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renders many resumes into a single PDF "book", one chapter per candidate, each
+ * starting on a new page under its own bookmark.
+ * <p>
+ * {@link #layout} is the layout pass of {@link PdfExporter}: it needs no document and
+ * may run on any thread, so callers lay candidates out in parallel. A {@link Book}
+ * embeds the fonts once for all of its chapters and appends them in the order given.
+ * Each page is deflated as soon as it is complete, and the document's buffers spill to
+ * temporary files past {@link #MAIN_MEMORY_BYTES}, so memory stays bounded however many
+ * candidates the book holds as long as callers bound the chapters laid out ahead of
+ * the one being appended.
+ */
+public final class PdfBookExporter {
+    private static final long MAIN_MEMORY_BYTES = 64L * 1024 * 1024;
+
+    private final FontRegistry fontRegistry = FontRegistry.shared();
+    private final PdfLayoutEngine layoutEngine = new PdfLayoutEngine(fontRegistry);
+    private final PdfProfile profile;
+
+    public PdfBookExporter() {
+        this(PdfProfile.BALANCED);
+    }
+
+    public PdfBookExporter(PdfProfile profile) {
+        this.profile = profile;
+    }
+
+    /** Lays out one candidate; thread-safe. */
+    public Chapter layout(ResumeDto resume) {
+        return new Chapter(resume.fullName(), layoutEngine.layout(resume));
+    }
+
+    /** Starts a book that {@link Book#finish()} saves to {@code outputStream}. */
+    public Book open(OutputStream outputStream) {
+        return new Book(outputStream);
+    }
+
+    /** One candidate, laid out and ready to be appended to a {@link Book}. */
+    public static final class Chapter {
+        private final String title;
+        private final PdfLayout layout;
+
+        private Chapter(String title, PdfLayout layout) {
+            this.title = title;
+            this.layout = layout;
+        }
+
+        public String title() {
+            return title;
+        }
+    }
+
+    /**
+     * A book being written. Chapters are appended from one thread; closing a book that
+     * was not finished discards it.
+     */
+    public final class Book implements Closeable {
+        private final OutputStream outputStream;
+        private final PDDocument document;
+        private final PdfPageWriter writer;
+        private final PDDocumentOutline outline = new PDDocumentOutline();
+
+        private Book(OutputStream outputStream) {
+            this.outputStream = outputStream;
+            this.document = new PDDocument(MemoryUsageSetting.setupMixed(MAIN_MEMORY_BYTES).streamCache);
+            try {
+                this.writer = new PdfPageWriter(document, fontRegistry, profile.deflateLevel());
+            } catch (IOException e) {
+                closeQuietly(document);
+                throw new PdfGenerationException("book", e);
+            }
+        }
+
+        public void append(Chapter chapter) {
+            try {
+                PDPage first = writer.write(chapter.layout);
+                PDPageFitDestination destination = new PDPageFitDestination();
+                destination.setPage(first);
+                PDOutlineItem bookmark = new PDOutlineItem();
+                bookmark.setTitle(chapter.title);
+                bookmark.setDestination(destination);
+                outline.addLast(bookmark);
+            } catch (IOException e) {
+                throw new PdfGenerationException("chapter " + chapter.title, e);
+            }
+        }
+
+        /** Saves the book with its bookmarks to the stream it was opened on. */
+        public void finish() {
+            try {
+                writer.close();
+                document.getDocumentCatalog().setDocumentOutline(outline);
+                document.getDocumentCatalog().setPageMode(PageMode.USE_OUTLINES);
+                document.save(outputStream, PdfPageWriter.compressParameters(profile));
+            } catch (IOException e) {
+                throw new PdfGenerationException("book", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // The document is discarded below
+            }
+            closeQuietly(document);
+        }
+    }
+
+    private static void closeQuietly(PDDocument document) {
+        try {
+            document.close();
+        } catch (IOException ignored) {
+            // Nothing was written from this document, or it was already saved
+        }
+    }
+}
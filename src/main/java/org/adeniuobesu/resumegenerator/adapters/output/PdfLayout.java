@@ -0,0 +1,55 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+
+import java.awt.Color;
+import java.util.List;
+
+/**
+ * Measured, page-independent layout of one resume, produced by {@link PdfLayoutEngine}
+ * and turned into pages by {@link PdfExporter}.
+ * <p>
+ * A layout is a list of blocks, each a list of lines. A line is drawn on the current
+ * baseline, which then moves down by the line's advance. Pages may break between any
+ * two lines, except inside a block marked {@code keepTogether} that fits on a page.
+ * Layouts hold no PDFBox objects and are immutable, so they can be built on any thread
+ * and kept for later emission.
+ */
+record PdfLayout(List<Block> blocks) {
+
+    PdfLayout {
+        blocks = List.copyOf(blocks);
+    }
+
+    sealed interface Op permits Text, Rule {
+    }
+
+    /** Text starting at {@code x} on the line's baseline. */
+    record Text(String text, Face face, float fontSize, float x, Color color) implements Op {
+    }
+
+    /** Horizontal rule along the line's baseline. */
+    record Rule(float x, float width) implements Op {
+    }
+
+    record Line(List<Op> ops, float advance) {
+        Line {
+            ops = List.copyOf(ops);
+        }
+    }
+
+    record Block(List<Line> lines, boolean keepTogether) {
+        Block {
+            lines = List.copyOf(lines);
+        }
+
+        /** Distance from the first baseline to the last one. */
+        float extent() {
+            float extent = 0;
+            for (int i = 0; i < lines.size() - 1; i++) {
+                extent += lines.get(i).advance();
+            }
+            return extent;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Block;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Line;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Op;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Rule;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Text;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout pass of {@link PdfExporter}: measures every section of a resume and positions
+ * it in a {@link PdfLayout}, without touching a PDF document. Every string is measured
+ * once, so the pass is linear in the size of the resume.
+ * <p>
+ * A job, a degree and a skill category are each kept on one page, and a section
+ * title always stays with its first entry.
+ */
+final class PdfLayoutEngine {
+    static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+    static final float MARGIN = 50;
+    private static final float LINE_HEIGHT = 20;
+    private static final float SECTION_GAP = 10;
+    private static final Color PRIMARY_COLOR = new Color(44, 62, 80);     // Dark blue
+    private static final Color SECONDARY_COLOR = new Color(52, 152, 219); // Light blue
+
+    private final FontRegistry fontRegistry;
+    private final float pageWidth = PAGE_SIZE.getWidth();
+
+    PdfLayoutEngine(FontRegistry fontRegistry) {
+        this.fontRegistry = fontRegistry;
+    }
+
+    PdfLayout layout(ResumeDto resume) {
+        Builder builder = new Builder();
+
+        // Header
+        builder.startBlock(false);
+        builder.text(resume.fullName(), Face.BOLD, 24, MARGIN, PRIMARY_COLOR, LINE_HEIGHT * 1.5f);
+        builder.text(resume.professionalTitle(), Face.REGULAR, 16, MARGIN, SECONDARY_COLOR, LINE_HEIGHT * 1.5f);
+
+        // Summary
+        if (resume.professionalSummary() != null) {
+            builder.paragraph(resume.professionalSummary(), Face.REGULAR, 12, MARGIN,
+                pageWidth - 2 * MARGIN, Color.BLACK, LINE_HEIGHT * 1.5f);
+        }
+
+        builder.rule(MARGIN, pageWidth - 2 * MARGIN, SECTION_GAP * 2);
+
+        // Contact Information
+        builder.sectionTitle("Contact Information");
+        for (ContactMethodDto contact : resume.contactMethods()) {
+            builder.startBlock(false);
+            builder.text(contact.type() + ": " + contact.value(), Face.REGULAR, 12, MARGIN + 10, Color.BLACK, LINE_HEIGHT);
+        }
+        builder.space(SECTION_GAP);
+
+        // Work Experience
+        builder.sectionTitle("Professional Experience");
+        for (WorkExperienceDto exp : resume.workExperiences()) {
+            builder.startBlock(true);
+            builder.text(exp.companyName(), Face.BOLD, 14, MARGIN + 10, PRIMARY_COLOR, LINE_HEIGHT);
+            builder.line(LINE_HEIGHT,
+                builder.textOp(exp.jobTitle(), Face.REGULAR, 12, MARGIN + 10, Color.BLACK),
+                builder.textOp(exp.startDate() + " - " + exp.endDate(), Face.REGULAR, 12,
+                    pageWidth - MARGIN - 100, Color.DARK_GRAY));
+            for (String achievement : exp.keyAchievements()) {
+                builder.text("• " + achievement, Face.REGULAR, 11, MARGIN + 20, Color.BLACK, LINE_HEIGHT);
+            }
+            builder.space(SECTION_GAP);
+        }
+
+        // Education
+        builder.sectionTitle("Education");
+        for (EducationDto edu : resume.educationHistory()) {
+            builder.startBlock(true);
+            builder.text(edu.institutionName(), Face.BOLD, 14, MARGIN + 10, PRIMARY_COLOR, LINE_HEIGHT);
+
+            String degreeText = edu.degree();
+            if (edu.fieldOfStudy() != null) {
+                degreeText += " in " + edu.fieldOfStudy();
+            }
+            builder.text(degreeText, Face.REGULAR, 12, MARGIN + 10, Color.BLACK, LINE_HEIGHT);
+            builder.text(edu.startDate() + " - " + edu.endDate(), Face.OBLIQUE, 11, MARGIN + 10,
+                Color.DARK_GRAY, LINE_HEIGHT * 1.5f);
+        }
+
+        // Skills
+        builder.sectionTitle("Technical Skills");
+        for (SkillCategoryDto category : resume.skillCategories()) {
+            builder.startBlock(true);
+            builder.text(category.categoryName() + ":", Face.BOLD, 12, MARGIN + 10, PRIMARY_COLOR, LINE_HEIGHT);
+            builder.paragraph(String.join(", ", category.skills()), Face.REGULAR, 11, MARGIN + 20,
+                pageWidth - 2 * MARGIN - 10, Color.BLACK, LINE_HEIGHT * 1.5f);
+        }
+
+        // Languages
+        builder.sectionTitle("Languages");
+        for (LanguageDto lang : resume.languages()) {
+            builder.startBlock(false);
+            builder.text(lang.language() + " (" + lang.proficiency() + ")", Face.REGULAR, 12, MARGIN + 10,
+                Color.BLACK, LINE_HEIGHT);
+        }
+
+        // Hobbies
+        if (!resume.hobbies().isEmpty()) {
+            builder.sectionTitle("Interests");
+            for (HobbyDto hobby : resume.hobbies()) {
+                String hobbyText = hobby.name();
+                if (hobby.description() != null) {
+                    hobbyText += ": " + hobby.description();
+                }
+                builder.startBlock(false);
+                builder.text(hobbyText, Face.REGULAR, 11, MARGIN + 10, Color.BLACK, LINE_HEIGHT);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Greedy word wrap of {@link FontRegistry#displayable} text on single spaces. Each
+     * word is measured once, in place, and its width added to the running line width;
+     * this matches measuring the whole line because every glyph width is already
+     * rounded to a whole unit. Lines are cut from {@code text} without rebuilding them.
+     */
+    List<String> wrap(String text, Face face, float fontSize, float maxWidth) {
+        GlyphAdvances glyphs = fontRegistry.advances(face);
+        float maxUnits = maxWidth * 1000 / fontSize;
+        float spaceUnits = glyphs.width(" ", 0, 1);
+        List<String> wrapped = new ArrayList<>();
+        int lineStart = -1;
+        int lineEnd = 0;
+        float lineUnits = 0;
+        int wordStart = 0;
+        while (wordStart <= text.length()) {
+            int wordEnd = text.indexOf(' ', wordStart);
+            if (wordEnd < 0) {
+                wordEnd = text.length();
+            }
+            float wordUnits = glyphs.width(text, wordStart, wordEnd);
+            if (lineStart >= 0 && lineUnits + spaceUnits + wordUnits > maxUnits) {
+                wrapped.add(text.substring(lineStart, lineEnd));
+                lineStart = -1;
+            }
+            if (lineStart >= 0) {
+                lineUnits += spaceUnits + wordUnits;
+            } else if (wordEnd > wordStart) {
+                lineStart = wordStart;
+                lineUnits = wordUnits;
+            }
+            if (wordEnd > wordStart) {
+                lineEnd = wordEnd;
+            }
+            wordStart = wordEnd + 1;
+        }
+        if (lineStart >= 0) {
+            wrapped.add(text.substring(lineStart, lineEnd));
+        }
+        return wrapped;
+    }
+
+    private final class Builder {
+        private final List<Block> blocks = new ArrayList<>();
+        private List<Line> lines;
+        private boolean keepTogether;
+        private boolean titleOpen;
+
+        void startBlock(boolean keepTogether) {
+            if (titleOpen) {
+                // The first entry joins its section title's block
+                titleOpen = false;
+                this.keepTogether = true;
+                return;
+            }
+            finishBlock();
+            lines = new ArrayList<>();
+            this.keepTogether = keepTogether;
+        }
+
+        void sectionTitle(String title) {
+            titleOpen = false;
+            startBlock(true);
+            text(title, Face.BOLD, 16, MARGIN, PRIMARY_COLOR, LINE_HEIGHT);
+            rule(MARGIN, 100, SECTION_GAP);
+            titleOpen = true;
+        }
+
+        void text(String text, Face face, float fontSize, float x, Color color, float advance) {
+            line(advance, textOp(text, face, fontSize, x, color));
+        }
+
+        Text textOp(String text, Face face, float fontSize, float x, Color color) {
+            return new Text(fontRegistry.displayable(text, face), face, fontSize, x, color);
+        }
+
+        void rule(float x, float width, float advance) {
+            line(advance, new Rule(x, width));
+        }
+
+        void paragraph(String text, Face face, float fontSize, float x, float maxWidth, Color color, float lastAdvance) {
+            List<String> wrapped = wrap(fontRegistry.displayable(text, face), face, fontSize, maxWidth);
+            if (wrapped.isEmpty()) {
+                line(lastAdvance);
+                return;
+            }
+            for (int i = 0; i < wrapped.size(); i++) {
+                boolean last = i == wrapped.size() - 1;
+                line(last ? lastAdvance : LINE_HEIGHT, new Text(wrapped.get(i), face, fontSize, x, color));
+            }
+        }
+
+        void line(float advance, Op... ops) {
+            lines.add(new Line(List.of(ops), advance));
+        }
+
+        /** Adds extra distance after the last line of the current block. */
+        void space(float amount) {
+            Line last = lines.remove(lines.size() - 1);
+            lines.add(new Line(last.ops(), last.advance() + amount));
+        }
+
+        PdfLayout build() {
+            finishBlock();
+            return new PdfLayout(blocks);
+        }
+
+        private void finishBlock() {
+            if (lines != null && !lines.isEmpty()) {
+                blocks.add(new Block(lines, keepTogether));
+            }
+            lines = null;
+        }
+    }
+}
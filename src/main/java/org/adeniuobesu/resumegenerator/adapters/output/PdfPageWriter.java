@@ -0,0 +1,161 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Block;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Line;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Op;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Rule;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfLayout.Text;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDPageContentStream.AppendMode;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.util.Matrix;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.adeniuobesu.resumegenerator.adapters.output.PdfLayoutEngine.MARGIN;
+import static org.adeniuobesu.resumegenerator.adapters.output.PdfLayoutEngine.PAGE_SIZE;
+
+/**
+ * Emission state of one document: the page being written, its content stream, the
+ * current baseline and the fonts embedded in the document. A new instance is created
+ * for every document, which keeps the exporters themselves stateless and safe to share
+ * between threads. The fonts are embedded once, however many layouts the document holds.
+ * <p>
+ * PDFBox compresses content streams at a level set once per JVM, so each page is
+ * written uncompressed and deflated here, at the profile's level, when it is complete.
+ */
+final class PdfPageWriter implements Closeable {
+    private static final float TOP = PAGE_SIZE.getHeight() - MARGIN;
+    private static final Color RULE_COLOR = new Color(200, 200, 200);
+
+    private final PDDocument document;
+    private final FontRegistry fontRegistry;
+    private final Map<Face, PDFont> fonts;
+    private final Deflater deflater;
+    private PDStream contents;
+    private PDPageContentStream contentStream;
+    private float currentY;
+
+    PdfPageWriter(PDDocument document, FontRegistry fontRegistry, int deflateLevel) throws IOException {
+        this.document = document;
+        this.fontRegistry = fontRegistry;
+        this.fonts = fontRegistry.embed(document);
+        this.deflater = new Deflater(deflateLevel);
+    }
+
+    /** How a document written with {@code profile} is saved. */
+    static CompressParameters compressParameters(PdfProfile profile) {
+        return profile.objectStreams()
+            ? CompressParameters.DEFAULT_COMPRESSION
+            : CompressParameters.NO_COMPRESSION;
+    }
+
+    /** Writes {@code layout} from the top of a new page and returns that page. */
+    PDPage write(PdfLayout layout) throws IOException {
+        PDPage first = newPage();
+        List<Block> blocks = layout.blocks();
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            // A block that cannot fit on any page is broken between lines instead
+            if (block.keepTogether() && block.extent() <= TOP - MARGIN
+                    && currentY - block.extent() < MARGIN && currentY < TOP) {
+                newPage();
+            }
+            for (Line line : block.lines()) {
+                if (currentY < MARGIN) {
+                    newPage();
+                }
+                for (Op op : line.ops()) {
+                    draw(op);
+                }
+                currentY -= line.advance();
+            }
+        }
+        return first;
+    }
+
+    private PDPage newPage() throws IOException {
+        if (contentStream != null) {
+            finishPage();
+        }
+        PDPage page = new PDPage(PAGE_SIZE);
+        document.addPage(page);
+        contentStream = new PDPageContentStream(document, page, AppendMode.OVERWRITE, false);
+        contents = page.getContentStreams().next();
+        currentY = TOP;
+        return page;
+    }
+
+    private void finishPage() throws IOException {
+        contentStream.close();
+        contentStream = null;
+        COSStream stream = contents.getCOSObject();
+        byte[] operators;
+        try (InputStream in = stream.createRawInputStream()) {
+            operators = in.readAllBytes();
+        }
+        deflater.reset();
+        try (OutputStream out = new DeflaterOutputStream(stream.createRawOutputStream(), deflater)) {
+            out.write(operators);
+        }
+        stream.setItem(COSName.FILTER, COSName.FLATE_DECODE);
+    }
+
+    private void draw(Op op) throws IOException {
+        if (op instanceof Text text) {
+            drawText(text);
+        } else if (op instanceof Rule rule) {
+            drawRule(rule);
+        }
+    }
+
+    private void drawText(Text text) throws IOException {
+        contentStream.beginText();
+        contentStream.setFont(fonts.get(text.face()), text.fontSize());
+        contentStream.setNonStrokingColor(text.color());
+        float slant = fontRegistry.slant(text.face());
+        if (slant != 0) {
+            contentStream.setTextMatrix(new Matrix(1, 0, slant, 1, text.x(), currentY));
+        } else {
+            contentStream.newLineAtOffset(text.x(), currentY);
+        }
+        contentStream.showText(text.text());
+        contentStream.endText();
+    }
+
+    private void drawRule(Rule rule) throws IOException {
+        contentStream.setLineWidth(0.5f);
+        contentStream.setStrokingColor(RULE_COLOR);
+        contentStream.moveTo(rule.x(), currentY);
+        contentStream.lineTo(rule.x() + rule.width(), currentY);
+        contentStream.stroke();
+    }
+
+    /** Finishes the last page. The document itself stays open, for the caller to save. */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (contentStream != null) {
+                finishPage();
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+}
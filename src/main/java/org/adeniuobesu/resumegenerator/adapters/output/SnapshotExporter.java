@@ -0,0 +1,32 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.snapshot.ResumeSnapshot;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the resume as a binary {@link ResumeSnapshot}, which
+ * {@code SnapshotInputStrategy} loads again without parsing JSON.
+ */
+public final class SnapshotExporter implements OutputStrategy<ResumeDto> {
+    private static final OutputType OUTPUT_TYPE = OutputType.SNAPSHOT;
+
+    @Override
+    public String renderingId() {
+        return OUTPUT_TYPE + "/" + ResumeSnapshot.VERSION;
+    }
+
+    @Override
+    public void generate(ResumeDto resume, OutputStream outputStream) throws AdapterException {
+        try {
+            outputStream.write(ResumeSnapshot.encode(resume));
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new AdapterException("Failed to generate SNAPSHOT output: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered UTF-8 writers used by the text-based exporters to stream a document
+ * section by section. At most {@link #BUFFER_SIZE} characters are held before they
+ * are encoded and handed to the target stream.
+ * <p>
+ * The returned writer must be flushed, not closed: closing it would close the
+ * caller's stream.
+ */
+final class StreamingOutput {
+    static final int BUFFER_SIZE = 8 * 1024;
+
+    private StreamingOutput() {}
+
+    static Writer utf8Writer(OutputStream outputStream) {
+        return new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+            BUFFER_SIZE
+        );
+    }
+}
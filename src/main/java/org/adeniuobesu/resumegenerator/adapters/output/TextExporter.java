@@ -6,21 +6,28 @@ import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
 import org.adeniuobesu.resumegenerator.application.dtos.*;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public final class TextExporter implements OutputStrategy<ResumeDto> {
 
     private static final String SECTION_BREAK = "\n" + "-".repeat(80) + "\n";
     private static final String SUBSECTION_BREAK = "\n" + "~".repeat(60) + "\n";private static final OutputType OUTPUT_TYPE = OutputType.TEXT;
+    private static final int LINE_LENGTH = 80;
+    private static final int RENDERING_VERSION = 1;
+
+    @Override
+    public String renderingId() {
+        return OUTPUT_TYPE + "/" + RENDERING_VERSION;
+    }
     
     @Override
     public void generate(ResumeDto resume, OutputStream outputStream) throws AdapterException {
         try {
             validateInput(resume, outputStream);
-            String text = buildTextResume(resume);
-            writeToStream(text, outputStream);
+            Writer writer = StreamingOutput.utf8Writer(outputStream);
+            writeTextResume(resume, writer);
+            writer.flush();
         } catch (IOException e) {
             throw new AdapterException(
                 "Failed to generate TEXT output: " + e.getMessage(),
@@ -38,129 +45,138 @@ public final class TextExporter implements OutputStrategy<ResumeDto> {
         }
     }
 
-    private void writeToStream(String text, OutputStream outputStream) throws IOException {
-        outputStream.write(text.getBytes(StandardCharsets.UTF_8));
-        outputStream.flush();
-    }
-
-    private String buildTextResume(ResumeDto resume) {
-        return String.format("""
-            %s
-            %s
-            %s%s
-            CONTACT INFORMATION
-            %s%s
-            PROFESSIONAL EXPERIENCE
-            %s%s
-            EDUCATION
-            %s%s
-            TECHNICAL SKILLS
-            %s%s
-            LANGUAGES
-            %s%s
-            INTERESTS
-            %s
-            """,
-            centerText(resume.fullName().toUpperCase()),
-            centerText(resume.professionalTitle()),
-            formatSummary(resume.professionalSummary()), SECTION_BREAK,
-            formatContactMethods(resume.contactMethods()), SECTION_BREAK,
-            formatWorkExperiences(resume.workExperiences()), SECTION_BREAK,
-            formatEducation(resume.educationHistory()), SECTION_BREAK,
-            formatSkills(resume.skillCategories()), SECTION_BREAK,
-            formatLanguages(resume.languages()), SECTION_BREAK,
-            formatHobbies(resume.hobbies())
-        );
-    }
-
-    private String centerText(String text) {
-        return String.format("%" + (40 + text.length()/2) + "s", text);
-    }
-
-    private String formatSummary(String summary) {
-        return wrapText(summary != null ? summary : "", 80) + "\n";
-    }
-
-    private String formatContactMethods(List<ContactMethodDto> methods) {
-        return methods.stream()
-            .map(m -> String.format("%-10s: %s", m.type(), m.value()))
-            .collect(Collectors.joining("\n"));
-    }
-
-    private String formatWorkExperiences(List<WorkExperienceDto> experiences) {
-        return experiences.stream()
-            .map(exp -> String.format("%s\n%s\n%s - %s\n\n%s",
-                exp.companyName().toUpperCase(),
-                exp.jobTitle(),
-                exp.startDate(),
-                exp.endDate(),
-                formatAchievements(exp.keyAchievements())
-            ))
-            .collect(Collectors.joining(SUBSECTION_BREAK));
-    }
-
-    private String formatAchievements(List<String> achievements) {
-        return wrapText(
-            achievements.stream()
-                .map(a -> "• " + a)
-                .collect(Collectors.joining("\n")),
-            80
-        );
-    }
-
-    private String formatEducation(List<EducationDto> education) {
-        return education.stream()
-            .map(edu -> String.format("%s\n%s%s\n%s - %s",
-                edu.institutionName().toUpperCase(),
-                edu.degree(),
-                edu.fieldOfStudy() != null ? " in " + edu.fieldOfStudy() : "",
-                edu.startDate(),
-                edu.endDate()
-            ))
-            .collect(Collectors.joining(SUBSECTION_BREAK));
-    }
-
-    private String formatSkills(List<SkillCategoryDto> skills) {
-        return skills.stream()
-            .map(skill -> String.format("%s:\n%s",
-                skill.categoryName().toUpperCase(),
-                wrapText(
-                    String.join(" • ", skill.skills()),
-                    80
-                )
-            ))
-            .collect(Collectors.joining("\n\n"));
-    }
-
-    private String formatLanguages(List<LanguageDto> languages) {
-        return languages.stream()
-            .map(lang -> String.format("%-15s (%s)", 
-                lang.language(), 
-                lang.proficiency().toString().toLowerCase()))
-            .collect(Collectors.joining("\n"));
-    }
-
-    private String formatHobbies(List<HobbyDto> hobbies) {
-        return hobbies.stream()
-            .map(hobby -> String.format("%s%s",
-                hobby.name(),
-                hobby.description() != null ? ": " + hobby.description() : ""
-            ))
-            .collect(Collectors.joining("\n"));
-    }
-
-    private String wrapText(String text, int lineLength) {
-        StringBuilder sb = new StringBuilder();
+    private void writeTextResume(ResumeDto resume, Writer out) throws IOException {
+        writeCentered(resume.fullName().toUpperCase(), out);
+        writeCentered(resume.professionalTitle(), out);
+        writeSummary(resume.professionalSummary(), out);
+        writeSectionHeading("CONTACT INFORMATION", out);
+        writeContactMethods(resume.contactMethods(), out);
+        writeSectionHeading("PROFESSIONAL EXPERIENCE", out);
+        writeWorkExperiences(resume.workExperiences(), out);
+        writeSectionHeading("EDUCATION", out);
+        writeEducation(resume.educationHistory(), out);
+        writeSectionHeading("TECHNICAL SKILLS", out);
+        writeSkills(resume.skillCategories(), out);
+        writeSectionHeading("LANGUAGES", out);
+        writeLanguages(resume.languages(), out);
+        writeSectionHeading("INTERESTS", out);
+        writeHobbies(resume.hobbies(), out);
+        out.append('\n');
+    }
+
+    private void writeSectionHeading(String title, Writer out) throws IOException {
+        out.append(SECTION_BREAK).append('\n').append(title).append('\n');
+    }
+
+    private void writeCentered(String text, Writer out) throws IOException {
+        writePadded(text, 40 + text.length() / 2, false, out);
+        out.append('\n');
+    }
+
+    private void writeSummary(String summary, Writer out) throws IOException {
+        wrapText(summary != null ? summary : "", LINE_LENGTH, out);
+        out.append('\n');
+    }
+
+    private void writeContactMethods(List<ContactMethodDto> methods, Writer out) throws IOException {
+        for (int i = 0; i < methods.size(); i++) {
+            ContactMethodDto m = methods.get(i);
+            if (i > 0) out.append('\n');
+            writePadded(String.valueOf(m.type()), 10, true, out);
+            out.append(": ").append(m.value());
+        }
+    }
+
+    private void writeWorkExperiences(List<WorkExperienceDto> experiences, Writer out) throws IOException {
+        for (int i = 0; i < experiences.size(); i++) {
+            WorkExperienceDto exp = experiences.get(i);
+            if (i > 0) out.append(SUBSECTION_BREAK);
+            out.append(exp.companyName().toUpperCase()).append('\n')
+                .append(exp.jobTitle()).append('\n')
+                .append(exp.startDate()).append(" - ").append(exp.endDate()).append("\n\n");
+            writeAchievements(exp.keyAchievements(), out);
+        }
+    }
+
+    private void writeAchievements(List<String> achievements, Writer out) throws IOException {
+        // Wrapping runs over the joined bullets, so a job's bullets are joined first
+        StringBuilder bullets = new StringBuilder();
+        for (int i = 0; i < achievements.size(); i++) {
+            if (i > 0) bullets.append('\n');
+            bullets.append("• ").append(achievements.get(i));
+        }
+        wrapText(bullets.toString(), LINE_LENGTH, out);
+    }
+
+    private void writeEducation(List<EducationDto> education, Writer out) throws IOException {
+        for (int i = 0; i < education.size(); i++) {
+            EducationDto edu = education.get(i);
+            if (i > 0) out.append(SUBSECTION_BREAK);
+            out.append(edu.institutionName().toUpperCase()).append('\n')
+                .append(edu.degree());
+            if (edu.fieldOfStudy() != null) {
+                out.append(" in ").append(edu.fieldOfStudy());
+            }
+            out.append('\n').append(edu.startDate()).append(" - ").append(edu.endDate());
+        }
+    }
+
+    private void writeSkills(List<SkillCategoryDto> skills, Writer out) throws IOException {
+        for (int i = 0; i < skills.size(); i++) {
+            SkillCategoryDto skill = skills.get(i);
+            if (i > 0) out.append("\n\n");
+            out.append(skill.categoryName().toUpperCase()).append(":\n");
+            wrapText(String.join(" • ", skill.skills()), LINE_LENGTH, out);
+        }
+    }
+
+    private void writeLanguages(List<LanguageDto> languages, Writer out) throws IOException {
+        for (int i = 0; i < languages.size(); i++) {
+            LanguageDto lang = languages.get(i);
+            if (i > 0) out.append('\n');
+            writePadded(lang.language(), 15, true, out);
+            out.append(" (").append(lang.proficiency().toString().toLowerCase()).append(')');
+        }
+    }
+
+    private void writeHobbies(List<HobbyDto> hobbies, Writer out) throws IOException {
+        for (int i = 0; i < hobbies.size(); i++) {
+            HobbyDto hobby = hobbies.get(i);
+            if (i > 0) out.append('\n');
+            out.append(hobby.name());
+            if (hobby.description() != null) {
+                out.append(": ").append(hobby.description());
+            }
+        }
+    }
+
+    /** Writes text padded with spaces to width, like {@code %-Ns} (left) or {@code %Ns}. */
+    private void writePadded(String text, int width, boolean leftAligned, Writer out) throws IOException {
+        String value = String.valueOf(text);
+        int padding = width - value.length();
+        if (leftAligned) {
+            out.append(value);
+        }
+        for (int i = 0; i < padding; i++) {
+            out.append(' ');
+        }
+        if (!leftAligned) {
+            out.append(value);
+        }
+    }
+
+    private void wrapText(String text, int lineLength, Writer out) throws IOException {
+        int length = text.length();
         int pos = 0;
-        while (pos < text.length()) {
-            int end = Math.min(pos + lineLength, text.length());
-            if (end < text.length()) {
+        while (pos < length) {
+            int end = Math.min(pos + lineLength, length);
+            if (end < length) {
                 int lastSpace = text.lastIndexOf(' ', end);
                 if (lastSpace > pos) end = lastSpace;
             }
-            sb.append(text, pos, end).append("\n");
-            pos = end + (end < text.length() && text.charAt(end) == ' ' ? 1 : 0);
+            out.write(text, pos, end - pos);
+            out.write('\n');
+            pos = end + (end < length && text.charAt(end) == ' ' ? 1 : 0);
         }
-        return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,295 @@
+package org.adeniuobesu.resumegenerator.adapters.snapshot;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.SnapshotFormatException;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary encoding of a {@link ResumeDto}, written and read field by field without
+ * reflection, for resumes that are parsed once and rendered many times.
+ * <p>
+ * A snapshot starts with the bytes {@code RSNP} and its format {@link #VERSION}, followed
+ * by the fields of every record in declaration order. Strings are a byte length and their
+ * UTF-8 bytes, lists an element count and their elements, nested records a presence
+ * marker and their fields, and enums a constant ordinal. Lengths, counts, markers and
+ * ordinals are unsigned LEB128 varints, offset by one so that zero always stands for
+ * {@code null}. A version is therefore tied to the records' fields and to the order of
+ * the {@link ContactTypeDto} and {@link LanguageProficiencyDto} constants: changing
+ * either requires a new version.
+ */
+public final class ResumeSnapshot {
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'R', 'S', 'N', 'P'};
+    private static final int NULL = 0;
+    private static final int PRESENT = 1;
+    private static final ContactTypeDto[] CONTACT_TYPES = ContactTypeDto.values();
+    private static final LanguageProficiencyDto[] PROFICIENCIES = LanguageProficiencyDto.values();
+
+    private ResumeSnapshot() {
+    }
+
+    public static byte[] encode(ResumeDto resume) {
+        Writer writer = new Writer();
+        writer.bytes(MAGIC);
+        writer.varint(VERSION);
+        writer.string(resume.fullName());
+        writer.string(resume.professionalTitle());
+        writer.string(resume.professionalSummary());
+        writer.records(resume.contactMethods(), (out, contact) -> {
+            out.constant(contact.type());
+            out.string(contact.value());
+        });
+        writer.strings(resume.softSkills());
+        writer.records(resume.workExperiences(), (out, work) -> {
+            out.string(work.companyName());
+            out.string(work.jobTitle());
+            out.string(work.startDate());
+            out.string(work.endDate());
+            out.strings(work.keyAchievements());
+        });
+        writer.records(resume.educationHistory(), (out, education) -> {
+            out.string(education.institutionName());
+            out.string(education.degree());
+            out.string(education.fieldOfStudy());
+            out.string(education.startDate());
+            out.string(education.endDate());
+        });
+        writer.records(resume.skillCategories(), (out, category) -> {
+            out.string(category.categoryName());
+            out.strings(category.skills());
+        });
+        writer.records(resume.hobbies(), (out, hobby) -> {
+            out.string(hobby.name());
+            out.string(hobby.description());
+        });
+        writer.records(resume.languages(), (out, language) -> {
+            out.string(language.language());
+            out.constant(language.proficiency());
+        });
+        return writer.toByteArray();
+    }
+
+    public static ResumeDto decode(byte[] snapshot) {
+        Reader reader = new Reader(snapshot);
+        reader.magic();
+        int version = reader.varint();
+        if (version != VERSION) {
+            throw new SnapshotFormatException("unsupported version " + version);
+        }
+        ResumeDto resume = new ResumeDto(
+            reader.string(),
+            reader.string(),
+            reader.string(),
+            reader.records(in -> new ContactMethodDto(in.constant(CONTACT_TYPES), in.string())),
+            reader.strings(),
+            reader.records(in -> new WorkExperienceDto(
+                in.string(), in.string(), in.string(), in.string(), in.strings())),
+            reader.records(in -> new EducationDto(in.string(), in.string(), in.string(), in.string(), in.string())),
+            reader.records(in -> new SkillCategoryDto(in.string(), in.strings())),
+            reader.records(in -> new HobbyDto(in.string(), in.string())),
+            reader.records(in -> new LanguageDto(in.string(), in.constant(PROFICIENCIES))));
+        reader.end();
+        return resume;
+    }
+
+    @FunctionalInterface
+    private interface FieldsWriter<T> {
+        void write(Writer writer, T value);
+    }
+
+    @FunctionalInterface
+    private interface FieldsReader<T> {
+        T read(Reader reader);
+    }
+
+    private static final class Writer {
+        private byte[] buffer = new byte[4096];
+        private int size;
+
+        void bytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void varint(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(NULL);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1);
+            bytes(utf8);
+        }
+
+        void constant(Enum<?> value) {
+            varint(value == null ? NULL : value.ordinal() + 1);
+        }
+
+        void strings(List<String> values) {
+            if (values == null) {
+                varint(NULL);
+                return;
+            }
+            varint(values.size() + 1);
+            for (String value : values) {
+                string(value);
+            }
+        }
+
+        <T> void records(List<T> values, FieldsWriter<T> fields) {
+            if (values == null) {
+                varint(NULL);
+                return;
+            }
+            varint(values.size() + 1);
+            for (T value : values) {
+                if (value == null) {
+                    varint(NULL);
+                } else {
+                    varint(PRESENT);
+                    fields.write(this, value);
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        void magic() {
+            if (data.length < MAGIC.length || !Arrays.equals(data, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+                throw new SnapshotFormatException("not a resume snapshot");
+            }
+            position = MAGIC.length;
+        }
+
+        /** A non-negative {@code int}: the fifth byte, if any, holds its top four bits. */
+        int varint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position == data.length) {
+                    throw truncated();
+                }
+                byte b = data[position++];
+                if (shift == 28 && (b & 0xF0) != 0) {
+                    break;
+                }
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new SnapshotFormatException("malformed varint at byte " + position);
+        }
+
+        String string() {
+            int length = varint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > data.length - position) {
+                throw truncated();
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        <E extends Enum<E>> E constant(E[] constants) {
+            int ordinal = varint() - 1;
+            if (ordinal < 0) {
+                return null;
+            }
+            if (ordinal >= constants.length) {
+                throw new SnapshotFormatException("unknown " + constants[0].getDeclaringClass().getSimpleName()
+                    + " ordinal " + ordinal);
+            }
+            return constants[ordinal];
+        }
+
+        List<String> strings() {
+            int count = count();
+            if (count < 0) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(string());
+            }
+            return values;
+        }
+
+        <T> List<T> records(FieldsReader<T> fields) {
+            int count = count();
+            if (count < 0) {
+                return null;
+            }
+            List<T> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(present() ? fields.read(this) : null);
+            }
+            return values;
+        }
+
+        private boolean present() {
+            int marker = varint();
+            if (marker != NULL && marker != PRESENT) {
+                throw new SnapshotFormatException("invalid presence marker " + marker + " at byte " + position);
+            }
+            return marker == PRESENT;
+        }
+
+        /** A list's element count, or -1 for {@code null}. */
+        private int count() {
+            int count = varint() - 1;
+            // Every element takes at least one byte, which bounds what corrupt input can allocate
+            if (count > data.length - position) {
+                throw truncated();
+            }
+            return count;
+        }
+
+        void end() {
+            if (position != data.length) {
+                throw new SnapshotFormatException((data.length - position) + " trailing bytes");
+            }
+        }
+
+        private SnapshotFormatException truncated() {
+            return new SnapshotFormatException("truncated at byte " + position);
+        }
+    }
+}
@@ -1,8 +1,38 @@
 package org.adeniuobesu.resumegenerator.application.ports;
 
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
 
 public interface OutputStrategy<T> {
     void generate(T data, OutputStream os) throws OutputProcessingException;
+
+    /**
+     * Writes the same bytes as {@link #generate(Object, OutputStream)} to a channel, such
+     * as an open file, which is left open. The default adapts the channel to a stream;
+     * strategies that can hand it buffers of their own, without copying them to the heap
+     * and back, override it.
+     */
+    default void generate(T data, WritableByteChannel channel) throws OutputProcessingException {
+        generate(data, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Identifies what this strategy produces: equal ids must mean equal bytes for
+     * equal data. Caches key stored renderings on it, so implementations include
+     * their configuration and change the id whenever their output changes.
+     */
+    default String renderingId() {
+        return getClass().getName();
+    }
+
+    /**
+     * This strategy as it stands for one render, whose {@link #renderingId()} matches
+     * every byte it then generates. The default is the strategy itself; one whose output
+     * follows a file that can change between calls returns a view of its current version.
+     */
+    default OutputStrategy<T> pinned() {
+        return this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package org.adeniuobesu.resumegenerator.application.ports;
+
+import java.io.OutputStream;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
+
+/**
+ * Stores finished renderings, keyed by the content of the resume and by the
+ * {@link OutputStrategy#renderingId() rendering} that produced them.
+ * <p>
+ * Implementations must be safe for concurrent use. A cache that fails to store
+ * a rendering must never fail the render itself.
+ */
+public interface RenderCache {
+
+    /**
+     * @param resume Collected resume data
+     * @return A digest that is equal for resumes with equal content
+     */
+    String fingerprint(ResumeDto resume);
+
+    /**
+     * Copies a stored rendering to the given stream
+     * @return false on a miss, before anything is written
+     * @throws OutputProcessingException if the stored bytes cannot be delivered
+     */
+    boolean copyTo(String fingerprint, String renderingId, OutputStream os) throws OutputProcessingException;
+
+    /**
+     * Starts recording a rendering that is being written to {@code target}.
+     * Nothing becomes visible to readers before {@link Recording#commit()}.
+     */
+    Recording record(String fingerprint, String renderingId, OutputStream target);
+
+    interface Recording {
+        /** Writes through to the target and into the pending entry. */
+        OutputStream stream();
+
+        /** Publishes the entry; called once the rendering completed. */
+        void commit();
+
+        /** Drops the pending entry; called when the rendering failed. */
+        void discard();
+    }
+}
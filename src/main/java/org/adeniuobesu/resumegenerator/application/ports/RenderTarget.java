@@ -0,0 +1,33 @@
+package org.adeniuobesu.resumegenerator.application.ports;
+
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Where one exporter writes a rendering: a stream, and for an output opened as a
+ * channel, that channel as well, which the stream writes to.
+ * <p>
+ * An exporter is handed the channel when there is one, through
+ * {@link OutputStrategy#generate(Object, WritableByteChannel)}, and the stream otherwise.
+ * A render that is recorded into a {@link RenderCache} always writes the stream, which
+ * the recording copies from.
+ *
+ * @param channel The channel under {@code stream}, or {@code null}
+ */
+public record RenderTarget(OutputStream stream, WritableByteChannel channel) {
+
+    public RenderTarget {
+        Objects.requireNonNull(stream, "stream");
+    }
+
+    public static RenderTarget of(OutputStream stream) {
+        return new RenderTarget(stream, null);
+    }
+
+    /** A channel, with a stream onto it; closing either closes the channel. */
+    public static RenderTarget of(WritableByteChannel channel) {
+        return new RenderTarget(Channels.newOutputStream(channel), channel);
+    }
+}
@@ -0,0 +1,29 @@
+package org.adeniuobesu.resumegenerator.application.ports;
+
+import java.util.stream.Stream;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+
+/**
+ * An input holding many values, such as one resume per line of an export file.
+ * <p>
+ * Records are read lazily and each one is only parsed when it is collected, so a
+ * consumer holds as many records in memory as it has in flight. Because collecting is
+ * separate from reading, records may be handed to other threads and parsed in parallel;
+ * a record that fails to parse never affects the others.
+ */
+public interface StreamingInputStrategy<T> {
+
+    /**
+     * Opens the records in source order. Closing the stream releases the source.
+     */
+    Stream<Record<T>> records() throws InputProcessingException;
+
+    /**
+     * One value of a streaming input, parsed by {@link #collectData()}. A record is
+     * collected at most once, after which its source may release the record's bytes.
+     */
+    interface Record<T> extends InputStrategy<T> {
+        /** 1-based position of the record in its source, e.g. its line number. */
+        long position();
+    }
+}
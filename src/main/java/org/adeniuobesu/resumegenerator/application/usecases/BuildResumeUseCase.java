@@ -1,6 +1,11 @@
 package org.adeniuobesu.resumegenerator.application.usecases;
 
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
 import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
 import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
 import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
@@ -8,6 +13,8 @@ import org.adeniuobesu.resumegenerator.application.exceptions.ResumeGenerationEx
 import org.adeniuobesu.resumegenerator.application.mappers.ResumeMapper;
 import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
 import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
 import org.adeniuobesu.resumegenerator.core.models.Resume;
 import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
 import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
@@ -16,39 +23,216 @@ public class BuildResumeUseCase {
     private final InputStrategy<ResumeDto> input;
     private final OutputStrategy<ResumeDto> output;
     private final ResumeValidator validator;
+    private final RenderCache cache;
 
     public BuildResumeUseCase(
         InputStrategy<ResumeDto> input,
         OutputStrategy<ResumeDto> output,
         ResumeValidator validator) {
+        this(input, output, validator, null);
+    }
+
+    private BuildResumeUseCase(
+        InputStrategy<ResumeDto> input,
+        OutputStrategy<ResumeDto> output,
+        ResumeValidator validator,
+        RenderCache cache) {
         this.input = input;
         this.output = output;
         this.validator = validator;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a pipeline without a bound input, to be reused across many
+     * inputs through {@link #execute(InputStrategy, OutputStream)}.
+     */
+    public BuildResumeUseCase(
+        OutputStrategy<ResumeDto> output,
+        ResumeValidator validator) {
+        this(null, output, validator);
+    }
+
+    /**
+     * Creates a pipeline without bound input or output, to be used with
+     * {@link #execute(InputStrategy, Map)}.
+     */
+    public BuildResumeUseCase(ResumeValidator validator) {
+        this(null, null, validator, null);
+    }
+
+    /**
+     * Creates a pipeline like {@link #BuildResumeUseCase(ResumeValidator)} that serves
+     * renderings already in the cache without mapping, validating or exporting,
+     * and stores the ones it produces.
+     */
+    public BuildResumeUseCase(ResumeValidator validator, RenderCache cache) {
+        this(null, null, validator, cache);
     }
 
     public void execute(OutputStream os) throws ResumeGenerationException {
+        if (input == null) {
+            throw new IllegalStateException("No input strategy bound to this use case");
+        }
+        execute(input, os);
+    }
+
+    public void execute(InputStrategy<ResumeDto> source, OutputStream os) throws ResumeGenerationException {
+        if (output == null) {
+            throw new IllegalStateException("No output strategy bound to this use case");
+        }
+        execute(source, Map.of(output, RenderTarget.of(os)));
+    }
+
+    /**
+     * Collects, maps and validates the resume once, then hands the validated DTO
+     * to every target. With several targets the exporters run concurrently, in the
+     * current fork-join pool when called from one, otherwise in the common pool.
+     * A failing exporter does not stop the others; the first failure is thrown once
+     * they have all finished.
+     *
+     * @param source Where the resume is read from
+     * @param targets Each exporter with where it writes, see {@link RenderTarget}
+     * @throws ResumeGenerationException if any step fails
+     */
+    public void execute(InputStrategy<ResumeDto> source,
+                        Map<OutputStrategy<ResumeDto>, RenderTarget> targets)
+            throws ResumeGenerationException {
         try {
             // 1. Input (DTO depuis l'adapter)
-            ResumeDto resumeDto = input.collectData();
+            ResumeDto resumeDto = source.collectData();
+
+            // 2. Rendus déjà en cache (seules les sorties validées y sont stockées)
+            String fingerprint = cache != null ? cache.fingerprint(resumeDto) : null;
+            Map<OutputStrategy<ResumeDto>, RenderTarget> pending = serveFromCache(fingerprint, pin(targets));
+            if (pending.isEmpty()) {
+                return;
+            }
 
-            // 2. Mapping vers domaine
+            // 3. Mapping vers domaine
             Resume resume = ResumeMapper.toDomain(resumeDto);
 
-            // 3. Validation métier
+            // 4. Validation métier
             validator.validate(resume);
 
-            // 4. Mapping inverse vers DTO
+            // 5. Mapping inverse vers DTO
             ResumeDto validatedDto = ResumeMapper.toDto(resume);
 
-            // 5. Output (DTO vers l'adapter)
-            output.generate(validatedDto, os);
+            // 6. Output (DTO vers les adapters)
+            generateAll(validatedDto, pending, fingerprint);
 
         } catch (InvalidResumeException e) {
-            throw new ResumeGenerationException("validation: " + e.getMessage(), e);
+            throw validationFailure(e);
         } catch (InputProcessingException e) {
             throw new ResumeGenerationException("input collection", e);
         } catch (OutputProcessingException e) {
             throw new ResumeGenerationException("output generation", e);
         }
     }
+
+    /**
+     * Collects, maps and validates the resume without exporting it, for exporters that
+     * combine many resumes into one document.
+     *
+     * @return The validated DTO
+     * @throws ResumeGenerationException if collection or validation fails
+     */
+    public ResumeDto prepare(InputStrategy<ResumeDto> source) throws ResumeGenerationException {
+        try {
+            Resume resume = ResumeMapper.toDomain(source.collectData());
+            validator.validate(resume);
+            return ResumeMapper.toDto(resume);
+        } catch (InvalidResumeException e) {
+            throw validationFailure(e);
+        } catch (InputProcessingException e) {
+            throw new ResumeGenerationException("input collection", e);
+        }
+    }
+
+    private static ResumeGenerationException validationFailure(InvalidResumeException e) {
+        // A collected report is listed by the cause; keep the step on one line
+        String step = e.getViolations().isEmpty()
+            ? "validation: " + e.getMessage()
+            : String.format("validation (%d violations)", e.getViolations().size());
+        return new ResumeGenerationException(step, e);
+    }
+
+    /** Fixes each exporter for this render, so that its cache key and its output agree. */
+    private static Map<OutputStrategy<ResumeDto>, RenderTarget> pin(
+            Map<OutputStrategy<ResumeDto>, RenderTarget> targets) {
+        Map<OutputStrategy<ResumeDto>, RenderTarget> pinned = new LinkedHashMap<>();
+        targets.forEach((strategy, target) -> pinned.put(strategy.pinned(), target));
+        return pinned;
+    }
+
+    /** Copies cached renderings to their targets and returns the targets still to render. */
+    private Map<OutputStrategy<ResumeDto>, RenderTarget> serveFromCache(
+            String fingerprint, Map<OutputStrategy<ResumeDto>, RenderTarget> targets) {
+        Map<OutputStrategy<ResumeDto>, RenderTarget> pending = new LinkedHashMap<>(targets);
+        if (cache != null) {
+            pending.entrySet().removeIf(target ->
+                cache.copyTo(fingerprint, target.getKey().renderingId(), target.getValue().stream()));
+        }
+        return pending;
+    }
+
+    private void generateAll(ResumeDto resume,
+                             Map<OutputStrategy<ResumeDto>, RenderTarget> targets,
+                             String fingerprint) {
+        if (targets.size() == 1) {
+            targets.forEach((strategy, target) -> generate(strategy, resume, target, fingerprint));
+            return;
+        }
+
+        // Every export runs to the end, so one failure leaves the other targets complete
+        List<ForkJoinTask<?>> exports = new ArrayList<>(targets.size());
+        targets.forEach((strategy, target) ->
+            exports.add(ForkJoinTask.adapt(() -> generate(strategy, resume, target, fingerprint)))
+        );
+        // Like invokeAll, the calling thread runs the first export itself
+        for (int i = 1; i < exports.size(); i++) {
+            exports.get(i).fork();
+        }
+        RuntimeException failure = null;
+        for (int i = 0; i < exports.size(); i++) {
+            try {
+                if (i == 0) {
+                    exports.get(i).invoke();
+                } else {
+                    exports.get(i).join();
+                }
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void generate(OutputStrategy<ResumeDto> strategy, ResumeDto resume,
+                          RenderTarget target, String fingerprint) {
+        if (cache == null) {
+            if (target.channel() != null) {
+                strategy.generate(resume, target.channel());
+            } else {
+                strategy.generate(resume, target.stream());
+            }
+            return;
+        }
+
+        // The recording copies what the strategy writes, so a channel target gets a stream too
+        RenderCache.Recording recording = cache.record(fingerprint, strategy.renderingId(), target.stream());
+        try {
+            strategy.generate(resume, recording.stream());
+        } catch (RuntimeException e) {
+            recording.discard();
+            throw e;
+        }
+        recording.commit();
+    }
 }
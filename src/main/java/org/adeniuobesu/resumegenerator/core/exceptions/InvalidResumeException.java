@@ -1,13 +1,26 @@
 package org.adeniuobesu.resumegenerator.core.exceptions;
 
+import java.util.List;
+
 // When resume validation fails business rules
 public class InvalidResumeException extends DomainException {
-    private String field;
-    private String violation;
+    private final String field;
+    private final String violation;
+    private final List<ValidationViolation> violations;
 
     public InvalidResumeException(String field, String violation) {
         super(String.format("Invalid resume: %s - %s", field, violation));
         this.field = field;
+        this.violation = violation;
+        this.violations = List.of();
+    }
+
+    // Thrown once for a whole collecting pass; field and violation describe the first entry
+    public InvalidResumeException(List<ValidationViolation> violations) {
+        super(describe(violations));
+        this.field = violations.get(0).field();
+        this.violation = violations.get(0).violation();
+        this.violations = List.copyOf(violations);
     }
 
     public String getField() {
@@ -16,4 +29,17 @@ public class InvalidResumeException extends DomainException {
     public String getViolation() {
         return violation;
     }
+    // Empty when thrown by a fail-fast pass
+    public List<ValidationViolation> getViolations() {
+        return violations;
+    }
+
+    private static String describe(List<ValidationViolation> violations) {
+        StringBuilder message = new StringBuilder(
+            String.format("Invalid resume: %d violation(s)", violations.size()));
+        for (ValidationViolation violation : violations) {
+            message.append(System.lineSeparator()).append("  - ").append(violation);
+        }
+        return message.toString();
+    }
 }
@@ -0,0 +1,16 @@
+package org.adeniuobesu.resumegenerator.core.exceptions;
+
+/**
+ * One failed business rule, as reported by a collecting validation pass.
+ *
+ * @param path Location of the offending entity, e.g. {@code resume.workExperiences[2]}
+ * @param field Human-readable name of the failing field
+ * @param violation What is wrong with it
+ */
+public record ValidationViolation(String path, String field, String violation) {
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s - %s", path, field, violation);
+    }
+}
@@ -30,8 +30,14 @@ public final class ContactMethodValidator {
     );
 
     public static void validate(ContactMethod contact) {
-        ValidationUtils.requireNonNull(contact, "Contact method");
-        ValidationUtils.requireNonNull(contact.type(), "Contact type");
+        validate(contact, ValidationContext.failFast());
+    }
+
+    public static void validate(ContactMethod contact, ValidationContext context) {
+        if (!ValidationUtils.requireNonNull(contact, "Contact method", context)
+            || !ValidationUtils.requireNonNull(contact.type(), "Contact type", context)) {
+            return;
+        }
         
         final String fieldName = FIELD_NAMES.getOrDefault(
             contact.type(), 
@@ -44,19 +50,23 @@ public final class ContactMethodValidator {
                 contact.value(), 
                 fieldName, 
                 2, 
-                MAX_LENGTHS.get(contact.type())
+                MAX_LENGTHS.get(contact.type()),
+                context
             );
             return;
         }
 
         // Standard validation for other types
-        ValidationUtils.validateString(contact.value(), fieldName, 3, 200);
+        if (!ValidationUtils.validateString(contact.value(), fieldName, 3, 200, context)) {
+            return;
+        }
         
         if (VALIDATION_RULES.containsKey(contact.type())) {
             ValidationUtils.validatePattern(
                 contact.value(),
                 fieldName,
-                VALIDATION_RULES.get(contact.type())
+                VALIDATION_RULES.get(contact.type()),
+                context
             );
         }
     }
@@ -1,6 +1,5 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
-import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
 import org.adeniuobesu.resumegenerator.core.models.Education;
 
 public final class EducationValidator {
@@ -16,53 +15,63 @@ public final class EducationValidator {
     private EducationValidator() {}
 
     public static void validate(Education education) {
+        validate(education, ValidationContext.failFast());
+    }
+
+    public static void validate(Education education, ValidationContext context) {
         if (education == null) {
-            throw new InvalidResumeException("Education", "cannot be null");
+            context.report("Education", "cannot be null");
+            return;
         }
         
-        validateInstitution(education.institutionName());
-        validateDegree(education.degree());
-        validateFieldOfStudy(education.fieldOfStudy());
-        validateDates(education.startDate(), education.endDate(), education.institutionName());
+        validateInstitution(education.institutionName(), context);
+        validateDegree(education.degree(), context);
+        validateFieldOfStudy(education.fieldOfStudy(), context);
+        validateDates(education.startDate(), education.endDate(), education.institutionName(), context);
     }
 
-    private static void validateInstitution(String institution) {
+    private static void validateInstitution(String institution, ValidationContext context) {
         ValidationUtils.validateString(
             institution,
             "Institution name",
             MIN_INSTITUTION_LENGTH,
-            MAX_INSTITUTION_LENGTH
+            MAX_INSTITUTION_LENGTH,
+            context
         );
     }
 
-    private static void validateDegree(String degree) {
+    private static void validateDegree(String degree, ValidationContext context) {
         ValidationUtils.validateString(
             degree,
             "Degree",
             MIN_DEGREE_LENGTH,
-            MAX_DEGREE_LENGTH
+            MAX_DEGREE_LENGTH,
+            context
         );
     }
 
-    private static void validateFieldOfStudy(String fieldOfStudy) {
+    private static void validateFieldOfStudy(String fieldOfStudy, ValidationContext context) {
         if (fieldOfStudy != null) {
             ValidationUtils.validateString(
                 fieldOfStudy,
                 "Field of study",
                 MIN_FIELD_OF_STUDY_LENGTH,
-                MAX_FIELD_OF_STUDY_LENGTH
+                MAX_FIELD_OF_STUDY_LENGTH,
+                context
             );
         }
     }
 
-    private static void validateDates(String startDate, String endDate, String institutionName) {
-        ValidationUtils.validateIsoDate(startDate, "Start date");
+    private static void validateDates(String startDate, String endDate, String institutionName,
+                                      ValidationContext context) {
+        boolean startValid = ValidationUtils.validateIsoDate(startDate, "Start date", context);
         
         if (endDate != null) {
-            ValidationUtils.validateIsoDate(endDate, "End date");
+            boolean endValid = ValidationUtils.validateIsoDate(endDate, "End date", context);
             
-            if (endDate.compareTo(startDate) < 0) {
-                throw new InvalidResumeException(
+            // Order is only meaningful once both dates are well-formed
+            if (startValid && endValid && endDate.compareTo(startDate) < 0) {
+                context.report(
                     "Education dates",
                     String.format("End date cannot be before start date for %s", institutionName)
                 );
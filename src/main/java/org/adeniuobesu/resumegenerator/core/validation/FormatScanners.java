@@ -0,0 +1,155 @@
+package org.adeniuobesu.resumegenerator.core.validation;
+
+/**
+ * Hand-written, single-pass recognisers for the formats in
+ * {@link ValidationUtils#REGEX_PATTERNS}. Each method accepts exactly the strings
+ * the corresponding regular expression matches with {@link String#matches}, but
+ * runs in linear time without compiling a pattern or allocating.
+ */
+final class FormatScanners {
+    private static final String HTTPS = "https://";
+    private static final String HTTP = "http://";
+    private static final String FTP = "ftp://";
+    private static final int MIN_PHONE_LENGTH = 8;
+    private static final int MAX_PHONE_LENGTH = 20;
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int YEAR_MONTH_LENGTH = 7;
+
+    // Prevent instantiation
+    private FormatScanners() {}
+
+    /** {@code ^[\w.-]+@[\w.-]+\.[a-zA-Z]{2,}$} */
+    static boolean isEmail(String value) {
+        int at = value.indexOf('@');
+        if (at <= 0) {
+            return false;
+        }
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (!isWordChar(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+
+        int length = value.length();
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isWordChar(c) && c != '-') {
+                return false;
+            }
+        }
+
+        // At least one domain character before the dot, at least two letters after it
+        if (lastDot < at + 2 || length - lastDot - 1 < MIN_TLD_LENGTH) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@code ^[+\d\s()-]{8,20}$} */
+    static boolean isPhone(String value) {
+        int length = value.length();
+        if (length < MIN_PHONE_LENGTH || length > MAX_PHONE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiDigit(c) && !isWhitespace(c) && c != '+' && c != '(' && c != ')' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@code ^(https?|ftp)://[^\s/$.?#].[^\s]*$} */
+    static boolean isUrl(String value) {
+        int pos;
+        if (value.startsWith(HTTPS)) {
+            pos = HTTPS.length();
+        } else if (value.startsWith(HTTP)) {
+            pos = HTTP.length();
+        } else if (value.startsWith(FTP)) {
+            pos = FTP.length();
+        } else {
+            return false;
+        }
+
+        // The regex engine works on code points, so the two single-character
+        // positions must consume a whole surrogate pair when one is present
+        int length = value.length();
+        if (pos >= length) {
+            return false;
+        }
+        int first = value.codePointAt(pos);
+        if (isWhitespace(first) || first == '/' || first == '$' || first == '.' || first == '?' || first == '#') {
+            return false;
+        }
+        pos += Character.charCount(first);
+
+        if (pos >= length) {
+            return false;
+        }
+        int second = value.codePointAt(pos);
+        if (isLineTerminator(second)) {
+            return false;
+        }
+        pos += Character.charCount(second);
+
+        for (; pos < length; pos++) {
+            if (isWhitespace(value.charAt(pos))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@code ^\d{4}-\d{2}$} */
+    static boolean isYearMonthShape(String value) {
+        if (value.length() != YEAR_MONTH_LENGTH || value.charAt(4) != '-') {
+            return false;
+        }
+        return isAsciiDigit(value.charAt(0)) && isAsciiDigit(value.charAt(1))
+            && isAsciiDigit(value.charAt(2)) && isAsciiDigit(value.charAt(3))
+            && isAsciiDigit(value.charAt(5)) && isAsciiDigit(value.charAt(6));
+    }
+
+    /** {@code ^\d{4}-(0[1-9]|1[0-2])$} */
+    static boolean isYearMonth(String value) {
+        if (!isYearMonthShape(value)) {
+            return false;
+        }
+        int month = (value.charAt(5) - '0') * 10 + (value.charAt(6) - '0');
+        return month >= 1 && month <= 12;
+    }
+
+    /** {@code \w} without {@code UNICODE_CHARACTER_CLASS}: {@code [a-zA-Z_0-9]} */
+    private static boolean isWordChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** {@code \s} without {@code UNICODE_CHARACTER_CLASS}: {@code [ \t\n\x0B\f\r]} */
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /** Characters that {@code .} does not match without {@code DOTALL}. */
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -9,14 +9,21 @@ public final class HobbyValidator {
     private static final int MAX_DESCRIPTION_LENGTH = 150;
 
     public static void validate(Hobby hobby) {
-        ValidationUtils.requireNonNull(hobby, "Hobby entry");
+        validate(hobby, ValidationContext.failFast());
+    }
+
+    public static void validate(Hobby hobby, ValidationContext context) {
+        if (!ValidationUtils.requireNonNull(hobby, "Hobby entry", context)) {
+            return;
+        }
 
         // Name validation
         ValidationUtils.validateString(
             hobby.name(),
             "Hobby name",
             MIN_HOBBY_NAME_LENGTH,
-            MAX_HOBBY_NAME_LENGTH
+            MAX_HOBBY_NAME_LENGTH,
+            context
         );
 
         // Optional description validation
@@ -25,7 +32,8 @@ public final class HobbyValidator {
                 hobby.description(),
                 "Hobby description",
                 10,  // Minimum description length
-                MAX_DESCRIPTION_LENGTH
+                MAX_DESCRIPTION_LENGTH,
+                context
             );
         }
     }
@@ -8,20 +8,28 @@ public final class LanguageValidator {
     private static final int MAX_LANGUAGE_LENGTH = 30;
 
     public static void validate(Language language) {
-        ValidationUtils.requireNonNull(language, "Language entry");
+        validate(language, ValidationContext.failFast());
+    }
+
+    public static void validate(Language language, ValidationContext context) {
+        if (!ValidationUtils.requireNonNull(language, "Language entry", context)) {
+            return;
+        }
 
         // Language name validation
         ValidationUtils.validateString(
             language.language(),
             "Language name",
             MIN_LANGUAGE_LENGTH,
-            MAX_LANGUAGE_LENGTH
+            MAX_LANGUAGE_LENGTH,
+            context
         );
 
         // Proficiency validation
         ValidationUtils.requireNonNull(
             language.proficiency(),
-            "Language proficiency"
+            "Language proficiency",
+            context
         );
     }
 }
\ No newline at end of file
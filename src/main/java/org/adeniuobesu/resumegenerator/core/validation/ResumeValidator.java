@@ -1,7 +1,10 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
+import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
+import org.adeniuobesu.resumegenerator.core.exceptions.ValidationViolation;
 import org.adeniuobesu.resumegenerator.core.models.Resume;
 
 public final class ResumeValidator {
@@ -25,29 +28,69 @@ public final class ResumeValidator {
     private static final String EDUCATION_HISTORY_FIELD = "Education history";
     private static final String LANGUAGES_FIELD = "Languages";
 
-    public ResumeValidator() {}
+    private final ValidationMode mode;
 
+    public ResumeValidator() {
+        this(ValidationMode.FAIL_FAST);
+    }
+
+    public ResumeValidator(ValidationMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Validates the resume according to this validator's mode
+     * @param resume The resume to validate
+     * @throws InvalidResumeException at the first failing rule in {@link ValidationMode#FAIL_FAST};
+     *         once, carrying every violation, in {@link ValidationMode#COLLECT_ALL}
+     */
     public void validate(Resume resume) {
-        validateRequiredFields(resume);
-        validateCollections(resume);
-        validateNestedEntities(resume);
+        if (mode == ValidationMode.FAIL_FAST) {
+            validate(resume, ValidationContext.failFast());
+            return;
+        }
+
+        List<ValidationViolation> violations = collectViolations(resume);
+        if (!violations.isEmpty()) {
+            throw new InvalidResumeException(violations);
+        }
     }
 
-    private static void validateRequiredFields(Resume resume) {
-        ValidationUtils.requireNonNull(resume, RESUME_FIELD);
-        
+    /**
+     * Walks the whole resume without throwing
+     * @param resume The resume to validate
+     * @return Every violation found, in document order; empty if the resume is valid
+     */
+    public List<ValidationViolation> collectViolations(Resume resume) {
+        ValidationContext context = ValidationContext.collecting();
+        validate(resume, context);
+        return context.violations();
+    }
+
+    private static void validate(Resume resume, ValidationContext context) {
+        if (!ValidationUtils.requireNonNull(resume, RESUME_FIELD, context)) {
+            return;
+        }
+        validateRequiredFields(resume, context);
+        validateCollections(resume, context);
+        validateNestedEntities(resume, context);
+    }
+
+    private static void validateRequiredFields(Resume resume, ValidationContext context) {
         ValidationUtils.validateString(
             resume.fullName(),
             FULL_NAME_FIELD,
             MIN_NAME_LENGTH,
-            MAX_NAME_LENGTH
+            MAX_NAME_LENGTH,
+            context
         );
         
         ValidationUtils.validateString(
             resume.professionalTitle(),
             PROFESSIONAL_TITLE_FIELD,
             MIN_TITLE_LENGTH,
-            MAX_TITLE_LENGTH
+            MAX_TITLE_LENGTH,
+            context
         );
         
         if (resume.professionalSummary() != null) {
@@ -55,60 +98,64 @@ public final class ResumeValidator {
                 resume.professionalSummary(),
                 PROFESSIONAL_SUMMARY_FIELD,
                 MIN_SUMMARY_LENGTH,
-                MAX_SUMMARY_LENGTH
+                MAX_SUMMARY_LENGTH,
+                context
             );
         }
     }
 
-    private static void validateCollections(Resume resume) {
+    private static void validateCollections(Resume resume, ValidationContext context) {
         ValidationUtils.validateMinSize(
             resume.contactMethods(),
             MIN_CONTACT_METHODS,
-            CONTACT_METHODS_FIELD
+            CONTACT_METHODS_FIELD,
+            context
         );
         
         ValidationUtils.validateMinSize(
             resume.workExperiences(),
             MIN_RESUME_ITEMS,
-            WORK_EXPERIENCES_FIELD
+            WORK_EXPERIENCES_FIELD,
+            context
         );
         
-        validateOptionalCollection(resume.educationHistory(), EDUCATION_HISTORY_FIELD);
-        validateOptionalCollection(resume.languages(), LANGUAGES_FIELD);
+        validateOptionalCollection(resume.educationHistory(), EDUCATION_HISTORY_FIELD, context);
+        validateOptionalCollection(resume.languages(), LANGUAGES_FIELD, context);
     }
 
-    private static void validateOptionalCollection(List<?> collection, String fieldName) {
+    private static void validateOptionalCollection(List<?> collection, String fieldName,
+                                                   ValidationContext context) {
         if (collection != null && !collection.isEmpty()) {
             ValidationUtils.validateMinSize(
                 collection,
                 MIN_RESUME_ITEMS,
-                fieldName
+                fieldName,
+                context
             );
         }
     }
 
-    private static void validateNestedEntities(Resume resume) {
-        resume.contactMethods().forEach(ContactMethodValidator::validate);
-        resume.workExperiences().forEach(WorkExperienceValidator::validate);
-        
-        if (resume.educationHistory() != null) {
-            resume.educationHistory().forEach(EducationValidator::validate);
-        }
-        
-        if (resume.skillCategories() != null) {
-            resume.skillCategories().forEach(SkillCategoryValidator::validate);
-        }
-        
-        if (resume.languages() != null) {
-            resume.languages().forEach(LanguageValidator::validate);
-        }
-        
-        if (resume.hobbies() != null) {
-            resume.hobbies().forEach(HobbyValidator::validate);
+    // Missing required lists were reported by validateCollections
+    private static void validateNestedEntities(Resume resume, ValidationContext context) {
+        validateEach(resume.contactMethods(), "contactMethods", ContactMethodValidator::validate, context);
+        validateEach(resume.workExperiences(), "workExperiences", WorkExperienceValidator::validate, context);
+        validateEach(resume.educationHistory(), "educationHistory", EducationValidator::validate, context);
+        validateEach(resume.skillCategories(), "skillCategories", SkillCategoryValidator::validate, context);
+        validateEach(resume.languages(), "languages", LanguageValidator::validate, context);
+        validateEach(resume.hobbies(), "hobbies", HobbyValidator::validate, context);
+        SoftSkillsValidator.validate(resume.softSkills(), context);
+    }
+
+    private static <T> void validateEach(List<T> items, String property,
+                                         BiConsumer<T, ValidationContext> validator,
+                                         ValidationContext context) {
+        if (items == null) {
+            return;
         }
-        
-        if (resume.softSkills() != null) {
-            SoftSkillsValidator.validate(resume.softSkills());
+        for (int i = 0; i < items.size(); i++) {
+            context.enter(property, i);
+            validator.accept(items.get(i), context);
+            context.leave();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
-import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
 import org.adeniuobesu.resumegenerator.core.models.SkillCategory;
 
 import java.util.List;
@@ -20,64 +19,81 @@ public final class SkillCategoryValidator {
     private SkillCategoryValidator() {}
 
     public static void validate(SkillCategory category) {
+        validate(category, ValidationContext.failFast());
+    }
+
+    public static void validate(SkillCategory category, ValidationContext context) {
         if (category == null) {
-            throw new InvalidResumeException(CATEGORY_FIELD, "cannot be null");
+            context.report(CATEGORY_FIELD, "cannot be null");
+            return;
         }
 
-        validateCategoryName(category.categoryName());
-        validateSkills(category.skills());
+        validateCategoryName(category.categoryName(), context);
+        validateSkills(category.skills(), context);
     }
 
-    private static void validateCategoryName(String categoryName) {
+    private static void validateCategoryName(String categoryName, ValidationContext context) {
         ValidationUtils.validateString(
             categoryName,
             CATEGORY_FIELD,
             MIN_CATEGORY_LENGTH,
-            MAX_CATEGORY_LENGTH
+            MAX_CATEGORY_LENGTH,
+            context
         );
     }
 
-    private static void validateSkills(List<String> skills) {
-        validateSkillsListNotEmpty(skills);
-        validateSkillsListSize(skills);
-        validateEachSkill(skills);
-        validateNoDuplicateSkills(skills);
+    private static void validateSkills(List<String> skills, ValidationContext context) {
+        if (!validateSkillsListNotEmpty(skills, context)) {
+            return;
+        }
+        validateSkillsListSize(skills, context);
+        boolean allValid = validateEachSkill(skills, context);
+        // Invalid entries (e.g. null) are already reported and cannot be compared
+        if (allValid) {
+            validateNoDuplicateSkills(skills, context);
+        }
     }
 
-    private static void validateSkillsListNotEmpty(List<String> skills) {
+    private static boolean validateSkillsListNotEmpty(List<String> skills, ValidationContext context) {
         if (skills == null || skills.isEmpty()) {
-            throw new InvalidResumeException(SKILLS_FIELD, "cannot be empty");
+            return context.report(SKILLS_FIELD, "cannot be empty");
         }
+        return true;
     }
 
-    private static void validateSkillsListSize(List<String> skills) {
+    private static void validateSkillsListSize(List<String> skills, ValidationContext context) {
         if (skills.size() > MAX_SKILLS_PER_CATEGORY) {
-            throw new InvalidResumeException(
+            context.report(
                 SKILLS_FIELD,
                 String.format("exceeds maximum of %d skills", MAX_SKILLS_PER_CATEGORY)
             );
         }
     }
 
-    private static void validateEachSkill(List<String> skills) {
-        skills.forEach(skill -> 
-            ValidationUtils.validateString(
-                skill,
+    private static boolean validateEachSkill(List<String> skills, ValidationContext context) {
+        boolean allValid = true;
+        for (int i = 0; i < skills.size(); i++) {
+            context.enter("skills", i);
+            allValid &= ValidationUtils.validateString(
+                skills.get(i),
                 SKILL_FIELD,
                 MIN_SKILL_LENGTH,
-                MAX_SKILL_LENGTH
-            )
-        );
+                MAX_SKILL_LENGTH,
+                context
+            );
+            context.leave();
+        }
+        return allValid;
     }
 
-    private static void validateNoDuplicateSkills(List<String> skills) {
+    private static void validateNoDuplicateSkills(List<String> skills, ValidationContext context) {
         long uniqueSkills = skills.stream()
             .map(String::toLowerCase)
             .distinct()
             .count();
         
         if (uniqueSkills != skills.size()) {
-            throw new InvalidResumeException(SKILLS_FIELD, "contains duplicate skills");
+            context.report(SKILLS_FIELD, "contains duplicate skills");
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
-import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
-
 import java.util.List;
 
 public final class SoftSkillsValidator {
@@ -16,43 +14,54 @@ public final class SoftSkillsValidator {
     private SoftSkillsValidator() {}
 
     public static void validate(List<String> softSkills) {
+        validate(softSkills, ValidationContext.failFast());
+    }
+
+    public static void validate(List<String> softSkills, ValidationContext context) {
         if (softSkills == null || softSkills.isEmpty()) {
             return;  // Optional field
         }
 
-        validateSkillsListSize(softSkills);
-        validateEachSkill(softSkills);
-        validateNoDuplicates(softSkills);
+        validateSkillsListSize(softSkills, context);
+        // Invalid entries (e.g. null) are already reported and cannot be compared
+        if (validateEachSkill(softSkills, context)) {
+            validateNoDuplicates(softSkills, context);
+        }
     }
 
-    private static void validateSkillsListSize(List<String> skills) {
+    private static void validateSkillsListSize(List<String> skills, ValidationContext context) {
         if (skills.size() > MAX_SKILLS) {
-            throw new InvalidResumeException(
+            context.report(
                 SOFT_SKILLS_FIELD,
                 String.format("exceeds maximum of %d skills", MAX_SKILLS)
             );
         }
     }
 
-    private static void validateEachSkill(List<String> skills) {
-        skills.forEach(skill -> 
-            ValidationUtils.validateString(
-                skill,
+    private static boolean validateEachSkill(List<String> skills, ValidationContext context) {
+        boolean allValid = true;
+        for (int i = 0; i < skills.size(); i++) {
+            context.enter("softSkills", i);
+            allValid &= ValidationUtils.validateString(
+                skills.get(i),
                 SOFT_SKILL_FIELD,
                 MIN_SKILL_LENGTH,
-                MAX_SKILL_LENGTH
-            )
-        );
+                MAX_SKILL_LENGTH,
+                context
+            );
+            context.leave();
+        }
+        return allValid;
     }
 
-    private static void validateNoDuplicates(List<String> skills) {
+    private static void validateNoDuplicates(List<String> skills, ValidationContext context) {
         long uniqueSkills = skills.stream()
             .map(String::toLowerCase)
             .distinct()
             .count();
         
         if (uniqueSkills != skills.size()) {
-            throw new InvalidResumeException(
+            context.report(
                 SOFT_SKILLS_FIELD,
                 "contains duplicate skills"
             );
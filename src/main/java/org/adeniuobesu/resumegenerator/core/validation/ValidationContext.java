@@ -0,0 +1,109 @@
+package org.adeniuobesu.resumegenerator.core.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
+import org.adeniuobesu.resumegenerator.core.exceptions.ValidationViolation;
+
+/**
+ * Receives the failures of one validation pass.
+ * <p>
+ * The fail-fast context throws {@link InvalidResumeException} on the first report,
+ * is stateless and shared. A collecting context records every report as a
+ * {@link ValidationViolation} and lets the validators carry on; it tracks the
+ * current position in the resume so each violation gets a path, and only builds
+ * that path when something is actually reported. Collecting contexts are not
+ * thread-safe and serve a single pass.
+ */
+public final class ValidationContext {
+    private static final ValidationContext FAIL_FAST = new ValidationContext(false);
+    private static final String ROOT = "resume";
+    private static final int NO_INDEX = -1;
+    private static final int INITIAL_DEPTH = 4;
+
+    private final boolean collecting;
+    private final List<ValidationViolation> violations;
+    private String[] names;
+    private int[] indices;
+    private int depth;
+
+    private ValidationContext(boolean collecting) {
+        this.collecting = collecting;
+        this.violations = collecting ? new ArrayList<>() : List.of();
+        this.names = collecting ? new String[INITIAL_DEPTH] : null;
+        this.indices = collecting ? new int[INITIAL_DEPTH] : null;
+    }
+
+    public static ValidationContext failFast() {
+        return FAIL_FAST;
+    }
+
+    public static ValidationContext collecting() {
+        return new ValidationContext(true);
+    }
+
+    public static ValidationContext of(ValidationMode mode) {
+        return mode == ValidationMode.COLLECT_ALL ? collecting() : failFast();
+    }
+
+    /**
+     * Reports a failed rule
+     * @param field Descriptive name of the failing field
+     * @param violation What is wrong with it
+     * @return always {@code false}, so checks can return the result directly
+     * @throws InvalidResumeException if this context is fail-fast
+     */
+    public boolean report(String field, String violation) {
+        if (!collecting) {
+            throw new InvalidResumeException(field, violation);
+        }
+        violations.add(new ValidationViolation(currentPath(), field, violation));
+        return false;
+    }
+
+    /** Steps into a nested property of the entity being validated. */
+    public void enter(String property) {
+        enter(property, NO_INDEX);
+    }
+
+    /** Steps into one element of a nested list. */
+    public void enter(String property, int index) {
+        if (!collecting) {
+            return;
+        }
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        names[depth] = property;
+        indices[depth] = index;
+        depth++;
+    }
+
+    public void leave() {
+        if (collecting) {
+            depth--;
+        }
+    }
+
+    public boolean hasViolations() {
+        return !violations.isEmpty();
+    }
+
+    public List<ValidationViolation> violations() {
+        return List.copyOf(violations);
+    }
+
+    private String currentPath() {
+        StringBuilder path = new StringBuilder(ROOT);
+        for (int i = 0; i < depth; i++) {
+            path.append('.').append(names[i]);
+            if (indices[i] != NO_INDEX) {
+                path.append('[').append(indices[i]).append(']');
+            }
+        }
+        return path.toString();
+    }
+}
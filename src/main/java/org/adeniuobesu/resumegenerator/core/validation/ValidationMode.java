@@ -0,0 +1,8 @@
+package org.adeniuobesu.resumegenerator.core.validation;
+
+public enum ValidationMode {
+    // Stop at the first failing rule (cheapest, default)
+    FAIL_FAST,
+    // Walk the whole resume and report every failing rule at once
+    COLLECT_ALL
+}
@@ -1,14 +1,14 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
-import java.time.YearMonth;
-import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
 
 public final class ValidationUtils {
-    // Regex patterns - made package-private for potential reuse
+    // Regex patterns - made package-private for potential reuse.
+    // Reference semantics only: validation runs the equivalent FORMAT_SCANNERS.
     static final Map<String, String> REGEX_PATTERNS = Map.of(
         "EMAIL", "^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$",
         "PHONE", "^[+\\d\\s()-]{8,20}$",
@@ -16,6 +16,14 @@ public final class ValidationUtils {
         "ISO_DATE", "^\\d{4}-(0[1-9]|1[0-2])$"
     );
 
+    // Linear-time scanners accepting exactly what REGEX_PATTERNS match
+    static final Map<String, Predicate<String>> FORMAT_SCANNERS = Map.of(
+        "EMAIL", FormatScanners::isEmail,
+        "PHONE", FormatScanners::isPhone,
+        "URL", FormatScanners::isUrl,
+        "ISO_DATE", FormatScanners::isYearMonth
+    );
+
     private static final String CANNOT_BE_EMPTY = "%s cannot be empty";
     private static final String CANNOT_BE_NULL = "%s cannot be null";
     private static final String LENGTH_RANGE = "%s must be %d-%d characters";
@@ -35,14 +43,26 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validateString(String value, String fieldName, int min, int max) {
-        requireNonEmpty(value, fieldName);
+        validateString(value, fieldName, min, max, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #validateString(String, String, int, int)}, reporting to the given context
+     * @return true if the value is valid
+     */
+    public static boolean validateString(String value, String fieldName, int min, int max,
+                                         ValidationContext context) {
+        if (!requireNonEmpty(value, fieldName, context)) {
+            return false;
+        }
         
         if (value.length() < min || value.length() > max) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName, 
                 String.format(LENGTH_RANGE, fieldName, min, max)
             );
         }
+        return true;
     }
 
     /**
@@ -52,12 +72,21 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validateNonEmpty(List<?> collection, String fieldName) {
+        validateNonEmpty(collection, fieldName, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #validateNonEmpty(List, String)}, reporting to the given context
+     * @return true if the collection is valid
+     */
+    public static boolean validateNonEmpty(List<?> collection, String fieldName, ValidationContext context) {
         if (collection == null || collection.isEmpty()) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName,
                 String.format(CANNOT_BE_EMPTY, fieldName)
             );
         }
+        return true;
     }
 
     /**
@@ -67,24 +96,34 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validateIsoDate(String date, String fieldName) {
-        requireNonEmpty(date, fieldName);
+        validateIsoDate(date, fieldName, ValidationContext.failFast());
+    }
 
-        // Regex détendue : juste YYYY-MM
-        if (!date.matches("\\d{4}-\\d{2}")) {
-            throw new InvalidResumeException(
+    /**
+     * Same as {@link #validateIsoDate(String, String)}, reporting to the given context
+     * @return true if the date is valid
+     */
+    public static boolean validateIsoDate(String date, String fieldName, ValidationContext context) {
+        if (!requireNonEmpty(date, fieldName, context)) {
+            return false;
+        }
+
+        // Forme détendue : juste YYYY-MM
+        if (!FormatScanners.isYearMonthShape(date)) {
+            return context.report(
                 fieldName,
                 "must be in YYYY-MM format"
             );
         }
 
-        try {
-            YearMonth.parse(date);
-        } catch (DateTimeParseException e) {
-            throw new InvalidResumeException(
+        // Any four-digit year is valid, so only the month can be out of range
+        if (!FormatScanners.isYearMonth(date)) {
+            return context.report(
                 fieldName,
                 "contains invalid date: " + date
             );
         }
+        return true;
     }
 
     /**
@@ -95,19 +134,32 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validatePattern(String value, String fieldName, String patternKey) {
-        requireNonEmpty(value, fieldName);
+        validatePattern(value, fieldName, patternKey, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #validatePattern(String, String, String)}, reporting to the given context
+     * @return true if the value matches
+     * @throws IllegalArgumentException if the pattern key is unknown
+     */
+    public static boolean validatePattern(String value, String fieldName, String patternKey,
+                                          ValidationContext context) {
+        if (!requireNonEmpty(value, fieldName, context)) {
+            return false;
+        }
         
-        String pattern = REGEX_PATTERNS.get(patternKey);
-        if (pattern == null) {
+        Predicate<String> scanner = FORMAT_SCANNERS.get(patternKey);
+        if (scanner == null) {
             throw new IllegalArgumentException("Unknown pattern key: " + patternKey);
         }
         
-        if (!value.matches(pattern)) {
-            throw new InvalidResumeException(
+        if (!scanner.test(value)) {
+            return context.report(
                 fieldName,
                 String.format(INVALID_FORMAT, fieldName)
             );
         }
+        return true;
     }
 
     /**
@@ -117,12 +169,21 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void requireNonNull(Object obj, String fieldName) {
+        requireNonNull(obj, fieldName, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #requireNonNull(Object, String)}, reporting to the given context
+     * @return true if the object is non-null
+     */
+    public static boolean requireNonNull(Object obj, String fieldName, ValidationContext context) {
         if (obj == null) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName,
                 String.format(CANNOT_BE_NULL, fieldName)
             );
         }
+        return true;
     }
 
     /**
@@ -132,12 +193,21 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void requireNonEmpty(String value, String fieldName) {
+        requireNonEmpty(value, fieldName, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #requireNonEmpty(String, String)}, reporting to the given context
+     * @return true if the value is non-empty
+     */
+    public static boolean requireNonEmpty(String value, String fieldName, ValidationContext context) {
         if (value == null || value.trim().isEmpty()) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName,
                 String.format(CANNOT_BE_EMPTY, fieldName)
             );
         }
+        return true;
     }
 
     /**
@@ -148,14 +218,26 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validateMinSize(List<?> collection, int minSize, String fieldName) {
-        requireNonNull(collection, fieldName);
+        validateMinSize(collection, minSize, fieldName, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #validateMinSize(List, int, String)}, reporting to the given context
+     * @return true if the collection is large enough
+     */
+    public static boolean validateMinSize(List<?> collection, int minSize, String fieldName,
+                                          ValidationContext context) {
+        if (!requireNonNull(collection, fieldName, context)) {
+            return false;
+        }
         
         if (collection.size() < minSize) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName,
                 String.format(MIN_ITEMS, fieldName, minSize)
             );
         }
+        return true;
     }
 
     /**
@@ -166,14 +248,26 @@ public final class ValidationUtils {
      * @throws InvalidResumeException if validation fails
      */
     public static void validateMaxSize(List<?> collection, int maxSize, String fieldName) {
-        requireNonNull(collection, fieldName);
+        validateMaxSize(collection, maxSize, fieldName, ValidationContext.failFast());
+    }
+
+    /**
+     * Same as {@link #validateMaxSize(List, int, String)}, reporting to the given context
+     * @return true if the collection is small enough
+     */
+    public static boolean validateMaxSize(List<?> collection, int maxSize, String fieldName,
+                                          ValidationContext context) {
+        if (!requireNonNull(collection, fieldName, context)) {
+            return false;
+        }
         
         if (collection.size() > maxSize) {
-            throw new InvalidResumeException(
+            return context.report(
                 fieldName,
                 String.format(MAX_ITEMS, fieldName, maxSize)
             );
         }
+        return true;
     }
     // TODO: add appropriate JavaDoc
     public static void validateRange(int value, int min, int max, String fieldName) {
@@ -184,4 +278,4 @@ public final class ValidationUtils {
             );
         }
     }
-}
\ No newline at end of file
+}
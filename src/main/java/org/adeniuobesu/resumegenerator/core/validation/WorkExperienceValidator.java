@@ -1,6 +1,5 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
-import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
 import org.adeniuobesu.resumegenerator.core.models.WorkExperience;
 
 import java.util.List;
@@ -28,44 +27,55 @@ public final class WorkExperienceValidator {
     private WorkExperienceValidator() {}
 
     public static void validate(WorkExperience experience) {
-        ValidationUtils.requireNonNull(experience, WORK_EXPERIENCE_FIELD);
+        validate(experience, ValidationContext.failFast());
+    }
+
+    public static void validate(WorkExperience experience, ValidationContext context) {
+        if (!ValidationUtils.requireNonNull(experience, WORK_EXPERIENCE_FIELD, context)) {
+            return;
+        }
         
-        validateCompany(experience.companyName());
-        validateJobTitle(experience.jobTitle());
-        validateDates(experience);
-        validateAchievements(experience.keyAchievements());
+        validateCompany(experience.companyName(), context);
+        validateJobTitle(experience.jobTitle(), context);
+        validateDates(experience, context);
+        validateAchievements(experience.keyAchievements(), context);
     }
 
-    private static void validateCompany(String companyName) {
+    private static void validateCompany(String companyName, ValidationContext context) {
         ValidationUtils.validateString(
             companyName,
             COMPANY_FIELD,
             MIN_COMPANY_LENGTH,
-            MAX_COMPANY_LENGTH
+            MAX_COMPANY_LENGTH,
+            context
         );
     }
 
-    private static void validateJobTitle(String jobTitle) {
+    private static void validateJobTitle(String jobTitle, ValidationContext context) {
         ValidationUtils.validateString(
             jobTitle,
             JOB_TITLE_FIELD,
             MIN_JOB_TITLE_LENGTH,
-            MAX_JOB_TITLE_LENGTH
+            MAX_JOB_TITLE_LENGTH,
+            context
         );
     }
 
-    private static void validateDates(WorkExperience experience) {
-        ValidationUtils.validateIsoDate(experience.startDate(), START_DATE_FIELD);
+    private static void validateDates(WorkExperience experience, ValidationContext context) {
+        boolean startValid = ValidationUtils.validateIsoDate(experience.startDate(), START_DATE_FIELD, context);
         
         if (experience.endDate() != null) {
-            ValidationUtils.validateIsoDate(experience.endDate(), END_DATE_FIELD);
-            validateDateOrder(experience);
+            boolean endValid = ValidationUtils.validateIsoDate(experience.endDate(), END_DATE_FIELD, context);
+            // Order is only meaningful once both dates are well-formed
+            if (startValid && endValid) {
+                validateDateOrder(experience, context);
+            }
         }
     }
 
-    private static void validateDateOrder(WorkExperience experience) {
+    private static void validateDateOrder(WorkExperience experience, ValidationContext context) {
         if (experience.endDate().compareTo(experience.startDate()) < 0) {
-            throw new InvalidResumeException(
+            context.report(
                 "Employment dates",
                 String.format(
                     "End date (%s) cannot be before start date (%s) at %s",
@@ -77,18 +87,23 @@ public final class WorkExperienceValidator {
         }
     }
 
-    private static void validateAchievements(List<String> achievements) {
-        ValidationUtils.validateNonEmpty(achievements, ACHIEVEMENTS_FIELD);
-        ValidationUtils.validateMaxSize(achievements, MAX_ACHIEVEMENTS, ACHIEVEMENTS_FIELD);
-        ValidationUtils.validateMinSize(achievements, MIN_ACHIEVEMENTS, ACHIEVEMENTS_FIELD);
+    private static void validateAchievements(List<String> achievements, ValidationContext context) {
+        if (!ValidationUtils.validateNonEmpty(achievements, ACHIEVEMENTS_FIELD, context)) {
+            return;
+        }
+        ValidationUtils.validateMaxSize(achievements, MAX_ACHIEVEMENTS, ACHIEVEMENTS_FIELD, context);
+        ValidationUtils.validateMinSize(achievements, MIN_ACHIEVEMENTS, ACHIEVEMENTS_FIELD, context);
         
-        achievements.forEach(achievement -> 
+        for (int i = 0; i < achievements.size(); i++) {
+            context.enter("keyAchievements", i);
             ValidationUtils.validateString(
-                achievement,
+                achievements.get(i),
                 ACHIEVEMENT_FIELD,
                 MIN_ACHIEVEMENT_LENGTH,
-                MAX_ACHIEVEMENT_LENGTH
-            )
-        );
+                MAX_ACHIEVEMENT_LENGTH,
+                context
+            );
+            context.leave();
+        }
     }
 }
\ No newline at end of file
@@ -1,37 +1,120 @@
 package org.adeniuobesu.resumegenerator.infrastructure;
 
 import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
 import org.adeniuobesu.resumegenerator.application.exceptions.ResumeGenerationException;
 import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
-import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
-import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.cache.DiskRenderCache;
+import org.adeniuobesu.resumegenerator.adapters.cache.RenderCacheStats;
 import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonCodec;
 import org.adeniuobesu.resumegenerator.adapters.models.InputType;
 import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
-import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlExporter;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlIndexExporter;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.BatchItemResult;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.BatchRenderer;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.BatchReport;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.BatchSource;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.BookRenderer;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.OutputNameTemplate;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.SiteBuilder;
+import org.adeniuobesu.resumegenerator.infrastructure.batch.SiteReport;
 import org.adeniuobesu.resumegenerator.infrastructure.factories.InputStrategyFactory;
 import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.adeniuobesu.resumegenerator.infrastructure.server.RenderServer;
+import org.adeniuobesu.resumegenerator.infrastructure.watch.ResumeWatcher;
 
 import picocli.CommandLine;
 import picocli.CommandLine.Option;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 
 public class Main implements Runnable {
     @Option(names = {"-j", "--json"}) 
     private String jsonFile;
+
+    @Option(names = {"--snapshot"})
+    private String snapshotFile;
     
-    @Option(names = {"-f", "--format"}, defaultValue = "TEXT") 
-    private OutputType outputFormat;
+    @Option(names = {"-f", "--format"}, defaultValue = "TEXT", split = ",")
+    private Set<OutputType> outputFormats;
 
     @Option(names = {"-d", "--output-dir"}, defaultValue = ".")
     private String outputDir;
 
+    @Option(names = {"-b", "--batch"})
+    private String batchSource;
+
+    @Option(names = {"-p", "--parallelism"})
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Option(names = {"--book"})
+    private String bookFile;
+
+    @Option(names = {"--site"})
+    private boolean site;
+
+    @Option(names = {"--index-page-size"}, defaultValue = "" + SiteBuilder.DEFAULT_PAGE_SIZE)
+    private int indexPageSize;
+
+    @Option(names = {"-n", "--name-template"}, defaultValue = OutputNameTemplate.DEFAULT)
+    private String nameTemplate;
+
+    @Option(names = {"-v", "--validation"}, defaultValue = "FAIL_FAST")
+    private ValidationMode validationMode;
+
+    @Option(names = {"--pdf-profile"}, defaultValue = "BALANCED")
+    private PdfProfile pdfProfile;
+
+    @Option(names = {"--html-theme"})
+    private String htmlTheme;
+
+    @Option(names = {"--html-minify"})
+    private boolean htmlMinify;
+
+    @Option(names = {"--html-gzip"})
+    private boolean htmlGzip;
+
+    @Option(names = {"--html-shared-css"})
+    private boolean htmlSharedCss;
+
+    @Option(names = {"--html-direct-io"})
+    private boolean htmlDirectIo;
+
+    @Option(names = {"-s", "--serve"})
+    private Integer servePort;
+
+    @Option(names = {"--bind"}, defaultValue = "127.0.0.1")
+    private String bindAddress;
+
+    @Option(names = {"-w", "--watch"})
+    private boolean watch;
+
+    @Option(names = {"--cache-dir"})
+    private String cacheDir;
+
+    @Option(names = {"--cache-max-mb"}, defaultValue = "256")
+    private long cacheMaxMegabytes;
+
+    private DiskRenderCache renderCache;
+
     public static void main(String[] args) {
         int exitCode = new CommandLine(new Main()).execute(args);
         System.exit(exitCode);
@@ -40,20 +123,54 @@ public class Main implements Runnable {
     @Override
     public void run() {
         try {
-            Path outputPath = resolveOutputPath();
-            ensureOutputDirectoryExists(outputPath.getParent());
+            renderCache = openRenderCache();
+        } catch (IOException e) {
+            handleError("Render cache unavailable", e);
+        } catch (IllegalArgumentException e) {
+            handleError("Invalid cache configuration", e);
+        }
+        if (servePort != null) {
+            runServer();
+            return;
+        }
+        if (bookFile != null) {
+            runBook();
+            return;
+        }
+        if (site) {
+            runSite();
+            return;
+        }
+        if (batchSource != null) {
+            runBatch();
+            return;
+        }
+        if (watch) {
+            runWatch();
+            return;
+        }
+        try {
+            Path directory = Paths.get(outputDir);
+            ensureOutputDirectoryExists(directory);
 
             InputStrategy<ResumeDto> inputStrategy = createInputStrategy();
-            OutputStrategy<ResumeDto> outputStrategy = createOutputStrategy();
+            Map<OutputType, Path> outputPaths = resolveOutputPaths(directory);
             
-            executeUseCase(inputStrategy, outputStrategy, outputPath);
+            executeUseCase(inputStrategy, outputPaths);
             
-            System.out.println("✓ Resume successfully generated at: " + outputPath);
+            outputPaths.values().forEach(outputPath ->
+                System.out.println("✓ Resume successfully generated at: " + outputPath));
+            precompressedFormats().stream().filter(outputPaths::containsKey).forEach(format ->
+                System.out.println("✓ Precompressed copy at: "
+                    + OutputTargets.precompressedPath(outputPaths.get(format))));
+            printCacheStats();
             
         } catch (ResumeGenerationException e) {
             handleError("Resume generation failed", e);
         } catch (AdapterException e) {
             handleError("System configuration error", e);
+        } catch (OutputProcessingException e) {
+            handleError("Invalid output configuration", e);
         } catch (IOException e) {
             handleError("File system error", e);
         } catch (Exception e) {
@@ -61,8 +178,240 @@ public class Main implements Runnable {
         }
     }
 
-    private Path resolveOutputPath() {
-        return Paths.get(outputDir).resolve("Resume." + outputFormat.name().toLowerCase());
+    private void runBatch() {
+        try {
+            Path directory = Paths.get(outputDir);
+            ensureOutputDirectoryExists(directory);
+
+            Path source = Paths.get(batchSource);
+            OutputNameTemplate names = new OutputNameTemplate(nameTemplate);
+            String sharedStylesheet = null;
+            if (htmlSharedCss && outputFormats.contains(OutputType.HTML)) {
+                sharedStylesheet = names.linkToOutputDirectory(writeSharedStylesheet(directory));
+            }
+            JsonCodec.shared().warmUp();
+            BatchRenderer renderer = new BatchRenderer(
+                outputFormats,
+                directory,
+                names,
+                parallelism,
+                renderOptions(sharedStylesheet)
+            );
+            BatchReport report = BatchSource.isNdjson(source)
+                ? renderer.render(source, createStreamingInputStrategy(source))
+                : renderer.render(BatchSource.resolve(source));
+
+            printBatchSummary(report);
+            printCacheStats();
+            if (report.hasFailures()) {
+                handleError("Batch rendering incomplete", new ResumeGenerationException(String.format(
+                    "batch (%d of %d items failed)", report.failures().size(), report.itemCount())));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            handleError("File system error", e);
+        } catch (InputProcessingException e) {
+            handleError("Batch input unreadable", e);
+        } catch (OutputProcessingException e) {
+            handleError("Invalid output configuration", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleError("Batch rendering interrupted", e);
+        } catch (IllegalArgumentException e) {
+            handleError("Invalid batch configuration", e);
+        }
+    }
+
+    private void runBook() {
+        if (batchSource == null) {
+            handleError("Invalid book configuration",
+                new IllegalArgumentException("--book requires a batch input (--batch)"));
+        }
+        try {
+            Path directory = Paths.get(outputDir);
+            ensureOutputDirectoryExists(directory);
+
+            Path source = Paths.get(batchSource);
+            JsonCodec.shared().warmUp();
+            Path book = directory.resolve(bookFile);
+            BookRenderer renderer = new BookRenderer(book, parallelism, validationMode, pdfProfile);
+            BatchReport report = BatchSource.isNdjson(source)
+                ? renderer.render(source, createStreamingInputStrategy(source))
+                : renderer.render(BatchSource.resolve(source));
+
+            printBatchSummary(report);
+            if (report.succeededCount() > 0) {
+                System.out.println("✓ Book of " + report.succeededCount() + " resumes generated at: " + book);
+            }
+            if (report.hasFailures()) {
+                handleError("Book rendering incomplete", new ResumeGenerationException(String.format(
+                    "book (%d of %d items failed)", report.failures().size(), report.itemCount())));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            handleError("File system error", e);
+        } catch (InputProcessingException e) {
+            handleError("Batch input unreadable", e);
+        } catch (IllegalArgumentException e) {
+            handleError("Invalid book configuration", e);
+        } catch (AdapterException e) {
+            handleError("Book generation failed", e);
+        }
+    }
+
+    private void runSite() {
+        if (batchSource == null || BatchSource.isNdjson(Paths.get(batchSource))) {
+            handleError("Invalid site configuration", new IllegalArgumentException(
+                "--site requires a batch input of resume files (--batch with a directory or a list)"));
+        }
+        try {
+            Path directory = Paths.get(outputDir);
+            ensureOutputDirectoryExists(directory);
+
+            String sharedStylesheet = htmlSharedCss ? writeSharedStylesheet(directory) : null;
+            JsonCodec.shared().warmUp();
+            SiteBuilder builder = new SiteBuilder(
+                directory,
+                indexPageSize,
+                parallelism,
+                renderOptions(sharedStylesheet),
+                new HtmlIndexExporter(htmlMinify)
+            );
+            SiteReport report = builder.build(Paths.get(batchSource));
+
+            for (BatchItemResult failure : report.failures()) {
+                System.err.println("✗ " + failure.input() + ": " + failure.error());
+            }
+            System.out.printf("✓ %d rendered, %d unchanged, %d removed, ✗ %d failed (%d items in %d ms)%n",
+                report.renderedCount(),
+                report.unchangedCount(),
+                report.removedCount(),
+                report.failures().size(),
+                report.itemCount(),
+                report.elapsed().toMillis());
+            System.out.println("✓ Site index of " + report.indexPageCount() + " pages at: "
+                + directory.resolve(HtmlIndexExporter.fileName(1)));
+            printCacheStats();
+            if (report.hasFailures()) {
+                handleError("Site build incomplete", new ResumeGenerationException(String.format(
+                    "site (%d of %d items failed)", report.failures().size(), report.itemCount())));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            handleError("File system error", e);
+        } catch (InputProcessingException e) {
+            handleError("Batch input unreadable", e);
+        } catch (OutputProcessingException e) {
+            handleError("Invalid output configuration", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleError("Site build interrupted", e);
+        } catch (IllegalArgumentException e) {
+            handleError("Invalid site configuration", e);
+        } catch (AdapterException e) {
+            handleError("Site index generation failed", e);
+        }
+    }
+
+    private void runServer() {
+        try {
+            RenderServer server = new RenderServer(
+                new InetSocketAddress(bindAddress, servePort),
+                validationMode,
+                parallelism,
+                renderCache,
+                createOutputStrategyFactory()
+            );
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            server.start();
+            System.out.printf("✓ Render service listening on http://%s:%d/render (%s)%n",
+                bindAddress, server.address().getPort(), server.threading());
+            server.awaitStop();
+        } catch (IOException e) {
+            handleError("Render service could not start", e);
+        } catch (OutputProcessingException e) {
+            handleError("Invalid output configuration", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleError("Render service interrupted", e);
+        } catch (IllegalArgumentException e) {
+            handleError("Invalid server configuration", e);
+        }
+    }
+
+    private void runWatch() {
+        if (jsonFile == null) {
+            handleError("Invalid watch configuration",
+                new IllegalArgumentException("--watch requires a JSON input (--json)"));
+        }
+        try {
+            Path directory = Paths.get(outputDir);
+            ensureOutputDirectoryExists(directory);
+
+            ResumeWatcher watcher = new ResumeWatcher(
+                Paths.get(jsonFile),
+                resolveOutputPaths(directory),
+                renderOptions(null),
+                new ResumeWatcher.Listener() {
+                    @Override
+                    public void rendered(Duration elapsed) {
+                        System.out.printf("✓ Rendered %s in %d ms%n", outputFormats, elapsed.toMillis());
+                    }
+
+                    @Override
+                    public void unchanged() {
+                        System.out.println("• No changes in " + jsonFile);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        System.err.println("✗ " + e.getMessage()
+                            + (e.getCause() != null ? System.lineSeparator() + "  " + e.getCause().getMessage() : ""));
+                    }
+                }
+            );
+            System.out.println("✓ Watching " + jsonFile + " (Ctrl+C to stop)");
+            watcher.watch();
+        } catch (IOException e) {
+            handleError("File system error", e);
+        } catch (OutputProcessingException e) {
+            handleError("Invalid output configuration", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleError("Watch interrupted", e);
+        }
+    }
+
+    private void printBatchSummary(BatchReport report) {
+        for (BatchItemResult failure : report.failures()) {
+            System.err.println("✗ " + failure.input() + ": " + failure.error());
+        }
+        System.out.printf("✓ %d succeeded, ✗ %d failed (%d items in %d ms)%n",
+            report.succeededCount(),
+            report.failures().size(),
+            report.itemCount(),
+            report.elapsed().toMillis());
+    }
+
+    private DiskRenderCache openRenderCache() throws IOException {
+        if (cacheDir == null) {
+            return null;
+        }
+        return new DiskRenderCache(Paths.get(cacheDir), cacheMaxMegabytes * 1024 * 1024);
+    }
+
+    private void printCacheStats() {
+        if (renderCache == null) {
+            return;
+        }
+        RenderCacheStats stats = renderCache.stats();
+        System.out.printf("✓ Render cache: %d hits, %d misses, %d stored, %d evicted%n",
+            stats.hits(), stats.misses(), stats.stores(), stats.evictions());
+    }
+
+    private Map<OutputType, Path> resolveOutputPaths(Path directory) {
+        Map<OutputType, Path> outputPaths = new EnumMap<>(OutputType.class);
+        for (OutputType format : outputFormats) {
+            outputPaths.put(format, directory.resolve("Resume." + format.name().toLowerCase()));
+        }
+        return outputPaths;
     }
 
     private void ensureOutputDirectoryExists(Path directory) throws IOException {
@@ -73,23 +422,69 @@ public class Main implements Runnable {
 
     private InputStrategy<ResumeDto> createInputStrategy() throws AdapterException {
         InputStrategyFactory factory = new InputStrategyFactory(new Scanner(System.in));
+        if (snapshotFile != null) {
+            return factory.create(InputType.SNAPSHOT, snapshotFile);
+        }
         InputType inputType = jsonFile != null ? InputType.JSON : InputType.CLI;
         return factory.create(inputType, jsonFile);
     }
 
-    private OutputStrategy<ResumeDto> createOutputStrategy() throws AdapterException {
-        return new OutputStrategyFactory().create(outputFormat);
+    private StreamingInputStrategy<ResumeDto> createStreamingInputStrategy(Path source) {
+        InputStrategyFactory factory = new InputStrategyFactory(new Scanner(System.in));
+        return factory.createStreaming(InputType.NDJSON, source.toString());
+    }
+
+    private OutputStrategyFactory createOutputStrategyFactory() {
+        return createOutputStrategyFactory(null);
+    }
+
+    private OutputStrategyFactory createOutputStrategyFactory(String sharedStylesheet) {
+        return new OutputStrategyFactory(
+            pdfProfile, htmlTheme != null ? Paths.get(htmlTheme) : null, htmlMinify, sharedStylesheet);
+    }
+
+    /**
+     * Writes the bundled stylesheet once for every page of a batch and returns its file
+     * name. The name carries a digest of the content, so an existing file is already right.
+     */
+    private String writeSharedStylesheet(Path directory) throws IOException {
+        HtmlExporter.Stylesheet stylesheet = HtmlExporter.bundledStylesheet(htmlMinify);
+        Path path = directory.resolve(stylesheet.fileName());
+        boolean missing = !Files.exists(path) || (htmlGzip && !Files.exists(OutputTargets.precompressedPath(path)));
+        if (missing) {
+            try (OutputStream out = OutputTargets.openFile(path, htmlGzip)) {
+                out.write(stylesheet.content());
+            }
+        }
+        System.out.println("✓ Shared stylesheet at: " + path);
+        return stylesheet.fileName();
+    }
+
+    private Set<OutputType> precompressedFormats() {
+        return htmlGzip ? Set.of(OutputType.HTML) : Set.of();
+    }
+
+    private Set<OutputType> channelFormats() {
+        return htmlDirectIo ? Set.of(OutputType.HTML) : Set.of();
+    }
+
+    /**
+     * @param sharedStylesheet Link to the stylesheet HTML pages share, or {@code null} to inline it
+     */
+    private RenderOptions renderOptions(String sharedStylesheet) {
+        return RenderOptions.defaults()
+            .withValidationMode(validationMode)
+            .withCache(renderCache)
+            .withExporterFactory(createOutputStrategyFactory(sharedStylesheet))
+            .withPrecompressed(precompressedFormats())
+            .withChannels(channelFormats());
     }
 
     private void executeUseCase(InputStrategy<ResumeDto> inputStrategy,
-                              OutputStrategy<ResumeDto> outputStrategy,
-                              Path outputPath) throws ResumeGenerationException, IOException {
-        try (OutputStream outputStream = Files.newOutputStream(outputPath)) {
-            new BuildResumeUseCase(
-                inputStrategy,
-                outputStrategy,
-                new ResumeValidator()
-            ).execute(outputStream);
+                                Map<OutputType, Path> outputPaths) throws ResumeGenerationException, IOException {
+        RenderOptions options = renderOptions(null);
+        try (OutputTargets targets = OutputTargets.open(outputPaths, options.exporterFactory()::create, options)) {
+            options.pipeline().execute(inputStrategy, targets.targets());
         }
     }
 
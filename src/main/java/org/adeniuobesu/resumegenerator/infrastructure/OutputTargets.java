@@ -0,0 +1,188 @@
+package org.adeniuobesu.resumegenerator.infrastructure;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The open output files of one render, each paired with the exporter writing it.
+ * Missing parent directories of the files are created.
+ * Formats asked to be precompressed also get a gzip copy next to their file, written in
+ * the same pass. Formats asked to be written through channels are opened as a
+ * {@link FileChannel}, which the exporter gets as its {@link RenderTarget#channel()};
+ * that only pays off for large pages. Closing the targets closes every file, even when
+ * some of them fail to close.
+ * <p>
+ * {@link #openStaged Staged} targets write temporary files next to their outputs, which
+ * {@link #commit} moves over them; closed without a commit, they leave the outputs as
+ * they were.
+ */
+public final class OutputTargets implements Closeable {
+    private final Map<OutputStrategy<ResumeDto>, RenderTarget> targets = new LinkedHashMap<>();
+    /** Each temporary file with the output it replaces, when staged. */
+    private final Map<Path, Path> staged = new LinkedHashMap<>();
+    private boolean closed;
+
+    private OutputTargets() {}
+
+    /**
+     * @param options Which formats are precompressed and which are written as channels
+     */
+    public static OutputTargets open(Map<OutputType, Path> outputPaths,
+                                     Function<OutputType, OutputStrategy<ResumeDto>> exporters,
+                                     RenderOptions options)
+            throws IOException {
+        return open(outputPaths, exporters, options, false);
+    }
+
+    /**
+     * Opens targets that write temporary files, to be moved over the outputs by
+     * {@link #commit} once every exporter has succeeded.
+     */
+    public static OutputTargets openStaged(Map<OutputType, Path> outputPaths,
+                                           Function<OutputType, OutputStrategy<ResumeDto>> exporters,
+                                           RenderOptions options)
+            throws IOException {
+        return open(outputPaths, exporters, options, true);
+    }
+
+    private static OutputTargets open(Map<OutputType, Path> outputPaths,
+                                      Function<OutputType, OutputStrategy<ResumeDto>> exporters,
+                                      RenderOptions options, boolean stage)
+            throws IOException {
+        OutputTargets targets = new OutputTargets();
+        try {
+            for (Map.Entry<OutputType, Path> entry : outputPaths.entrySet()) {
+                OutputStrategy<ResumeDto> exporter = exporters.apply(entry.getKey());
+                Path path = entry.getValue();
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                if (stage) {
+                    Path output = path.toAbsolutePath();
+                    path = Files.createTempFile(parent, output.getFileName() + ".", ".tmp");
+                    targets.staged.put(path, output);
+                }
+                OutputType format = entry.getKey();
+                targets.targets.put(exporter, options.precompressed().contains(format)
+                    ? RenderTarget.of(PrecompressedOutputStream.open(path))
+                    : options.channels().contains(format)
+                    ? RenderTarget.of(FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+                    : RenderTarget.of(Files.newOutputStream(path)));
+            }
+            return targets;
+        } catch (IOException | RuntimeException e) {
+            targets.closeQuietly(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Opens one output file outside of any render, e.g. a page that is not a resume.
+     *
+     * @param precompress Whether to also write the gzip copy of the file
+     */
+    public static OutputStream openFile(Path path, boolean precompress) throws IOException {
+        return precompress ? PrecompressedOutputStream.open(path) : Files.newOutputStream(path);
+    }
+
+    /** Where the gzip copy of {@code output} is written: the same name with {@code .gz} appended. */
+    public static Path precompressedPath(Path output) {
+        return output.resolveSibling(output.getFileName() + ".gz");
+    }
+
+    public Map<OutputStrategy<ResumeDto>, RenderTarget> targets() {
+        return Collections.unmodifiableMap(targets);
+    }
+
+    /**
+     * Closes the streams of staged targets and moves each file over its output, along
+     * with its gzip copy if any. Each move is atomic, the set of them is not.
+     */
+    public void commit() throws IOException {
+        closeStreams();
+        for (Map.Entry<Path, Path> file : staged.entrySet()) {
+            Path copy = precompressedPath(file.getKey());
+            if (Files.exists(copy)) {
+                Files.move(copy, precompressedPath(file.getValue()),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(file.getKey(), file.getValue(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        staged.clear();
+    }
+
+    /** Closes every stream, then deletes the files of staged targets that were not committed. */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        try {
+            closeStreams();
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (Path file : staged.keySet()) {
+            try {
+                Files.deleteIfExists(precompressedPath(file));
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        staged.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void closeStreams() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        IOException failure = null;
+        for (RenderTarget target : targets.values()) {
+            try {
+                target.stream().close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void closeQuietly(Exception primary) {
+        try {
+            close();
+        } catch (IOException e) {
+            primary.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.adeniuobesu.resumegenerator.infrastructure;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a file and, in the same pass, its gzip-compressed copy next to it, so a static
+ * web server can send the compressed variant without compressing on each request. The
+ * copy is compressed at the best level: the cost is paid once, at render time.
+ */
+final class PrecompressedOutputStream extends OutputStream {
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final OutputStream plain;
+    private final OutputStream compressed;
+
+    private PrecompressedOutputStream(OutputStream plain, OutputStream compressed) {
+        this.plain = plain;
+        this.compressed = compressed;
+    }
+
+    static PrecompressedOutputStream open(Path path) throws IOException {
+        OutputStream plain = Files.newOutputStream(path);
+        try {
+            OutputStream file = Files.newOutputStream(OutputTargets.precompressedPath(path));
+            try {
+                return new PrecompressedOutputStream(plain, new GZIPOutputStream(file, GZIP_BUFFER_SIZE) {
+                    {
+                        def.setLevel(Deflater.BEST_COMPRESSION);
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                file.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            plain.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        plain.write(b);
+        compressed.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        plain.write(b, off, len);
+        compressed.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        plain.flush();
+        compressed.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            compressed.close();
+        } finally {
+            plain.close();
+        }
+    }
+}
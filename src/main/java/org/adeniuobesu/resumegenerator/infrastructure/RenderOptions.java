@@ -0,0 +1,62 @@
+package org.adeniuobesu.resumegenerator.infrastructure;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * How resumes are rendered to files, shared by batch, site and watch renders. Start from
+ * {@link #defaults()} and name what differs, e.g.
+ * {@code RenderOptions.defaults().withCache(cache).withPrecompressed(Set.of(OutputType.HTML))}.
+ *
+ * @param cache         Render cache shared by every render, or {@code null} to render everything
+ * @param precompressed Formats whose files also get a gzip copy, see {@link OutputTargets#precompressedPath}
+ * @param channels      Formats whose files exporters write as channels unless they are
+ *                      precompressed, see {@link OutputTargets}
+ */
+public record RenderOptions(ValidationMode validationMode, RenderCache cache, OutputStrategyFactory exporterFactory,
+                            Set<OutputType> precompressed, Set<OutputType> channels) {
+
+    public RenderOptions {
+        Objects.requireNonNull(validationMode, "validationMode");
+        Objects.requireNonNull(exporterFactory, "exporterFactory");
+        precompressed = Set.copyOf(precompressed);
+        channels = Set.copyOf(channels);
+    }
+
+    /** Fail-fast validation, no cache, the default exporters, plain streams only. */
+    public static RenderOptions defaults() {
+        return new RenderOptions(ValidationMode.FAIL_FAST, null, new OutputStrategyFactory(), Set.of(), Set.of());
+    }
+
+    public RenderOptions withValidationMode(ValidationMode validationMode) {
+        return new RenderOptions(validationMode, cache, exporterFactory, precompressed, channels);
+    }
+
+    public RenderOptions withCache(RenderCache cache) {
+        return new RenderOptions(validationMode, cache, exporterFactory, precompressed, channels);
+    }
+
+    public RenderOptions withExporterFactory(OutputStrategyFactory exporterFactory) {
+        return new RenderOptions(validationMode, cache, exporterFactory, precompressed, channels);
+    }
+
+    public RenderOptions withPrecompressed(Set<OutputType> precompressed) {
+        return new RenderOptions(validationMode, cache, exporterFactory, precompressed, channels);
+    }
+
+    public RenderOptions withChannels(Set<OutputType> channels) {
+        return new RenderOptions(validationMode, cache, exporterFactory, precompressed, channels);
+    }
+
+    /** A pipeline validating in this mode and serving from, and storing to, this cache. */
+    public BuildResumeUseCase pipeline() {
+        return new BuildResumeUseCase(new ResumeValidator(validationMode), cache);
+    }
+}
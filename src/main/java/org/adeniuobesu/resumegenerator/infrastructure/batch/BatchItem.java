@@ -0,0 +1,49 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.input.SnapshotInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * One resume of a batch run: a file of its own, or a record of an NDJSON source.
+ *
+ * @param input Where the resume comes from, as shown in reports
+ * @param name  Value of the {@code {name}} placeholder
+ * @param index Value of the {@code {index}} placeholder, unique within the batch
+ * @param source Reads the resume; called on a worker thread
+ */
+record BatchItem(String input, String name, long index, InputStrategy<ResumeDto> source) {
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    /** A JSON file, or a {@code *.snapshot} file written by the {@code SNAPSHOT} format. */
+    static BatchItem file(Path path, long index) {
+        return new BatchItem(path.toString(), OutputNameTemplate.baseName(path), index, () -> {
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                return read(path, inputStream);
+            } catch (IOException e) {
+                throw new InputProcessingException(path.toString(), e);
+            }
+        });
+    }
+
+    /** Reads the content of {@code path} as {@link #file} does, from an already open stream. */
+    static ResumeDto read(Path path, InputStream inputStream) {
+        return path.getFileName().toString().endsWith(SNAPSHOT_EXTENSION)
+            ? new SnapshotInputStrategy(inputStream).collectData()
+            : new JsonInputStrategy(inputStream).collectData();
+    }
+
+    /** Named after the source and the record's line, e.g. {@code candidates-17}. */
+    static BatchItem record(Path source, Record<ResumeDto> record) {
+        return new BatchItem(source + ":" + record.position(),
+            OutputNameTemplate.baseName(source) + "-" + record.position(), record.position(), record);
+    }
+}
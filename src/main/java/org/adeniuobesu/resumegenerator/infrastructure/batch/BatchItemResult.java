@@ -0,0 +1,22 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public record BatchItemResult(
+    String input,
+    List<Path> outputs,
+    String error
+) {
+    public static BatchItemResult success(String input, List<Path> outputs) {
+        return new BatchItemResult(input, outputs, null);
+    }
+
+    public static BatchItemResult failure(String input, String error) {
+        return new BatchItemResult(input, List.of(), error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,233 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Renders many resumes in a single JVM run, from a list of files or from the records of
+ * an NDJSON source.
+ * <p>
+ * Items are rendered in parallel on a dedicated {@link ForkJoinPool}, all through one
+ * {@link BuildResumeUseCase} pipeline. Each item is parsed and validated once and then
+ * exported to every requested format, through exporters shared by all items.
+ * A failing item never aborts the batch; it is recorded in the returned {@link BatchReport}
+ * in input order.
+ */
+public class BatchRenderer {
+    private final Set<OutputType> outputFormats;
+    private final Path outputDir;
+    private final OutputNameTemplate nameTemplate;
+    private final int parallelism;
+    private final BuildResumeUseCase pipeline;
+    private final RenderOptions options;
+    private final Map<OutputType, OutputStrategy<ResumeDto>> exporters = new EnumMap<>(OutputType.class);
+
+    public BatchRenderer(Set<OutputType> outputFormats, Path outputDir,
+                         OutputNameTemplate nameTemplate, int parallelism) {
+        this(outputFormats, outputDir, nameTemplate, parallelism, RenderOptions.defaults());
+    }
+
+    /**
+     * @param options Validation, cache and exporters shared by all items, and how their files are written
+     */
+    public BatchRenderer(Set<OutputType> outputFormats, Path outputDir,
+                         OutputNameTemplate nameTemplate, int parallelism, RenderOptions options) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        if (outputFormats.size() > 1 && !nameTemplate.containsExtension()) {
+            throw new IllegalArgumentException(
+                "Output name template must contain {ext} when rendering several formats");
+        }
+        this.outputFormats = Set.copyOf(outputFormats);
+        this.outputDir = outputDir;
+        this.nameTemplate = nameTemplate;
+        this.parallelism = parallelism;
+        this.pipeline = options.pipeline();
+        this.options = options;
+        for (OutputType format : this.outputFormats) {
+            exporters.put(format, options.exporterFactory().create(format));
+        }
+    }
+
+    /**
+     * Renders every file in order. Two files named alike, e.g. {@code a/cv.json} and
+     * {@code b/cv.json} under {@value OutputNameTemplate#DEFAULT}, would write the same
+     * output: the later one fails instead, and the earlier one is rendered.
+     */
+    public BatchReport render(List<Path> inputs) throws InterruptedException {
+        List<BatchItem> items = new ArrayList<>(inputs.size());
+        Map<Long, BatchItemResult> collisions = new HashMap<>();
+        Map<Path, String> writers = new HashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            BatchItem item = BatchItem.file(inputs.get(i), i + 1);
+            String collision = claimOutputs(item, writers);
+            if (collision != null) {
+                collisions.put(item.index(), BatchItemResult.failure(item.input(), collision));
+            } else {
+                items.add(item);
+            }
+        }
+        return render(items.iterator(), collisions, false);
+    }
+
+    /**
+     * Renders every record of an NDJSON source. Lines are read on the calling thread and
+     * handed to the pool unparsed, so records are parsed in parallel with the rest of
+     * their pipeline.
+     *
+     * @param source The NDJSON file, which names the outputs of its records
+     */
+    public BatchReport render(Path source, StreamingInputStrategy<ResumeDto> records)
+            throws InterruptedException {
+        try (Stream<Record<ResumeDto>> stream = records.records()) {
+            return render(stream.map(record -> BatchItem.record(source, record)).iterator());
+        }
+    }
+
+    /**
+     * At most {@code 2 × parallelism} items are in flight at once, so memory does not
+     * grow with the length of the batch.
+     */
+    BatchReport render(Iterator<BatchItem> items) throws InterruptedException {
+        return render(items, Map.of(), false);
+    }
+
+    /**
+     * Renders like {@link #render(Iterator)}, but writes the outputs of each item to
+     * temporary files that replace them once it succeeds, so a failing item leaves its
+     * previous outputs as they were.
+     */
+    BatchReport renderStaged(Iterator<BatchItem> items) throws InterruptedException {
+        return render(items, Map.of(), true);
+    }
+
+    /**
+     * @param rejected Failures of items left out of {@code items}, by index
+     * @param staged   Whether outputs are staged, see {@link OutputTargets#openStaged}
+     */
+    private BatchReport render(Iterator<BatchItem> items, Map<Long, BatchItemResult> rejected, boolean staged)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        int window = 2 * parallelism;
+        Semaphore slots = new Semaphore(window);
+        LongAdder succeeded = new LongAdder();
+        Map<Long, BatchItemResult> failures = new ConcurrentSkipListMap<>(rejected);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (items.hasNext()) {
+                BatchItem item = items.next();
+                slots.acquire();
+                pool.execute(() -> {
+                    try {
+                        BatchItemResult result = renderItem(item, staged);
+                        if (result.succeeded()) {
+                            succeeded.increment();
+                        } else {
+                            failures.put(item.index(), result);
+                        }
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+            slots.acquire(window);
+        } finally {
+            pool.shutdown();
+        }
+        return new BatchReport(succeeded.sum(), List.copyOf(failures.values()),
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private BatchItemResult renderItem(BatchItem item, boolean staged) {
+        Map<OutputType, Path> outputs = resolveOutputs(item);
+        try (OutputTargets targets = staged
+                ? OutputTargets.openStaged(outputs, exporters::get, options)
+                : OutputTargets.open(outputs, exporters::get, options)) {
+            pipeline.execute(item.source(), targets.targets());
+            if (staged) {
+                targets.commit();
+            }
+            return BatchItemResult.success(item.input(), List.copyOf(outputs.values()));
+        } catch (Exception e) {
+            if (!staged) {
+                deletePartialOutputs(outputs);
+            }
+            return BatchItemResult.failure(item.input(), describe(e));
+        }
+    }
+
+    /**
+     * Records the outputs of {@code item} as written by it, unless an earlier item already
+     * writes one of them.
+     *
+     * @param writers The input writing each output so far
+     * @return Why the item cannot be rendered, or {@code null} if its outputs are its own
+     */
+    private String claimOutputs(BatchItem item, Map<Path, String> writers) {
+        Map<OutputType, Path> outputs = resolveOutputs(item);
+        for (Path output : outputs.values()) {
+            String other = writers.get(output.toAbsolutePath().normalize());
+            if (other != null) {
+                return "Output '" + output + "' is already written by " + other;
+            }
+        }
+        for (Path output : outputs.values()) {
+            writers.put(output.toAbsolutePath().normalize(), item.input());
+        }
+        return null;
+    }
+
+    private Map<OutputType, Path> resolveOutputs(BatchItem item) {
+        Map<OutputType, Path> outputs = new EnumMap<>(OutputType.class);
+        for (OutputType format : outputFormats) {
+            String extension = format.name().toLowerCase();
+            outputs.put(format, outputDir.resolve(nameTemplate.resolve(item.name(), item.index(), extension)));
+        }
+        return outputs;
+    }
+
+    private void deletePartialOutputs(Map<OutputType, Path> outputs) {
+        for (Map.Entry<OutputType, Path> output : outputs.entrySet()) {
+            try {
+                Files.deleteIfExists(output.getValue());
+                if (options.precompressed().contains(output.getKey())) {
+                    Files.deleteIfExists(OutputTargets.precompressedPath(output.getValue()));
+                }
+            } catch (IOException ignored) {
+                // The item is already reported as failed; a leftover file is harmless
+            }
+        }
+    }
+
+    static String describe(Throwable e) {
+        if (e.getCause() != null && e.getCause() != e) {
+            return e.getMessage() + " (" + e.getCause().getMessage() + ")";
+        }
+        return e.getMessage();
+    }
+}
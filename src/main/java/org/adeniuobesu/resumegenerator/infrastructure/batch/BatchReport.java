@@ -0,0 +1,22 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a batch run. Succeeded items are only counted, so the report of a run
+ * over millions of records stays as small as its list of failures.
+ */
+public record BatchReport(
+    long succeededCount,
+    List<BatchItemResult> failures,
+    Duration elapsed
+) {
+    public long itemCount() {
+        return succeededCount + failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the resume files of a batch run.
+ * <p>
+ * The source is either a directory, in which case every {@code *.json} file directly
+ * inside it is rendered, or a manifest file listing one resume path per line, to JSON
+ * or {@code *.snapshot} files. Manifest paths are resolved against the manifest's own
+ * directory; blank lines and lines starting with {@code #} are ignored. An
+ * {@code *.ndjson} source holds the resumes themselves, one per line, and is read as a
+ * stream rather than resolved here.
+ */
+public final class BatchSource {
+    private static final String JSON_EXTENSION = ".json";
+    private static final String NDJSON_EXTENSION = ".ndjson";
+    private static final String COMMENT_PREFIX = "#";
+
+    private BatchSource() {}
+
+    public static boolean isNdjson(Path source) {
+        return !Files.isDirectory(source) && source.getFileName().toString().endsWith(NDJSON_EXTENSION);
+    }
+
+    public static List<Path> resolve(Path source) throws IOException {
+        if (Files.isDirectory(source)) {
+            return listDirectory(source);
+        }
+        return readManifest(source);
+    }
+
+    private static List<Path> listDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> file.getFileName().toString().endsWith(JSON_EXTENSION))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static List<Path> readManifest(Path manifest) throws IOException {
+        Path baseDirectory = manifest.toAbsolutePath().getParent();
+        try (Stream<String> lines = Files.lines(manifest)) {
+            return lines
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                .map(baseDirectory::resolve)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfBookExporter;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfBookExporter.Book;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfBookExporter.Chapter;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+/**
+ * Renders many resumes, from a list of files or from the records of an NDJSON source,
+ * into one PDF book, a bookmarked chapter per candidate, in input order.
+ * <p>
+ * Items are parsed, validated and laid out in parallel on a dedicated
+ * {@link ForkJoinPool}, at most {@code 2 × parallelism} items ahead of the chapter being
+ * written, so memory stays bounded however many candidates the book holds. Chapters are
+ * appended on the calling thread. A failing item is left out of the book and recorded
+ * in the returned {@link BatchReport}; a book with no chapter left is not written.
+ * <p>
+ * The book is written to a temporary file next to it and moved over the previous book
+ * only once it is finished, so a failed run leaves the last complete book in place.
+ */
+public class BookRenderer {
+    private final Path book;
+    private final int parallelism;
+    private final BuildResumeUseCase pipeline;
+    private final PdfBookExporter exporter;
+
+    public BookRenderer(Path book, int parallelism, ValidationMode validationMode, PdfProfile pdfProfile) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.book = book;
+        this.parallelism = parallelism;
+        this.pipeline = new BuildResumeUseCase(new ResumeValidator(validationMode));
+        this.exporter = new PdfBookExporter(pdfProfile);
+    }
+
+    public BatchReport render(List<Path> inputs) throws IOException {
+        List<BatchItem> items = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            items.add(BatchItem.file(inputs.get(i), i + 1));
+        }
+        return render(items.iterator());
+    }
+
+    /**
+     * Renders every record of an NDJSON source; lines are read on the calling thread and
+     * parsed on the pool.
+     *
+     * @param source The NDJSON file, which identifies its records in the report
+     */
+    public BatchReport render(Path source, StreamingInputStrategy<ResumeDto> records) throws IOException {
+        try (Stream<Record<ResumeDto>> stream = records.records()) {
+            return render(stream.map(record -> BatchItem.record(source, record)).iterator());
+        }
+    }
+
+    private BatchReport render(Iterator<BatchItem> items) throws IOException {
+        long start = System.nanoTime();
+        long succeeded = 0;
+        List<BatchItemResult> failures = new ArrayList<>();
+        int window = 2 * parallelism;
+        Deque<ForkJoinTask<Item>> pending = new ArrayDeque<>(window);
+
+        Path partial = Files.createTempFile(book.toAbsolutePath().getParent(), book.getFileName() + ".", ".tmp");
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        boolean finished = false;
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(partial);
+                 Book writer = exporter.open(outputStream)) {
+                while (true) {
+                    while (pending.size() < window && items.hasNext()) {
+                        BatchItem next = items.next();
+                        pending.addLast(pool.submit(() -> layout(next)));
+                    }
+                    if (pending.isEmpty()) {
+                        break;
+                    }
+                    Item item = pending.removeFirst().join();
+                    if (item.chapter() != null) {
+                        writer.append(item.chapter());
+                        succeeded++;
+                    } else {
+                        failures.add(BatchItemResult.failure(item.input(), item.error()));
+                    }
+                }
+                if (succeeded > 0) {
+                    writer.finish();
+                    finished = true;
+                }
+            }
+            if (finished) {
+                Files.move(partial, book, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            pool.shutdownNow();
+            Files.deleteIfExists(partial);
+        }
+        return new BatchReport(succeeded, failures, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private Item layout(BatchItem input) {
+        try {
+            return new Item(input.input(), exporter.layout(pipeline.prepare(input.source())), null);
+        } catch (Exception e) {
+            return new Item(input.input(), null, BatchRenderer.describe(e));
+        }
+    }
+
+    /** A laid out chapter, or why the input could not become one. */
+    private record Item(String input, Chapter chapter, String error) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.nio.file.Path;
+
+/**
+ * Builds output file names for batch items.
+ * <p>
+ * Supported placeholders: {@code {name}} (input file name without its {@code .json}
+ * extension), {@code {index}} (1-based position in the batch) and {@code {ext}}
+ * (lower-case output format). Records of an NDJSON source are named after the source
+ * and their line, e.g. {@code candidates-17}, and their index is that line number.
+ */
+public final class OutputNameTemplate {
+    public static final String DEFAULT = "{name}.{ext}";
+
+    private static final String NAME = "{name}";
+    private static final String INDEX = "{index}";
+    private static final String EXTENSION = "{ext}";
+
+    private final String pattern;
+
+    public OutputNameTemplate(String pattern) {
+        if (pattern == null || (!pattern.contains(NAME) && !pattern.contains(INDEX))) {
+            throw new IllegalArgumentException(
+                "Output name template must contain " + NAME + " or " + INDEX + ": " + pattern);
+        }
+        this.pattern = pattern;
+    }
+
+    public boolean containsExtension() {
+        return pattern.contains(EXTENSION);
+    }
+
+    public String resolve(Path input, int index, String extension) {
+        return resolve(baseName(input), index, extension);
+    }
+
+    String resolve(String name, long index, String extension) {
+        return pattern
+            .replace(NAME, name)
+            .replace(INDEX, Long.toString(index))
+            .replace(EXTENSION, extension);
+    }
+
+    /**
+     * The link from an output file to {@code fileName} in the output directory; a pattern
+     * that names files in subdirectories, which are created as outputs are written, leads
+     * back up with {@code ../}.
+     */
+    public String linkToOutputDirectory(String fileName) {
+        int depth = Path.of(resolve("name", 1, "ext")).normalize().getNameCount() - 1;
+        return "../".repeat(depth) + fileName;
+    }
+
+    static String baseName(Path input) {
+        String fileName = input.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
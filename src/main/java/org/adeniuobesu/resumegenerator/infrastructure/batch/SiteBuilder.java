@@ -0,0 +1,254 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlIndexExporter;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Builds a static site from a directory of resumes: one HTML page per resume, named
+ * after its input, and an index of every page split into pages of a fixed size.
+ * <p>
+ * A rebuild only renders what changed since the last build, as recorded in the
+ * {@link SiteManifest} kept in the site directory. An input whose size and modification
+ * time are unchanged is taken as unchanged; otherwise its content digest decides, so a
+ * touched but identical file is not rendered again. Pages whose input is gone are
+ * deleted. Any change to the page rendering id, e.g. a new theme, renders every page
+ * again; the index and the manifest are rewritten whenever an entry changes. A no-op
+ * rebuild therefore costs reading the manifest, a listing and two {@code stat} calls per
+ * resume, and writes nothing.
+ * <p>
+ * Changed resumes are rendered by a {@link BatchRenderer}, each page replacing the
+ * previous one only once it is complete. A failing resume keeps the page and index entry
+ * it was last published with, if any, and is tried again on the next build. Index pages are named {@code index.html} and
+ * {@code index-n.html}, so inputs named like them fail rather than overwrite them.
+ */
+public class SiteBuilder {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final String PAGE_EXTENSION = ".html";
+    private static final OutputNameTemplate PAGE_NAMES = new OutputNameTemplate("{name}" + PAGE_EXTENSION);
+    /** The names of index pages, see {@link HtmlIndexExporter#fileName}. */
+    private static final Pattern INDEX_NAMES = Pattern.compile("index(-[1-9][0-9]*)?");
+
+    private final Path siteDir;
+    private final int pageSize;
+    private final int parallelism;
+    private final RenderOptions options;
+    private final HtmlIndexExporter indexExporter;
+    private final boolean precompress;
+
+    /**
+     * @param pageSize Number of resumes listed on each index page
+     * @param options  How pages are rendered; index pages also get a gzip copy when HTML is precompressed
+     */
+    public SiteBuilder(Path siteDir, int pageSize, int parallelism, RenderOptions options,
+                       HtmlIndexExporter indexExporter) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Index page size must be at least 1: " + pageSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + parallelism);
+        }
+        this.siteDir = siteDir;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.options = options;
+        this.indexExporter = indexExporter;
+        this.precompress = options.precompressed().contains(OutputType.HTML);
+    }
+
+    /**
+     * @param source A directory of resumes, or a file listing them; see {@link BatchSource}
+     */
+    public SiteReport build(Path source) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Path manifestPath = siteDir.resolve(SiteManifest.FILE_NAME);
+        SiteManifest previous = SiteManifest.read(manifestPath);
+        String gzip = precompress ? ";gzip" : "";
+        String pagesId = options.exporterFactory().create(OutputType.HTML).renderingId() + gzip;
+        String indexId = indexExporter.renderingId() + ";page-size=" + pageSize + gzip;
+        boolean samePages = pagesId.equals(previous.pagesId());
+
+        Map<String, SiteManifest.Entry> entries = new HashMap<>();
+        Map<String, String> inputsByName = new HashMap<>();
+        Map<String, SiteManifest.Entry> rendered = new ConcurrentHashMap<>();
+        List<BatchItem> changed = new ArrayList<>();
+        List<BatchItemResult> failures = new ArrayList<>();
+        boolean restated = false;
+        for (Path input : BatchSource.resolve(source)) {
+            String name = OutputNameTemplate.baseName(input);
+            if (INDEX_NAMES.matcher(name).matches()) {
+                failures.add(BatchItemResult.failure(input.toString(),
+                    "Page name '" + name + "' is reserved for the index"));
+                continue;
+            }
+            String other = inputsByName.putIfAbsent(name, input.toString());
+            if (other != null) {
+                failures.add(BatchItemResult.failure(input.toString(),
+                    "Page name '" + name + "' is already used by " + other));
+                continue;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(input, BasicFileAttributes.class);
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            SiteManifest.Entry entry = previous.entries().get(name);
+            if (samePages && entry != null && Files.exists(pagePath(name))) {
+                if (entry.size() == size && entry.modified() == modified) {
+                    entries.put(name, entry);
+                    continue;
+                }
+                if (entry.digest().equals(digest(Files.readAllBytes(input)))) {
+                    entries.put(name, entry.withState(size, modified));
+                    restated = true;
+                    continue;
+                }
+            }
+            changed.add(item(input, name, changed.size() + 1, size, modified, rendered));
+        }
+        long unchanged = entries.size();
+
+        long removed = 0;
+        for (String name : previous.entries().keySet()) {
+            if (!inputsByName.containsKey(name)) {
+                deletePage(pagePath(name));
+                removed++;
+            }
+        }
+
+        long renderedCount = 0;
+        if (!changed.isEmpty()) {
+            BatchRenderer renderer = new BatchRenderer(Set.of(OutputType.HTML), siteDir, PAGE_NAMES, parallelism,
+                options);
+            BatchReport report = renderer.renderStaged(changed.iterator());
+            for (BatchItemResult failure : report.failures()) {
+                rendered.remove(failure.input());
+            }
+            failures.addAll(report.failures());
+            renderedCount = report.succeededCount();
+            for (BatchItem item : changed) {
+                SiteManifest.Entry entry = rendered.get(item.input());
+                SiteManifest.Entry published = previous.entries().get(item.name());
+                if (entry != null) {
+                    entries.put(item.name(), entry);
+                } else if (published != null && Files.exists(pagePath(item.name()))) {
+                    // The page published last time stays, and is tried again on the next build
+                    entries.put(item.name(), published.stale());
+                } else {
+                    deletePage(pagePath(item.name()));
+                }
+            }
+        }
+
+        SiteManifest manifest = new SiteManifest(pagesId, indexId, entries);
+        boolean indexChanged = !changed.isEmpty() || removed > 0 || !indexId.equals(previous.indexId())
+            || !Files.exists(siteDir.resolve(HtmlIndexExporter.fileName(1)));
+        int indexPages = indexChanged ? writeIndex(manifest) : pageCount(entries.size());
+        if (indexChanged || restated) {
+            manifest.write(manifestPath);
+        }
+
+        return new SiteReport(renderedCount, unchanged, removed, indexPages, List.copyOf(failures),
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private BatchItem item(Path input, String name, long index, long size, long modified,
+                           Map<String, SiteManifest.Entry> rendered) {
+        String key = input.toString();
+        return new BatchItem(key, name, index, () -> {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(input);
+            } catch (IOException e) {
+                throw new InputProcessingException(key, e);
+            }
+            ResumeDto resume = BatchItem.read(input, new ByteArrayInputStream(content));
+            rendered.put(key, new SiteManifest.Entry(name, size, modified, digest(content),
+                resume.fullName(), resume.professionalTitle()));
+            return resume;
+        });
+    }
+
+    /** Writes every index page, then deletes the pages left over from a longer index. */
+    private int writeIndex(SiteManifest manifest) throws IOException {
+        List<HtmlIndexExporter.Entry> links = manifest.entries().values().stream()
+            .sorted(Comparator.comparing((SiteManifest.Entry entry) -> entry.fullName(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(SiteManifest.Entry::name))
+            .map(entry -> new HtmlIndexExporter.Entry(
+                href(entry.name() + PAGE_EXTENSION), entry.fullName(), entry.professionalTitle()))
+            .toList();
+        int count = pageCount(links.size());
+        for (int number = 1; number <= count; number++) {
+            List<HtmlIndexExporter.Entry> page =
+                links.subList((number - 1) * pageSize, Math.min(number * pageSize, links.size()));
+            Path path = siteDir.resolve(HtmlIndexExporter.fileName(number));
+            try (OutputStream out = OutputTargets.openFile(path, precompress)) {
+                indexExporter.generate(new HtmlIndexExporter.Page(page, number, count), out);
+            }
+        }
+        for (int number = count + 1; deletePage(siteDir.resolve(HtmlIndexExporter.fileName(number))); number++) {
+            // Keep going until the first page that was not there
+        }
+        return count;
+    }
+
+    private int pageCount(int entryCount) {
+        return Math.max(1, (entryCount + pageSize - 1) / pageSize);
+    }
+
+    private Path pagePath(String name) {
+        return siteDir.resolve(name + PAGE_EXTENSION);
+    }
+
+    /** Deletes a page and its gzip copy, if any; returns whether the page existed. */
+    private static boolean deletePage(Path page) throws IOException {
+        Files.deleteIfExists(OutputTargets.precompressedPath(page));
+        return Files.deleteIfExists(page);
+    }
+
+    /** Percent-encodes a file name into a relative link, leaving unreserved characters as they are. */
+    static String href(String fileName) {
+        StringBuilder href = new StringBuilder(fileName.length());
+        for (byte b : fileName.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                href.append(c);
+            } else {
+                href.append('%').append(HexFormat.of().withUpperCase().toHexDigits(b));
+            }
+        }
+        return href.toString();
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What the last build of a site produced: the rendering ids of its pages and index, and
+ * for each page, the state of its input and what the index shows of it.
+ * <p>
+ * It is a UTF-8 text file, one tab-separated entry per line after a header:
+ * <pre>
+ * # resume-site 1
+ * pages   &lt;rendering id&gt;
+ * index   &lt;rendering id&gt;
+ * &lt;name&gt;  &lt;size&gt;  &lt;modified, ns&gt;  &lt;SHA-256&gt;  &lt;full name&gt;  &lt;title&gt;
+ * </pre>
+ * Tabs, line breaks and backslashes in values are escaped. A file that is missing, is
+ * not UTF-8 or cannot be parsed reads as an empty manifest, which rebuilds the whole site.
+ */
+final class SiteManifest {
+    static final String FILE_NAME = ".site-manifest";
+
+    private static final String HEADER = "# resume-site 1";
+    private static final String PAGES = "pages";
+    private static final String INDEX = "index";
+    private static final int ENTRY_FIELDS = 6;
+
+    private final String pagesId;
+    private final String indexId;
+    private final Map<String, Entry> entries;
+
+    /**
+     * @param entries Entries by page name
+     */
+    SiteManifest(String pagesId, String indexId, Map<String, Entry> entries) {
+        this.pagesId = pagesId;
+        this.indexId = indexId;
+        this.entries = Collections.unmodifiableMap(new TreeMap<>(entries));
+    }
+
+    String pagesId() {
+        return pagesId;
+    }
+
+    String indexId() {
+        return indexId;
+    }
+
+    Map<String, Entry> entries() {
+        return entries;
+    }
+
+    static SiteManifest read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String pagesId = header(reader.readLine(), reader.readLine(), PAGES);
+            String indexId = header(HEADER, reader.readLine(), INDEX);
+            if (pagesId == null || indexId == null) {
+                return empty();
+            }
+            Map<String, Entry> entries = new TreeMap<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length != ENTRY_FIELDS) {
+                    return empty();
+                }
+                Entry entry = new Entry(unescape(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    fields[3], unescape(fields[4]), unescape(fields[5]));
+                entries.put(entry.name(), entry);
+            }
+            return new SiteManifest(pagesId, indexId, entries);
+        } catch (NoSuchFileException | CharacterCodingException | NumberFormatException e) {
+            return empty();
+        }
+    }
+
+    /** Replaces the manifest at {@code path} in one move, so a failed write leaves the old one. */
+    void write(Path path) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(HEADER + "\n");
+            writer.write(PAGES + "\t" + escape(pagesId) + "\n");
+            writer.write(INDEX + "\t" + escape(indexId) + "\n");
+            for (Entry entry : entries.values()) {
+                writer.write(escape(entry.name()) + "\t" + entry.size() + "\t" + entry.modified() + "\t"
+                    + entry.digest() + "\t" + escape(entry.fullName()) + "\t" + escape(entry.professionalTitle())
+                    + "\n");
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static SiteManifest empty() {
+        return new SiteManifest("", "", Map.of());
+    }
+
+    private static String header(String header, String line, String key) {
+        if (!HEADER.equals(header) || line == null || !line.startsWith(key + "\t")) {
+            return null;
+        }
+        return unescape(line.substring(key.length() + 1));
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * One page of the site.
+     *
+     * @param name     Page name, the input file name without its extension
+     * @param size     Size of the input when it was last checked
+     * @param modified Modification time of the input when it was last checked, in nanoseconds
+     * @param digest   SHA-256 of the input content the page was rendered from
+     */
+    record Entry(String name, long size, long modified, String digest, String fullName, String professionalTitle) {
+        Entry withState(long size, long modified) {
+            return new Entry(name, size, modified, digest, fullName, professionalTitle);
+        }
+
+        /** This entry with a state and digest that match no input, so its page is rendered again. */
+        Entry stale() {
+            return new Entry(name, -1, -1, "", fullName, professionalTitle);
+        }
+    }
+}
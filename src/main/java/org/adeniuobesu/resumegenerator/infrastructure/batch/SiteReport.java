@@ -0,0 +1,25 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a site build: how many pages were rendered again, kept as they were or
+ * removed with their input, and the items that failed. A failed item has no page.
+ */
+public record SiteReport(
+    long renderedCount,
+    long unchangedCount,
+    long removedCount,
+    int indexPageCount,
+    List<BatchItemResult> failures,
+    Duration elapsed
+) {
+    public long itemCount() {
+        return renderedCount + unchangedCount + failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -2,17 +2,22 @@ package org.adeniuobesu.resumegenerator.infrastructure.factories;
 
 import org.adeniuobesu.resumegenerator.adapters.input.CliInputStrategy;
 import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.input.MappedNdjsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.input.SnapshotInputStrategy;
 import org.adeniuobesu.resumegenerator.adapters.models.InputType;
 import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
 import org.adeniuobesu.resumegenerator.application.exceptions.InputProcessingException;
 import org.adeniuobesu.resumegenerator.application.ports.InputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy;
 import org.adeniuobesu.resumegenerator.adapters.exceptions.FileInputException;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Scanner;
+import java.util.function.Function;
 
 public class InputStrategyFactory {
     private final Scanner cliScanner;
@@ -25,7 +30,8 @@ public class InputStrategyFactory {
         try {
             return switch (type) {
                 case CLI -> new CliInputStrategy(cliScanner);
-                case JSON -> createJsonInputStrategy(source);
+                case JSON -> createFileInputStrategy(source, JsonInputStrategy::new);
+                case SNAPSHOT -> createFileInputStrategy(source, SnapshotInputStrategy::new);
                 default -> throw new InputProcessingException("Unsupported input type: " + type);
             };
         } catch (FileInputException e) {
@@ -33,12 +39,38 @@ public class InputStrategyFactory {
         }
     }
 
-    private InputStrategy<ResumeDto> createJsonInputStrategy(String source) throws FileInputException {
-        try {
-            InputStream stream = Files.newInputStream(Paths.get(source));
-            return new JsonInputStrategy(stream);
-        } catch (IOException e) {
-            throw new FileInputException(source, e);
+    /**
+     * Creates an input holding many resumes. The file is memory-mapped when the records
+     * are opened and closed with their stream.
+     */
+    public StreamingInputStrategy<ResumeDto> createStreaming(InputType type, String source)
+            throws InputProcessingException {
+        if (type != InputType.NDJSON) {
+            throw new InputProcessingException("Unsupported streaming input type: " + type);
+        }
+        Path path = Paths.get(source);
+        if (!Files.isReadable(path)) {
+            throw new InputProcessingException(source, new FileInputException(source));
+        }
+        return new MappedNdjsonInputStrategy(path);
+    }
+
+    /**
+     * The file is checked up front but only opened while the data is collected, so the
+     * stream is closed however the strategy is used.
+     */
+    private InputStrategy<ResumeDto> createFileInputStrategy(
+            String source, Function<InputStream, InputStrategy<ResumeDto>> reader) throws FileInputException {
+        Path path = Paths.get(source);
+        if (!Files.isReadable(path)) {
+            throw new FileInputException(source);
         }
+        return () -> {
+            try (InputStream stream = Files.newInputStream(path)) {
+                return reader.apply(stream).collectData();
+            } catch (IOException e) {
+                throw new FileInputException(source, e);
+            }
+        };
     }
 }
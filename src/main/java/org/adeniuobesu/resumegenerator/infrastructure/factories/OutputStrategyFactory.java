@@ -2,22 +2,61 @@ package org.adeniuobesu.resumegenerator.infrastructure.factories;
 
 import org.adeniuobesu.resumegenerator.adapters.exceptions.AdapterException;
 import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
 import org.adeniuobesu.resumegenerator.adapters.output.HtmlExporter;
 import org.adeniuobesu.resumegenerator.adapters.output.MarkdownExporter;
 import org.adeniuobesu.resumegenerator.adapters.output.PdfExporter;
+import org.adeniuobesu.resumegenerator.adapters.output.SnapshotExporter;
 import org.adeniuobesu.resumegenerator.adapters.output.TextExporter;
 import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
 import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
 import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import java.nio.file.Path;
 
 public class OutputStrategyFactory {
+    private final PdfProfile pdfProfile;
+    private final Path htmlTheme;
+    private final boolean minifyHtml;
+    private final String sharedStylesheet;
+
+    public OutputStrategyFactory() {
+        this(PdfProfile.BALANCED);
+    }
+
+    public OutputStrategyFactory(PdfProfile pdfProfile) {
+        this(pdfProfile, null);
+    }
+
+    /**
+     * @param htmlTheme Template for HTML output instead of the bundled layout, or {@code null}
+     */
+    public OutputStrategyFactory(PdfProfile pdfProfile, Path htmlTheme) {
+        this(pdfProfile, htmlTheme, false);
+    }
+
+    public OutputStrategyFactory(PdfProfile pdfProfile, Path htmlTheme, boolean minifyHtml) {
+        this(pdfProfile, htmlTheme, minifyHtml, null);
+    }
+
+    /**
+     * @param sharedStylesheet Link to the stylesheet HTML pages use instead of inline styles,
+     *                         or {@code null} to inline them in every page
+     */
+    public OutputStrategyFactory(PdfProfile pdfProfile, Path htmlTheme, boolean minifyHtml, String sharedStylesheet) {
+        this.pdfProfile = pdfProfile;
+        this.htmlTheme = htmlTheme;
+        this.minifyHtml = minifyHtml;
+        this.sharedStylesheet = sharedStylesheet;
+    }
+
     public OutputStrategy<ResumeDto> create(OutputType type) throws OutputProcessingException {
         try {
             return switch (type) {
-                case PDF -> new PdfExporter();
-                case HTML -> new HtmlExporter();
+                case PDF -> new PdfExporter(pdfProfile);
+                case HTML -> new HtmlExporter(sharedStylesheet, htmlTheme, minifyHtml, sharedStylesheet == null);
                 case MARKDOWN -> new MarkdownExporter();
                 case TEXT -> new TextExporter();
+                case SNAPSHOT -> new SnapshotExporter();
                 default -> throw new OutputProcessingException("Unsupported output type: " + type);
             };
         } catch (AdapterException e) {
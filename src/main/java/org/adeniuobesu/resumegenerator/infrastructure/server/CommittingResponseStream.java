@@ -0,0 +1,71 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Response body that sends the {@code 200} status line and headers only when the
+ * exporter first writes. Until then the handler can still answer with an error
+ * status, which covers every parsing and validation failure.
+ */
+final class CommittingResponseStream extends OutputStream {
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int CHUNKED = 0;
+
+    private final HttpExchange exchange;
+    private final String contentType;
+    private OutputStream body;
+
+    CommittingResponseStream(HttpExchange exchange, String contentType) {
+        this.exchange = exchange;
+        this.contentType = contentType;
+    }
+
+    boolean isCommitted() {
+        return body != null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        commit().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            // Nothing to send yet, so the status can still change
+            return;
+        }
+        commit().write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (body != null) {
+            body.flush();
+        }
+    }
+
+    /** Completes the response, committing an empty body if nothing was written. */
+    void finish() throws IOException {
+        commit().close();
+    }
+
+    // Closing is left to finish(): exporters may close the stream they are given
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private OutputStream commit() throws IOException {
+        if (body == null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, CHUNKED);
+            body = new BufferedOutputStream(exchange.getResponseBody(), BUFFER_SIZE);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,175 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonCodec;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.ResumeGenerationException;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@code POST /render?format=HTML} with a {@link ResumeDto} JSON body.
+ * <p>
+ * The body is parsed with the process-wide {@link JsonCodec} and rendered through one
+ * {@link BuildResumeUseCase}, with one exporter per format shared by all requests.
+ * The rendered document is streamed back as it is produced. Failures before the
+ * first byte map to 400 (bad request or JSON), 422 (validation) or 500.
+ */
+final class RenderHandler implements HttpHandler {
+    private static final String SAMPLE_RESOURCE = "/samples/resume.json";
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final String TEXT_PLAIN = "text/plain; charset=utf-8";
+    private static final String FORMAT_REQUIRED = "Query parameter 'format' must be one of "
+        + Arrays.stream(OutputType.values()).map(OutputType::name).collect(Collectors.joining(", "));
+    private static final Map<OutputType, String> CONTENT_TYPES = Map.of(
+        OutputType.PDF, "application/pdf",
+        OutputType.HTML, "text/html; charset=utf-8",
+        OutputType.MARKDOWN, "text/markdown; charset=utf-8",
+        OutputType.TEXT, TEXT_PLAIN,
+        OutputType.SNAPSHOT, "application/octet-stream"
+    );
+
+    private final JsonCodec codec = JsonCodec.shared();
+    private final BuildResumeUseCase pipeline;
+    private final Map<OutputType, OutputStrategy<ResumeDto>> exporters = new EnumMap<>(OutputType.class);
+
+    RenderHandler(ValidationMode validationMode, RenderCache cache, OutputStrategyFactory exporterFactory) {
+        this.pipeline = new BuildResumeUseCase(new ResumeValidator(validationMode), cache);
+        for (OutputType format : OutputType.values()) {
+            exporters.put(format, exporterFactory.create(format));
+        }
+    }
+
+    /**
+     * Runs the bundled sample through every format, so class loading, Jackson's
+     * deserializer cache and the first JIT tiers are paid before the first request.
+     * The warm-up bypasses the render cache, which would otherwise answer every round.
+     */
+    void warmUp() {
+        codec.warmUp();
+        BuildResumeUseCase uncached = new BuildResumeUseCase(new ResumeValidator());
+        byte[] sample = readSample();
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            for (OutputType format : OutputType.values()) {
+                InputStream in = new ByteArrayInputStream(sample);
+                uncached.execute(new JsonInputStrategy(in, codec),
+                    Map.of(exporters.get(format), RenderTarget.of(OutputStream.nullOutputStream())));
+            }
+        }
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Only POST is supported");
+                return;
+            }
+
+            OutputType format = parseFormat(exchange);
+            if (format == null) {
+                sendError(exchange, 400, FORMAT_REQUIRED);
+                return;
+            }
+
+            render(exchange, format);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void render(HttpExchange exchange, OutputType format) throws IOException {
+        CommittingResponseStream response = new CommittingResponseStream(exchange, CONTENT_TYPES.get(format));
+        try {
+            pipeline.execute(new JsonInputStrategy(exchange.getRequestBody(), codec),
+                Map.of(exporters.get(format), RenderTarget.of(response)));
+            response.finish();
+        } catch (ResumeGenerationException e) {
+            fail(exchange, response, e.getCause() instanceof InvalidResumeException ? 422 : 500, describe(e));
+        } catch (JsonInputException e) {
+            fail(exchange, response, 400, describe(e));
+        } catch (RuntimeException e) {
+            fail(exchange, response, 500, describe(e));
+        }
+    }
+
+    private static void fail(HttpExchange exchange, CommittingResponseStream response,
+                             int status, String message) throws IOException {
+        if (response.isCommitted()) {
+            // The status line is gone; closing the exchange truncates the chunked body
+            System.err.println("✗ Render aborted mid-response: " + message);
+            return;
+        }
+        sendError(exchange, status, message);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_PLAIN);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static OutputType parseFormat(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            int eq = parameter.indexOf('=');
+            if (eq > 0 && "format".equals(parameter.substring(0, eq))) {
+                String value = URLDecoder.decode(parameter.substring(eq + 1), StandardCharsets.UTF_8);
+                try {
+                    return OutputType.valueOf(value.toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String describe(Throwable e) {
+        if (e.getCause() != null && e.getCause() != e) {
+            return e.getMessage() + System.lineSeparator() + e.getCause().getMessage();
+        }
+        return e.getMessage();
+    }
+
+    private static byte[] readSample() {
+        try (InputStream in = RenderHandler.class.getResourceAsStream(SAMPLE_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing warm-up sample: " + SAMPLE_RESOURCE);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
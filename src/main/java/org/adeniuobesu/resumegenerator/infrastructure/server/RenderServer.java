@@ -0,0 +1,88 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import com.sun.net.httpserver.HttpServer;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Long-running render service on the JDK's built-in HTTP server, so callers pay
+ * the JVM start-up and warm-up once instead of once per document.
+ * <ul>
+ *   <li>{@code POST /render?format=...} renders the JSON body, see {@link RenderHandler}</li>
+ *   <li>{@code GET /health} answers {@code ok} once the service is warmed up</li>
+ * </ul>
+ */
+public final class RenderServer {
+    private static final int STOP_DELAY_SECONDS = 2;
+    private static final int DEFAULT_BACKLOG = 0;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final RenderHandler renderHandler;
+    private final int platformThreads;
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    /**
+     * @param cache Render cache shared by all requests, or {@code null} to render every request
+     */
+    public RenderServer(InetSocketAddress address, ValidationMode validationMode, int platformThreads,
+                        RenderCache cache) throws IOException {
+        this(address, validationMode, platformThreads, cache, new OutputStrategyFactory());
+    }
+
+    public RenderServer(InetSocketAddress address, ValidationMode validationMode, int platformThreads,
+                        RenderCache cache, OutputStrategyFactory exporterFactory) throws IOException {
+        if (platformThreads < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1: " + platformThreads);
+        }
+        this.platformThreads = platformThreads;
+        this.renderHandler = new RenderHandler(validationMode, cache, exporterFactory);
+        this.server = HttpServer.create(address, DEFAULT_BACKLOG);
+        this.executor = ServerExecutors.requestExecutor(platformThreads);
+        server.setExecutor(executor);
+        server.createContext("/render", renderHandler);
+        server.createContext("/health", exchange -> {
+            byte[] body = "ok\n".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+    }
+
+    /** Warms up the pipeline, then starts accepting connections. */
+    public void start() {
+        renderHandler.warmUp();
+        server.start();
+    }
+
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    public String threading() {
+        return ServerExecutors.describe(platformThreads);
+    }
+
+    /** Stops accepting connections and gives in-flight renders a moment to finish. */
+    public synchronized void stop() {
+        if (stopped.getCount() == 0) {
+            return;
+        }
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        stopped.countDown();
+    }
+
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+}
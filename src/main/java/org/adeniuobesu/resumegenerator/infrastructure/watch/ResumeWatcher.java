@@ -0,0 +1,144 @@
+package org.adeniuobesu.resumegenerator.infrastructure.watch;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonCodec;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-renders one resume whenever its JSON file changes, in a single warm JVM.
+ * <p>
+ * The directory holding the input is watched through a {@link WatchService}, since
+ * editors often save by writing a temporary file and renaming it over the input.
+ * A burst of events is coalesced into one render once the directory has been
+ * quiet for {@link #DEBOUNCE}. Exporters are created once and reused for every render.
+ * <p>
+ * A render that fails, e.g. on a half-edited file, leaves the previous outputs in place:
+ * every format is written to a temporary file, and moved over its output only once all
+ * of them succeeded. The next save is rendered even if it restores the last good content.
+ */
+public final class ResumeWatcher {
+    private static final Duration DEBOUNCE = Duration.ofMillis(30);
+
+    /** Receives the outcome of every render, on the watching thread. */
+    public interface Listener {
+        void rendered(Duration elapsed);
+
+        /** The file was saved without changing its content, so nothing was rendered. */
+        void unchanged();
+
+        void failed(Exception e);
+    }
+
+    private final Path input;
+    private final Map<OutputType, Path> outputPaths;
+    private final RenderOptions options;
+    private final BuildResumeUseCase pipeline;
+    private final Listener listener;
+    private final JsonCodec codec = JsonCodec.shared();
+    private final Map<OutputType, OutputStrategy<ResumeDto>> exporters = new EnumMap<>(OutputType.class);
+    private byte[] lastRendered;
+
+    public ResumeWatcher(Path input, Map<OutputType, Path> outputPaths, Listener listener) {
+        this(input, outputPaths, RenderOptions.defaults(), listener);
+    }
+
+    /**
+     * @param options Validation, cache and exporters of every render, and how the outputs are written
+     */
+    public ResumeWatcher(Path input, Map<OutputType, Path> outputPaths, RenderOptions options, Listener listener) {
+        this.input = input.toAbsolutePath();
+        this.outputPaths = Map.copyOf(outputPaths);
+        this.options = options;
+        this.pipeline = options.pipeline();
+        this.listener = listener;
+        for (OutputType format : outputPaths.keySet()) {
+            exporters.put(format, options.exporterFactory().create(format));
+        }
+    }
+
+    /**
+     * Renders once, then again after every change, until the thread is interrupted
+     * or the input directory disappears.
+     */
+    public void watch() throws IOException, InterruptedException {
+        Path directory = input.getParent();
+        Path fileName = input.getFileName();
+
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+            // Registered first, so a save during the first render is seen afterwards
+            render();
+
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key, fileName);
+                // Wait for the burst to settle (truncate + write + close, or write + rename)
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(next, fileName);
+                }
+                if (!key.isValid()) {
+                    throw new IOException("Watched directory is no longer accessible: " + directory);
+                }
+                if (changed) {
+                    render();
+                }
+            }
+        }
+    }
+
+    private static boolean drain(WatchKey key, Path fileName) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+        }
+        key.reset();
+        return relevant;
+    }
+
+    void render() {
+        long start = System.nanoTime();
+        try {
+            byte[] content = Files.readAllBytes(input);
+            if (Arrays.equals(content, lastRendered)) {
+                listener.unchanged();
+                return;
+            }
+
+            // The pipeline validates before any exporter writes, and nothing replaces the
+            // outputs until every one of them is written
+            try (OutputTargets targets = OutputTargets.openStaged(outputPaths, exporters::get, options)) {
+                pipeline.execute(new JsonInputStrategy(new ByteArrayInputStream(content), codec),
+                    targets.targets());
+                targets.commit();
+            }
+            lastRendered = content;
+            listener.rendered(Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            // Typically a half-edited file; the last good outputs stay until the next save
+            lastRendered = null;
+            listener.failed(e);
+        }
+    }
+}
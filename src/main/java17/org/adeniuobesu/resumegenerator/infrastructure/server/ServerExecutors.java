@@ -0,0 +1,22 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Request executor for Java 17 builds: a fixed pool of platform threads.
+ * The {@code java21} Maven profile compiles a virtual-thread variant instead.
+ */
+final class ServerExecutors {
+
+    // Prevent instantiation
+    private ServerExecutors() {}
+
+    static ExecutorService requestExecutor(int platformThreads) {
+        return Executors.newFixedThreadPool(platformThreads);
+    }
+
+    static String describe(int platformThreads) {
+        return platformThreads + " platform threads";
+    }
+}
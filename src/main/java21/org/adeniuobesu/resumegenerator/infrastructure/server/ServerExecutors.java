@@ -0,0 +1,22 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Request executor for Java 21 builds: one virtual thread per request, so a
+ * client slowly sending or reading a body never holds a platform thread.
+ */
+final class ServerExecutors {
+
+    // Prevent instantiation
+    private ServerExecutors() {}
+
+    static ExecutorService requestExecutor(int platformThreads) {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    static String describe(int platformThreads) {
+        return "virtual threads";
+    }
+}
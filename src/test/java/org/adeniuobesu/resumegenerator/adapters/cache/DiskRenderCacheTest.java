@@ -0,0 +1,200 @@
+package org.adeniuobesu.resumegenerator.adapters.cache;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderCache;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+import org.adeniuobesu.resumegenerator.application.usecases.BuildResumeUseCase;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskRenderCacheTest {
+
+    private static final String FINGERPRINT = "0123456789abcdef";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void committedRendering_isServedOnTheNextLookup() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+
+        assertFalse(cache.copyTo(FINGERPRINT, "TEXT/1", first));
+        store(cache, "TEXT/1", "rendered text", first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        assertTrue(cache.copyTo(FINGERPRINT, "TEXT/1", second));
+        assertEquals("rendered text", first.toString(StandardCharsets.UTF_8));
+        assertEquals("rendered text", second.toString(StandardCharsets.UTF_8));
+        assertEquals(new RenderCacheStats(1, 1, 1, 0), cache.stats());
+    }
+
+    @Test
+    void discardedRendering_leavesNoEntry() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        RenderCache.Recording recording = cache.record(FINGERPRINT, "TEXT/1", target);
+        recording.stream().write("half a page".getBytes(StandardCharsets.UTF_8));
+        recording.discard();
+
+        assertEquals("half a page", target.toString(StandardCharsets.UTF_8));
+        assertFalse(cache.copyTo(FINGERPRINT, "TEXT/1", OutputStream.nullOutputStream()));
+        assertEquals(List.of(), files());
+        assertEquals(0, cache.stats().stores());
+    }
+
+    @Test
+    void entries_areKeyedOnTheRenderingId() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        store(cache, "HTML/2", "<h1>Ada</h1>", OutputStream.nullOutputStream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(cache.copyTo(FINGERPRINT, "HTML/2;minified", out));
+        assertFalse(cache.copyTo("fedcba9876543210", "HTML/2", out));
+        assertTrue(cache.copyTo(FINGERPRINT, "HTML/2", out));
+        assertEquals("<h1>Ada</h1>", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fingerprint_followsTheContentOfTheResume() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        ResumeDto resume = sample();
+        ResumeDto copy = sample();
+        ResumeDto renamed = new ResumeDto("Ada Lovelace", resume.professionalTitle(), resume.professionalSummary(),
+            resume.contactMethods(), resume.softSkills(), resume.workExperiences(), resume.educationHistory(),
+            resume.skillCategories(), resume.hobbies(), resume.languages());
+
+        assertEquals(cache.fingerprint(resume), cache.fingerprint(copy));
+        assertNotEquals(cache.fingerprint(resume), cache.fingerprint(renamed));
+    }
+
+    @Test
+    void growingPastTheBound_evictsTheLeastRecentlyUsedEntries() throws IOException {
+        String hundredBytes = "x".repeat(100);
+        DiskRenderCache cache = new DiskRenderCache(directory, 250);
+        store(cache, "A", hundredBytes, OutputStream.nullOutputStream());
+        store(cache, "B", hundredBytes, OutputStream.nullOutputStream());
+        for (Path entry : files()) {
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minusSeconds(3600)));
+        }
+        // A hit makes A the most recently used entry
+        assertTrue(cache.copyTo(FINGERPRINT, "A", OutputStream.nullOutputStream()));
+
+        store(cache, "C", hundredBytes, OutputStream.nullOutputStream());
+
+        assertTrue(cache.copyTo(FINGERPRINT, "A", OutputStream.nullOutputStream()));
+        assertFalse(cache.copyTo(FINGERPRINT, "B", OutputStream.nullOutputStream()));
+        assertTrue(cache.copyTo(FINGERPRINT, "C", OutputStream.nullOutputStream()));
+        assertEquals(200, files().stream().mapToLong(DiskRenderCacheTest::size).sum());
+        assertEquals(new RenderCacheStats(3, 1, 3, 1), cache.stats());
+    }
+
+    @Test
+    void useCase_servesAHitWithoutCallingTheExporter() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST), cache);
+        AtomicInteger calls = new AtomicInteger();
+        OutputStrategy<ResumeDto> exporter = new OutputStrategy<>() {
+            @Override
+            public void generate(ResumeDto data, OutputStream os) {
+                calls.incrementAndGet();
+                try {
+                    os.write(("Resume of " + data.fullName()).getBytes(StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public String renderingId() {
+                return "TEST/1";
+            }
+        };
+        ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+        ByteArrayOutputStream served = new ByteArrayOutputStream();
+
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(rendered)));
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(served)));
+
+        assertEquals(1, calls.get());
+        assertEquals(rendered.toString(StandardCharsets.UTF_8), served.toString(StandardCharsets.UTF_8));
+        assertEquals(new RenderCacheStats(1, 1, 1, 0), cache.stats());
+    }
+
+    @Test
+    void useCase_storesNothingWhenTheExporterFails() throws IOException {
+        DiskRenderCache cache = new DiskRenderCache(directory, 1024 * 1024);
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST), cache);
+        OutputStrategy<ResumeDto> failing = (data, os) -> {
+            try {
+                os.write("partial".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("exporter failed");
+        };
+
+        assertThrows(IllegalStateException.class,
+            () -> pipeline.execute(this::sample, Map.of(failing, RenderTarget.of(OutputStream.nullOutputStream()))));
+
+        assertEquals(List.of(), files());
+        assertEquals(0, cache.stats().stores());
+    }
+
+    // --- Helper Methods ---
+    private static void store(RenderCache cache, String renderingId, String content, OutputStream target)
+            throws IOException {
+        RenderCache.Recording recording = cache.record(FINGERPRINT, renderingId, target);
+        recording.stream().write(content.getBytes(StandardCharsets.UTF_8));
+        recording.commit();
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResumeDto sample() {
+        return new JsonInputStrategy(new ByteArrayInputStream(sampleBytes())).collectData();
+    }
+
+    private static byte[] sampleBytes() {
+        try (InputStream in = DiskRenderCacheTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
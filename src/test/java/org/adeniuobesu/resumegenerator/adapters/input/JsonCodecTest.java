@@ -0,0 +1,72 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecTest {
+
+    // Only databind accepts numbers as text and enums by index
+    private static final String COERCED = """
+        {"fullName": 42, "contactMethods": [{"type": 0, "value": true}]}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void bytecodeModule_readsLikePlainDatabind() throws Exception {
+        JsonCodec generated = new JsonCodec(true);
+        generated.warmUp();
+        for (byte[] json : new byte[][] {sample(), COERCED.getBytes(StandardCharsets.UTF_8)}) {
+            ResumeDto expected = objectMapper.readValue(json, ResumeDto.class);
+            assertEquals(expected, generated.readDatabind(json));
+            assertEquals(expected, generated.read(json));
+            assertEquals(expected, generated.read(ByteBuffer.wrap(json)));
+        }
+    }
+
+    @Test
+    void customMapper_appliesItsConfigurationToEveryDocument() throws Exception {
+        ObjectMapper stripping = new ObjectMapper().registerModule(new SimpleModule()
+            .addDeserializer(String.class, new StdDeserializer<>(String.class) {
+                @Override
+                public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return parser.getValueAsString().strip();
+                }
+            }));
+        JsonCodec codec = new JsonCodec(stripping);
+        byte[] json = """
+            {"fullName": "  Ada  ", "softSkills": [" Patience "]}
+            """.getBytes(StandardCharsets.UTF_8);
+
+        ResumeDto expected = stripping.readValue(json, ResumeDto.class);
+
+        assertEquals("Ada", expected.fullName());
+        assertEquals(expected, codec.read(json));
+        assertEquals(expected, codec.read(ByteBuffer.wrap(json)));
+    }
+
+    @Test
+    void shared_isOneCodecForTheProcess() {
+        assertSame(JsonCodec.shared(), JsonCodec.shared());
+    }
+
+    // --- Helper Methods ---
+    private static byte[] sample() throws Exception {
+        try (InputStream in = JsonCodecTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
+import org.adeniuobesu.resumegenerator.adapters.input.ResumeJsonReader.UnknownShapeException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonInputStrategyTest {
+
+    private static final String NULLS = """
+        {"fullName": "Jane Doe", "professionalTitle": null,
+         "contactMethods": [null, {"type": "EMAIL"}],
+         "softSkills": ["Mentoring", null],
+         "workExperiences": [{"companyName": "Acme", "keyAchievements": null}],
+         "languages": [{"language": "French", "proficiency": null}],
+         "hobbies": null, "fullName": "Jane Roe"}
+        """;
+
+    // Databind coerces numbers to text and reads enums by index
+    private static final String COERCED = """
+        {"fullName": 42, "contactMethods": [{"type": 0, "value": true}]}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamingReader_matchesDatabindOnTheSample() throws Exception {
+        byte[] json;
+        try (InputStream in = JsonInputStrategyTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            json = in.readAllBytes();
+        }
+        assertEquals(objectMapper.readValue(json, ResumeDto.class), stream(json));
+    }
+
+    @Test
+    void streamingReader_matchesDatabindOnNullsAndRepeatedProperties() throws Exception {
+        byte[] json = NULLS.getBytes(StandardCharsets.UTF_8);
+        assertEquals(objectMapper.readValue(json, ResumeDto.class), stream(json));
+    }
+
+    @Test
+    void collectData_fallsBackToDatabindForOtherShapes() throws Exception {
+        byte[] json = COERCED.getBytes(StandardCharsets.UTF_8);
+        assertThrows(UnknownShapeException.class, () -> stream(json));
+
+        ResumeDto resume = new JsonInputStrategy(new ByteArrayInputStream(json)).collectData();
+        assertEquals(objectMapper.readValue(json, ResumeDto.class), resume);
+        assertEquals("42", resume.fullName());
+    }
+
+    @Test
+    void collectData_rejectsWhatDatabindRejects() {
+        String[] invalid = {"{\"fullName\": \"Jane\", \"age\": 30}", "{\"fullName\": ", "", "[]"};
+        for (String json : invalid) {
+            JsonInputStrategy strategy = new JsonInputStrategy(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            assertThrows(JsonInputException.class, strategy::collectData, json);
+        }
+    }
+
+    // --- Helper Methods ---
+    private ResumeDto stream(byte[] json) throws Exception {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            return ResumeJsonReader.read(parser);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedNdjsonInputStrategyTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void records_matchTheBufferedReaderAcrossSegmentBoundaries() throws Exception {
+        // Short segments, so that most lines fall on a boundary and some outgrow a segment
+        String ndjson = IntStream.rangeClosed(1, 300)
+            .mapToObj(i -> (i % 50 == 0 ? "  " : line("Candidate " + i, "x".repeat(i % 7 == 0 ? 500 : i)))
+                + (i % 3 == 0 ? "\r\n" : "\n"))
+            .collect(Collectors.joining())
+            + line("Last", "no trailing newline");
+        Path file = write(ndjson);
+
+        List<String> expected = collect(new NdjsonInputStrategy(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))).records());
+        for (long segmentBytes : new long[] {64, 1000, MappedNdjsonInputStrategy.SEGMENT_BYTES}) {
+            MappedNdjsonInputStrategy mapped = new MappedNdjsonInputStrategy(file, JsonCodec.shared(), segmentBytes);
+            assertEquals(expected, collect(mapped.records()), "segments of " + segmentBytes + " bytes");
+        }
+    }
+
+    @Test
+    void parallelStream_parsesEveryRecordInOrder() throws Exception {
+        String ndjson = IntStream.rangeClosed(1, 5_000)
+            .mapToObj(i -> line("Candidate " + i, "Engineer"))
+            .collect(Collectors.joining("\n", "", "\n"));
+        MappedNdjsonInputStrategy mapped = new MappedNdjsonInputStrategy(write(ndjson), JsonCodec.shared(), 4096);
+
+        try (Stream<Record<ResumeDto>> records = mapped.records()) {
+            List<String> names = records.parallel().map(record -> record.collectData().fullName()).toList();
+            assertEquals(IntStream.rangeClosed(1, 5_000).mapToObj(i -> "Candidate " + i).toList(), names);
+        }
+    }
+
+    @Test
+    void record_isCollectedOnlyOnce() throws Exception {
+        MappedNdjsonInputStrategy mapped = new MappedNdjsonInputStrategy(write(line("Ada", "Engineer")));
+
+        try (Stream<Record<ResumeDto>> records = mapped.records()) {
+            Record<ResumeDto> record = records.findFirst().orElseThrow();
+            assertEquals("Ada", record.collectData().fullName());
+            assertThrows(IllegalStateException.class, record::collectData);
+        }
+    }
+
+    // --- Helper Methods ---
+    private Path write(String ndjson) throws Exception {
+        Path file = directory.resolve("candidates.ndjson");
+        Files.writeString(file, ndjson);
+        return file;
+    }
+
+    private static List<String> collect(Stream<Record<ResumeDto>> records) {
+        try (records) {
+            return records.map(record -> record.position() + ":" + record.collectData()).toList();
+        }
+    }
+
+    private static String line(String fullName, String title) {
+        return "{\"fullName\": \"" + fullName + "\", \"professionalTitle\": \"" + title + "\"}";
+    }
+}
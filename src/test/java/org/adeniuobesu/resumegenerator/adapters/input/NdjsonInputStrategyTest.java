@@ -0,0 +1,89 @@
+package org.adeniuobesu.resumegenerator.adapters.input;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.JsonInputException;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.StreamingInputStrategy.Record;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonInputStrategyTest {
+
+    @Test
+    void records_yieldOneResumePerLineNumberedByLine() {
+        // Longer than the read buffer, so the line spans several reads
+        String longTitle = "x".repeat(200_000);
+        String ndjson = line("Ada", "Engineer") + "\n"
+            + "\n"
+            + "  \r\n"
+            + line("Grace", longTitle) + "\r\n"
+            + line("Ümit", "Ingénieure");
+
+        try (Stream<Record<ResumeDto>> records = strategy(ndjson).records()) {
+            List<Record<ResumeDto>> all = records.toList();
+            assertEquals(List.of(1L, 4L, 5L), all.stream().map(Record::position).toList());
+            assertEquals("Ada", all.get(0).collectData().fullName());
+            assertEquals(longTitle, all.get(1).collectData().professionalTitle());
+            assertEquals("Ingénieure", all.get(2).collectData().professionalTitle());
+        }
+    }
+
+    @Test
+    void malformedLine_failsOnlyItsOwnRecord() {
+        String ndjson = line("Ada", "Engineer") + "\n{\"fullName\": \n" + line("Grace", "Admiral") + "\n";
+
+        try (Stream<Record<ResumeDto>> records = strategy(ndjson).records()) {
+            List<Record<ResumeDto>> all = records.toList();
+            assertEquals(3, all.size());
+            JsonInputException error = assertThrows(JsonInputException.class, () -> all.get(1).collectData());
+            assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+            assertEquals("Grace", all.get(2).collectData().fullName());
+        }
+    }
+
+    @Test
+    void parallelStream_parsesEveryRecordInOrder() {
+        String ndjson = IntStream.rangeClosed(1, 5_000)
+            .mapToObj(i -> line("Candidate " + i, "Engineer"))
+            .collect(Collectors.joining("\n", "", "\n"));
+
+        try (Stream<Record<ResumeDto>> records = strategy(ndjson).records()) {
+            List<String> names = records.parallel().map(record -> record.collectData().fullName()).toList();
+            assertEquals(IntStream.rangeClosed(1, 5_000).mapToObj(i -> "Candidate " + i).toList(), names);
+        }
+    }
+
+    @Test
+    void closingTheStream_closesTheInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        byte[] ndjson = (line("Ada", "Engineer") + "\n").getBytes(StandardCharsets.UTF_8);
+        NdjsonInputStrategy strategy = new NdjsonInputStrategy(new ByteArrayInputStream(ndjson) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        });
+
+        try (Stream<Record<ResumeDto>> records = strategy.records()) {
+            assertEquals(1, records.count());
+        }
+        assertTrue(closed.get());
+    }
+
+    // --- Helper Methods ---
+    private static NdjsonInputStrategy strategy(String ndjson) {
+        return new NdjsonInputStrategy(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String line(String fullName, String title) {
+        return "{\"fullName\": \"" + fullName + "\", \"professionalTitle\": \"" + title + "\"}";
+    }
+}
@@ -0,0 +1,76 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FontRegistryTest {
+
+    private static final String NON_WIN_ANSI_NAME = "Łukasz Nguyễn Дмитрий Ωmega";
+
+    private final FontRegistry registry = FontRegistry.shared();
+
+    @Test
+    void shared_isLoadedOnce() {
+        assertSame(registry, FontRegistry.shared());
+    }
+
+    @Test
+    void displayable_keepsSupportedScripts() {
+        assertSame(NON_WIN_ANSI_NAME, registry.displayable(NON_WIN_ANSI_NAME, Face.REGULAR));
+        assertSame(NON_WIN_ANSI_NAME, registry.displayable(NON_WIN_ANSI_NAME, Face.BOLD));
+    }
+
+    @Test
+    void displayable_replacesMissingGlyphs() {
+        assertEquals("Li � �!", registry.displayable("Li 王 😀!", Face.REGULAR));
+    }
+
+    @Test
+    void stringWidth_matchesTheEmbeddedFont() throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            Map<Face, PDFont> fonts = registry.embed(document);
+            for (Face face : Face.values()) {
+                assertEquals(fonts.get(face).getStringWidth(NON_WIN_ANSI_NAME),
+                    registry.stringWidth(NON_WIN_ANSI_NAME, face), face.name());
+            }
+        }
+    }
+
+    @Test
+    void embed_sharesOneFontBetweenRegularAndOblique() throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            Map<Face, PDFont> fonts = registry.embed(document);
+            assertSame(fonts.get(Face.REGULAR), fonts.get(Face.OBLIQUE));
+            assertNotSame(fonts.get(Face.REGULAR), fonts.get(Face.BOLD));
+        }
+    }
+
+    @Test
+    void embed_writesSubsetsOfTheUsedGlyphs() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            Map<Face, PDFont> fonts = registry.embed(document);
+            try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                contentStream.beginText();
+                contentStream.setFont(fonts.get(Face.BOLD), 12);
+                contentStream.showText(NON_WIN_ANSI_NAME);
+                contentStream.endText();
+            }
+            document.save(out);
+        }
+
+        // Two DejaVu Sans files subset to a few dozen glyphs stay far below their 1.4 MB
+        assertTrue(out.size() < 64 * 1024, "document is " + out.size() + " bytes");
+    }
+}
@@ -0,0 +1,165 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.HtmlGenerationException;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlExporterTemplateTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void escapesValuesInTheBundledLayout() {
+        String html = render(new HtmlExporter(), resume("Ada <script>alert('x')</script> & Co"));
+
+        assertTrue(html.contains("<h1>Ada &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; Co</h1>"));
+        assertFalse(html.contains("<script>alert"));
+        assertTrue(html.contains("<a href=\"mailto:ada@example.com\">ada@example.com</a>"));
+        assertTrue(html.contains("<a href=\"https://github.com/ada\" target=\"_blank\">"));
+        assertTrue(html.contains("<span class=\"language-proficiency\">(native)</span>"));
+    }
+
+    @Test
+    void encodesNonAsciiValuesAsUtf8() {
+        String name = "Ærøskøbing Ωmega 履歴書 😀";
+
+        String html = render(new HtmlExporter(), resume(name));
+
+        assertTrue(html.contains("<title>" + name + " - Resume</title>"));
+    }
+
+    @Test
+    void rendersSectionsListsAndInvertedSections() throws IOException {
+        Path theme = writeTheme("{{#contactMethods}}[{{type}}{{#email}}!{{/email}}]{{/contactMethods}}"
+            + "{{^softSkills}}none{{/softSkills}}{{#professionalSummary}}summary{{/professionalSummary}}"
+            + "{{! ignored }}{{#workExperiences}}{{#keyAchievements}}<{{.}}>{{/keyAchievements}}{{/workExperiences}}");
+
+        String html = render(new HtmlExporter(null, theme), resume("Ada"));
+
+        assertEquals("[EMAIL!][GITHUB]none<Shipped><Scaled>", html);
+    }
+
+    @Test
+    void rejectsThemesThatDoNotCompile() throws IOException {
+        Path unknown = writeTheme("<h1>{{fullName}}</h1>\n<p>{{nickname}}</p>");
+        Path unclosed = writeTheme("{{#hobbies}}<p>{{name}}</p>");
+
+        HtmlGenerationException e = assertThrows(HtmlGenerationException.class,
+            () -> new HtmlExporter(null, unknown));
+        assertTrue(e.getMessage().contains("line 2: unknown value 'nickname'"), e.getMessage());
+        assertThrows(HtmlGenerationException.class, () -> new HtmlExporter(null, unclosed));
+    }
+
+    @Test
+    void reloadsThemeWhenTheFileChanges() throws IOException {
+        Path theme = writeTheme("<h1>{{fullName}}</h1>");
+        HtmlExporter exporter = new HtmlExporter(null, theme);
+        String before = exporter.renderingId();
+        assertEquals("<h1>Ada</h1>", render(exporter, resume("Ada")));
+
+        Files.writeString(theme, "<h2>{{fullName}}</h2>");
+        Files.setLastModifiedTime(theme, FileTime.from(Instant.now().plusSeconds(5)));
+
+        assertEquals("<h2>Ada</h2>", render(exporter, resume("Ada")));
+        assertNotEquals(before, exporter.renderingId());
+        assertTrue(before.startsWith("HTML/2;theme="), before);
+    }
+
+    @Test
+    void pinnedExporterRendersTheVersionItsIdNames() throws IOException {
+        Path theme = writeTheme("<h1>{{fullName}}</h1>");
+        HtmlExporter exporter = new HtmlExporter(null, theme);
+        OutputStrategy<ResumeDto> pinned = exporter.pinned();
+        String id = pinned.renderingId();
+
+        Files.writeString(theme, "<h2>{{fullName}}</h2>");
+        Files.setLastModifiedTime(theme, FileTime.from(Instant.now().plusSeconds(5)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pinned.generate(resume("Ada"), out);
+
+        assertEquals("<h1>Ada</h1>", out.toString(StandardCharsets.UTF_8));
+        assertEquals(id, pinned.renderingId());
+        assertNotEquals(id, exporter.renderingId());
+        assertEquals("<h2>Ada</h2>", render(exporter.pinned(), resume("Ada")));
+        HtmlExporter bundled = new HtmlExporter();
+        assertSame(bundled, bundled.pinned());
+    }
+
+    @Test
+    void linksTheSharedStylesheetInsteadOfInliningIt() {
+        HtmlExporter.Stylesheet stylesheet = HtmlExporter.bundledStylesheet(false);
+        HtmlExporter exporter = new HtmlExporter(stylesheet.fileName(), null, false, false);
+
+        String inline = render(new HtmlExporter(), resume("Ada"));
+        String linked = render(exporter, resume("Ada"));
+
+        assertTrue(stylesheet.fileName().matches("resume\\.[0-9a-f]{16}\\.css"), stylesheet.fileName());
+        assertEquals(stylesheet.fileName(), HtmlExporter.bundledStylesheet(false).fileName());
+        assertNotEquals(stylesheet.fileName(), HtmlExporter.bundledStylesheet(true).fileName());
+        assertTrue(inline.contains(new String(stylesheet.content(), StandardCharsets.UTF_8).strip()));
+        assertFalse(linked.contains("<style>"));
+        assertTrue(linked.contains("<link rel=\"stylesheet\" href=\"" + stylesheet.fileName() + "\">"));
+        assertTrue(linked.length() < inline.length() - stylesheet.content().length + 100);
+        assertNotEquals(new HtmlExporter(stylesheet.fileName(), null, false).renderingId(), exporter.renderingId());
+    }
+
+    @Test
+    void writesTheSameBytesToChannelsAsToStreams() throws IOException {
+        String longSummary = "Ships <fast> & safe. ".repeat(5_000);
+        ResumeDto resume = new ResumeDto("Ada Lovelace", "Engineer", longSummary,
+            resume("Ada").contactMethods(), List.of(), resume("Ada").workExperiences(),
+            List.of(), List.of(), List.of(), List.of());
+        HtmlExporter exporter = new HtmlExporter();
+        byte[] expected = render(exporter, resume).getBytes(StandardCharsets.UTF_8);
+
+        Path file = directory.resolve("resume.html");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            exporter.generate(resume, channel);
+        }
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        exporter.generate(resume, Channels.newChannel(plain));
+
+        assertTrue(expected.length > 64 * 1024, "value must outgrow the pooled buffer");
+        assertArrayEquals(expected, Files.readAllBytes(file));
+        assertArrayEquals(expected, plain.toByteArray());
+    }
+
+    private Path writeTheme(String source) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "theme", ".html"), source);
+    }
+
+    private static String render(OutputStrategy<ResumeDto> exporter, ResumeDto resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(resume, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ResumeDto resume(String fullName) {
+        return new ResumeDto(fullName, "Engineer", null,
+            List.of(new ContactMethodDto(ContactTypeDto.EMAIL, "ada@example.com"),
+                new ContactMethodDto(ContactTypeDto.GITHUB, "https://github.com/ada")),
+            List.of(),
+            List.of(new WorkExperienceDto("Acme", "Engineer", "2020", "2024", List.of("Shipped", "Scaled"))),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(new LanguageDto("English", LanguageProficiencyDto.NATIVE)));
+    }
+}
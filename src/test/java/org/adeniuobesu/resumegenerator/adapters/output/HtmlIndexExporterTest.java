@@ -0,0 +1,45 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlIndexExporterTest {
+
+    @Test
+    void linksEveryEntryAndTheNeighbouringPages() {
+        HtmlIndexExporter.Page page = new HtmlIndexExporter.Page(List.of(
+            new HtmlIndexExporter.Entry("ada.html", "Ada & Co", "Engineer"),
+            new HtmlIndexExporter.Entry("grace.html", "Grace", null)), 2, 3);
+
+        String html = render(new HtmlIndexExporter(), page);
+
+        assertTrue(html.contains("<title>Resumes - Page 2 of 3</title>"));
+        assertTrue(html.contains("<li><a href=\"ada.html\">Ada &amp; Co</a><span class=\"resume-title\">Engineer</span></li>"));
+        assertTrue(html.contains("<li><a href=\"grace.html\">Grace</a></li>"));
+        assertTrue(html.contains("<a href=\"index.html\" rel=\"prev\">"));
+        assertTrue(html.contains("<a href=\"index-3.html\" rel=\"next\">"));
+    }
+
+    @Test
+    void firstAndLastPagesHaveNoLinkPastTheEnd() {
+        String only = render(new HtmlIndexExporter(true), new HtmlIndexExporter.Page(List.of(), 1, 1));
+
+        assertFalse(only.contains("rel=\"prev\""));
+        assertFalse(only.contains("rel=\"next\""));
+        assertTrue(only.contains("<span>Page 1 of 1</span>"));
+        assertEquals("index.html", HtmlIndexExporter.fileName(1));
+        assertEquals("index-12.html", HtmlIndexExporter.fileName(12));
+        assertThrows(IllegalArgumentException.class, () -> new HtmlIndexExporter.Page(List.of(), 4, 3));
+    }
+
+    private static String render(HtmlIndexExporter exporter, HtmlIndexExporter.Page page) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(page, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HtmlMinifierTest {
+
+    @Test
+    void collapsesMarkupWhitespaceButKeepsQuotedValues() {
+        String source = "<div  class=\"a  b\">\n        <span>x</span>   <span>y</span>\n    </div>";
+
+        assertEquals("<div class=\"a  b\">\n<span>x</span> <span>y</span>\n</div>", HtmlMinifier.minify(source));
+    }
+
+    @Test
+    void minifiesStylesheets() {
+        String source = "<style>\n    /* theme */\n    a :hover , b > c {\n        color: red;\n"
+            + "        font-family: 'Segoe  UI', serif;\n    }\n</style>";
+
+        assertEquals("<style>a :hover,b>c{color:red;font-family:'Segoe  UI',serif}</style>",
+            HtmlMinifier.minify(source));
+    }
+
+    @Test
+    void keepsLineBreaksInScriptsAndPreformattedText() {
+        String source = "<script>\n    var a = 1\n\n    var b = 2\n</script>\n<pre>  keep\n    this</pre>";
+
+        assertEquals("<script>\nvar a = 1\nvar b = 2\n</script>\n<pre>  keep\n    this</pre>",
+            HtmlMinifier.minify(source));
+    }
+
+    @Test
+    void dropsCommentsAndKeepsTemplateTags() {
+        String source = "<p>\n  <!-- note -->\n  {{#email}}  {{ value }}{{/email}}\n</p>";
+
+        assertEquals("<p>\n{{#email}} {{ value }}{{/email}}\n</p>", HtmlMinifier.minify(source));
+    }
+
+    @Test
+    void minifiedLayoutIsSmallerAndKeepsValuesIntact() {
+        ResumeDto resume = new ResumeDto("Ada  Lovelace", "Engineer", "Two  spaces & more", List.of(
+            new ContactMethodDto(ContactTypeDto.EMAIL, "ada@example.com")),
+            List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        String plain = render(new HtmlExporter(), resume);
+        String minified = render(new HtmlExporter(null, null, true), resume);
+
+        assertTrue(minified.length() < plain.length() * 0.85, minified.length() + " vs " + plain.length());
+        assertTrue(minified.contains("<h1>Ada  Lovelace</h1>"));
+        assertTrue(minified.contains("<p class=\"summary\">Two  spaces &amp; more</p>"));
+        assertTrue(minified.contains(":root{--primary-color:#2c3e50;"));
+        assertNotEquals(new HtmlExporter().renderingId(), new HtmlExporter(null, null, true).renderingId());
+    }
+
+    private static String render(HtmlExporter exporter, ResumeDto resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(resume, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
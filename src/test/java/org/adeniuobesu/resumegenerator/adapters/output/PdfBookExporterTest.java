@@ -0,0 +1,108 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.output.PdfBookExporter.Book;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfBookExporterTest {
+
+    private static final int CANDIDATES = 20;
+
+    private final PdfBookExporter exporter = new PdfBookExporter();
+
+    @Test
+    void book_bookmarksEachCandidateAtTheStartOfANewPage() throws Exception {
+        List<ResumeDto> candidates = candidates();
+
+        try (PDDocument document = Loader.loadPDF(renderBook(candidates))) {
+            List<PDOutlineItem> bookmarks = new ArrayList<>();
+            document.getDocumentCatalog().getDocumentOutline().children().forEach(bookmarks::add);
+            assertEquals(CANDIDATES, bookmarks.size());
+
+            PDFTextStripper stripper = new PDFTextStripper();
+            int previousPage = -1;
+            for (int i = 0; i < CANDIDATES; i++) {
+                PDOutlineItem bookmark = bookmarks.get(i);
+                assertEquals(candidates.get(i).fullName(), bookmark.getTitle());
+
+                int page = document.getPages().indexOf(bookmark.findDestinationPage(document));
+                assertTrue(page > previousPage, "chapter " + i + " does not follow chapter " + (i - 1));
+                stripper.setStartPage(page + 1);
+                stripper.setEndPage(page + 1);
+                assertTrue(stripper.getText(document).startsWith(candidates.get(i).fullName()),
+                    "page " + page + " does not open with candidate " + i);
+                previousPage = page;
+            }
+        }
+    }
+
+    @Test
+    void book_embedsTheFontsOnce() throws Exception {
+        List<ResumeDto> candidates = candidates();
+        byte[] book = renderBook(candidates);
+
+        try (PDDocument document = Loader.loadPDF(book)) {
+            // A Type 0 font and its descendant CID font for each of the two font files
+            assertEquals(4, document.getDocument().getObjectsByType(COSName.FONT).size());
+        }
+
+        ByteArrayOutputStream separate = new ByteArrayOutputStream();
+        PdfExporter single = new PdfExporter();
+        for (ResumeDto candidate : candidates) {
+            single.generate(candidate, separate);
+        }
+        assertTrue(book.length * 4 < separate.size(),
+            "book is " + book.length + " bytes, separate documents " + separate.size());
+    }
+
+    @Test
+    void unfinishedBook_writesNothing() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Book book = exporter.open(out)) {
+            book.append(exporter.layout(candidates().get(0)));
+        }
+        assertEquals(0, out.size());
+    }
+
+    // --- Helper Methods ---
+    private byte[] renderBook(List<ResumeDto> candidates) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Book book = exporter.open(out)) {
+            for (ResumeDto candidate : candidates) {
+                book.append(exporter.layout(candidate));
+            }
+            book.finish();
+        }
+        return out.toByteArray();
+    }
+
+    private static List<ResumeDto> candidates() {
+        ResumeDto sample;
+        try (InputStream in = PdfBookExporterTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            sample = new JsonInputStrategy(in).collectData();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        List<ResumeDto> candidates = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates.add(new ResumeDto("Candidate " + i, sample.professionalTitle(), sample.professionalSummary(),
+                sample.contactMethods(), sample.softSkills(), sample.workExperiences(),
+                sample.educationHistory(), sample.skillCategories(), sample.hobbies(), sample.languages()));
+        }
+        return candidates;
+    }
+}
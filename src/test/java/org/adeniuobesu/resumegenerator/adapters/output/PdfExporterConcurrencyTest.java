@@ -0,0 +1,110 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test: one shared {@link PdfExporter} rendering from many threads at once
+ * must produce the same document as a render on its own.
+ */
+class PdfExporterConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int RENDERS_PER_THREAD = 25;
+
+    // PDFBox derives the trailer /ID from the current time, so it differs between saves
+    private static final Pattern DOCUMENT_ID = Pattern.compile("/ID ?\\[<[0-9A-Fa-f]+> ?<[0-9A-Fa-f]+>]");
+
+    @Test
+    void sharedExporter_producesIdenticalDocumentsUnderParallelLoad() throws Exception {
+        PdfExporter exporter = new PdfExporter();
+        ResumeDto resume = loadSample();
+        String expected = render(exporter, resume);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<List<String>>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(() -> {
+                start.await();
+                List<String> documents = new ArrayList<>(RENDERS_PER_THREAD);
+                for (int i = 0; i < RENDERS_PER_THREAD; i++) {
+                    documents.add(render(exporter, resume));
+                }
+                return documents;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (Callable<List<String>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<List<String>> future : futures) {
+                for (String document : future.get()) {
+                    assertEquals(expected, document);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void sharedExporter_rendersDifferentResumesIndependently() throws Exception {
+        PdfExporter exporter = new PdfExporter();
+        ResumeDto resume = loadSample();
+        ResumeDto other = new ResumeDto("Jane Other", "Staff Engineer", null,
+            resume.contactMethods(), resume.softSkills(), resume.workExperiences(),
+            resume.educationHistory(), resume.skillCategories(), List.of(), resume.languages());
+        String expected = render(exporter, resume);
+        String expectedOther = render(exporter, other);
+        assertNotEquals(expected, expectedOther);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS * RENDERS_PER_THREAD; i++) {
+                ResumeDto input = i % 2 == 0 ? resume : other;
+                futures.add(executor.submit(() -> render(exporter, input)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i % 2 == 0 ? expected : expectedOther, futures.get(i).get(), "render " + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // --- Helper Methods ---
+    private static ResumeDto loadSample() throws Exception {
+        try (InputStream in = PdfExporterConcurrencyTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            return new JsonInputStrategy(in).collectData();
+        }
+    }
+
+    private static String render(PdfExporter exporter, ResumeDto resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(resume, out);
+        String document = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertTrue(DOCUMENT_ID.matcher(document).find(), "document has no trailer /ID");
+        return DOCUMENT_ID.matcher(document).replaceAll("/ID[]");
+    }
+}
@@ -0,0 +1,113 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfExporterPaginationTest {
+
+    private static final int JOBS = 40;
+    private static final int ACHIEVEMENTS_PER_JOB = 4;
+
+    private final PdfExporter exporter = new PdfExporter();
+
+    @Test
+    void generate_breaksLongResumesAcrossPages() throws Exception {
+        List<String> pages = renderPages(resumeWithJobs(JOBS));
+
+        assertTrue(pages.size() > 5, "expected many pages, got " + pages.size());
+        String text = String.join("", pages);
+        for (int job = 0; job < JOBS; job++) {
+            for (int achievement = 0; achievement < ACHIEVEMENTS_PER_JOB; achievement++) {
+                assertTrue(text.contains(achievementText(job, achievement)),
+                    "lost " + achievementText(job, achievement));
+            }
+        }
+        assertTrue(text.contains("Stanford University"));
+        assertTrue(text.contains("Open Source"));
+    }
+
+    @Test
+    void generate_keepsEachJobOnOnePage() throws Exception {
+        List<String> pages = renderPages(resumeWithJobs(JOBS));
+
+        for (int job = 0; job < JOBS; job++) {
+            int first = pageOf(pages, "Company " + job + "\n");
+            int last = pageOf(pages, achievementText(job, ACHIEVEMENTS_PER_JOB - 1));
+            assertEquals(first, last, "job " + job + " is split across pages");
+        }
+    }
+
+    @Test
+    void generate_keepsSectionTitleWithItsFirstEntry() throws Exception {
+        List<String> pages = renderPages(resumeWithJobs(JOBS));
+
+        assertEquals(pageOf(pages, "Education"), pageOf(pages, "Stanford University"));
+        assertEquals(pageOf(pages, "Professional Experience"), pageOf(pages, "Company 0\n"));
+    }
+
+    @Test
+    void layout_isIndependentOfTheDocument() {
+        ResumeDto resume = resumeWithJobs(3);
+        assertEquals(exporter.layout(resume), exporter.layout(resume));
+    }
+
+    // --- Helper Methods ---
+    private List<String> renderPages(ResumeDto resume) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(resume, out);
+        try (PDDocument document = Loader.loadPDF(out.toByteArray())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setLineSeparator("\n");
+            List<String> pages = new ArrayList<>();
+            for (int page = 1; page <= document.getNumberOfPages(); page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                pages.add(stripper.getText(document));
+            }
+            return pages;
+        }
+    }
+
+    private static int pageOf(List<String> pages, String text) {
+        for (int i = 0; i < pages.size(); i++) {
+            if (pages.get(i).contains(text)) {
+                return i;
+            }
+        }
+        return fail("text not rendered: " + text);
+    }
+
+    private static ResumeDto resumeWithJobs(int count) {
+        List<WorkExperienceDto> jobs = new ArrayList<>();
+        for (int job = 0; job < count; job++) {
+            List<String> achievements = new ArrayList<>();
+            for (int achievement = 0; achievement < ACHIEVEMENTS_PER_JOB; achievement++) {
+                achievements.add(achievementText(job, achievement));
+            }
+            jobs.add(new WorkExperienceDto("Company " + job, "Engineer", "2020-01", "2021-01", achievements));
+        }
+        return new ResumeDto(
+            "Jane Doe", "Software Engineer", "Builds things.",
+            List.of(new ContactMethodDto(ContactTypeDto.EMAIL, "jane@example.com")),
+            List.of(),
+            jobs,
+            List.of(new EducationDto("Stanford University", "MSc", "Computer Science", "2016-09", "2018-05")),
+            List.of(new SkillCategoryDto("Backend", List.of("Java", "SQL"))),
+            List.of(new HobbyDto("Open Source", null)),
+            List.of(new LanguageDto("English", LanguageProficiencyDto.NATIVE))
+        );
+    }
+
+    private static String achievementText(int job, int achievement) {
+        return "Achievement " + achievement + " of job " + job;
+    }
+}
@@ -0,0 +1,83 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfExporterProfileTest {
+
+    private static final Map<PdfProfile, byte[]> RENDERED = new EnumMap<>(PdfProfile.class);
+
+    @BeforeAll
+    static void renderSampleWithEveryProfile() throws Exception {
+        ResumeDto resume;
+        try (InputStream in = PdfExporterProfileTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            resume = new JsonInputStrategy(in).collectData();
+        }
+        for (PdfProfile profile : PdfProfile.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new PdfExporter(profile).generate(resume, out);
+            RENDERED.put(profile, out.toByteArray());
+        }
+    }
+
+    @Test
+    void profiles_renderTheSameText() throws Exception {
+        String expected = text(RENDERED.get(PdfProfile.BALANCED));
+        assertTrue(expected.contains("Professional Experience"));
+        for (PdfProfile profile : PdfProfile.values()) {
+            assertEquals(expected, text(RENDERED.get(profile)), profile.name());
+        }
+    }
+
+    @Test
+    void profiles_tradeSizeForSpeed() {
+        int size = RENDERED.get(PdfProfile.SIZE).length;
+        int balanced = RENDERED.get(PdfProfile.BALANCED).length;
+        int speed = RENDERED.get(PdfProfile.SPEED).length;
+        assertTrue(size <= balanced && balanced < speed,
+            "SIZE " + size + ", BALANCED " + balanced + ", SPEED " + speed);
+    }
+
+    @Test
+    void speedProfile_writesNoObjectStreams() {
+        assertTrue(raw(PdfProfile.BALANCED).contains("/ObjStm"));
+        assertFalse(raw(PdfProfile.SPEED).contains("/ObjStm"));
+        assertTrue(raw(PdfProfile.SPEED).contains("\nxref"));
+    }
+
+    @Test
+    void renderingId_differsPerProfile() {
+        Set<String> ids = new HashSet<>();
+        for (PdfProfile profile : PdfProfile.values()) {
+            assertTrue(ids.add(new PdfExporter(profile).renderingId()), profile.name());
+        }
+    }
+
+    // --- Helper Methods ---
+    private static String text(byte[] pdf) throws Exception {
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+
+    private static String raw(PdfProfile profile) {
+        return new String(RENDERED.get(profile), StandardCharsets.ISO_8859_1);
+    }
+}
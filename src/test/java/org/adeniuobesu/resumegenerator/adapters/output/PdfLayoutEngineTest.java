@@ -0,0 +1,51 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.output.FontRegistry.Face;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfLayoutEngineTest {
+
+    private static final float FONT_SIZE = 12;
+    private static final float MAX_WIDTH = 200;
+
+    private final FontRegistry registry = FontRegistry.shared();
+    private final PdfLayoutEngine engine = new PdfLayoutEngine(registry);
+
+    @Test
+    void wrap_fillsEachLineWithoutOverflowing() {
+        String text = "Passionate backend engineer with years of experience designing "
+            + "high-throughput distributed systems and mentoring junior developers.";
+
+        List<String> lines = engine.wrap(text, Face.REGULAR, FONT_SIZE, MAX_WIDTH);
+
+        assertTrue(lines.size() > 1);
+        assertEquals(text, String.join(" ", lines));
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(width(lines.get(i)) <= MAX_WIDTH, "line " + i + " overflows");
+            if (i < lines.size() - 1) {
+                String nextWord = lines.get(i + 1).split(" ")[0];
+                assertTrue(width(lines.get(i) + " " + nextWord) > MAX_WIDTH, "line " + i + " breaks early");
+            }
+        }
+    }
+
+    @Test
+    void wrap_dropsSpacesAtLineEdges() {
+        assertEquals(List.of("a  b"), engine.wrap("  a  b  ", Face.REGULAR, FONT_SIZE, MAX_WIDTH));
+        assertEquals(List.of(), engine.wrap("", Face.REGULAR, FONT_SIZE, MAX_WIDTH));
+    }
+
+    @Test
+    void wrap_keepsAnOverlongWordOnItsOwnLine() {
+        String word = "x".repeat(200);
+        assertEquals(List.of("a", word, "b"), engine.wrap("a " + word + " b", Face.REGULAR, FONT_SIZE, MAX_WIDTH));
+    }
+
+    private float width(String line) {
+        return registry.stringWidth(line, Face.REGULAR) * FONT_SIZE / 1000;
+    }
+}
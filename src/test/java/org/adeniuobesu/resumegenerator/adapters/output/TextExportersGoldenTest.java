@@ -0,0 +1,77 @@
+package org.adeniuobesu.resumegenerator.adapters.output;
+
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares TEXT and MARKDOWN output byte for byte with files rendered by the exporters
+ * as they were before they wrote through a buffered UTF-8 writer, when they built each
+ * document as one string.
+ */
+class TextExportersGoldenTest {
+
+    private static final String SUMMARY = "Passionate backend engineer with 5+ years of experience designing "
+        + "high-throughput distributed systems. Open-source contributor focused on clean architecture and "
+        + "mentoring junior developers. Strong advocate for DevOps best practices.";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sample", "wide", "no-summary"})
+    void text_matchesTheGoldenFile(String name) throws IOException {
+        assertArrayEquals(golden(name + ".txt"), render(new TextExporter(), input(name)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sample", "wide", "no-summary"})
+    void markdown_matchesTheGoldenFile(String name) throws IOException {
+        assertArrayEquals(golden(name + ".md"), render(new MarkdownExporter(), input(name)));
+    }
+
+    // --- Helper Methods ---
+    /**
+     * The bundled sample, and variants of it: {@code wide} has non-ASCII and markup
+     * characters and a summary longer than the writer's buffer, {@code no-summary} has none.
+     */
+    private static ResumeDto input(String name) throws IOException {
+        String sample = new String(resource("/samples/resume.json"), StandardCharsets.UTF_8);
+        String json = switch (name) {
+            case "sample" -> sample;
+            case "wide" -> sample.replace("\"Alexandra Chen\"", "\"Zoë Ærøskøbing 履歴書 😀\"")
+                .replace(SUMMARY, (SUMMARY + " ").repeat(60).strip())
+                .replace("Contributed bug fixes", "Contributed *bug* fixes_ & <docs> — «ü» [#1](x)");
+            case "no-summary" -> sample.replace("\"" + SUMMARY + "\"", "null");
+            default -> throw new IllegalArgumentException(name);
+        };
+        if (!name.equals("sample")) {
+            assertNotEquals(sample, json, "variant did not apply: " + name);
+        }
+        return new JsonInputStrategy(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).collectData();
+    }
+
+    private static byte[] render(OutputStrategy<ResumeDto> exporter, ResumeDto resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.generate(resume, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] golden(String file) throws IOException {
+        return resource("/golden/" + file);
+    }
+
+    private static byte[] resource(String path) throws IOException {
+        try (InputStream in = TextExportersGoldenTest.class.getResourceAsStream(path)) {
+            assertNotNull(in, "missing test resource " + path);
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.adeniuobesu.resumegenerator.adapters.snapshot;
+
+import org.adeniuobesu.resumegenerator.adapters.exceptions.SnapshotFormatException;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeSnapshotTest {
+
+    @Test
+    void decode_restoresTheSample() throws Exception {
+        ResumeDto sample;
+        try (InputStream in = ResumeSnapshotTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            sample = new JsonInputStrategy(in).collectData();
+        }
+        assertEquals(sample, ResumeSnapshot.decode(ResumeSnapshot.encode(sample)));
+    }
+
+    @Test
+    void decode_restoresNullsAndNonAsciiText() {
+        ResumeDto resume = new ResumeDto("Ærøskøbing Ωmega 履歴書 😀", null, "",
+            Arrays.asList(null, new ContactMethodDto(null, "x"), new ContactMethodDto(ContactTypeDto.COUNTRY, null)),
+            Arrays.asList("Mentoring", null),
+            List.of(new WorkExperienceDto("Acme", null, null, null, null)),
+            null,
+            List.of(new SkillCategoryDto(null, List.of())),
+            Arrays.asList(new HobbyDto(null, null), null),
+            List.of(new LanguageDto("French", null), new LanguageDto(null, LanguageProficiencyDto.BASIC)));
+
+        assertEquals(resume, ResumeSnapshot.decode(ResumeSnapshot.encode(resume)));
+    }
+
+    @Test
+    void decode_rejectsForeignAndDamagedSnapshots() {
+        byte[] snapshot = ResumeSnapshot.encode(new ResumeDto("Jane", "Engineer", null,
+            null, null, null, null, null, null, null));
+
+        byte[] otherVersion = snapshot.clone();
+        otherVersion[4] = ResumeSnapshot.VERSION + 1;
+        byte[][] damaged = {
+            "{\"fullName\": \"Jane\"}".getBytes(),
+            otherVersion,
+            Arrays.copyOf(snapshot, snapshot.length - 3),
+            Arrays.copyOf(snapshot, snapshot.length + 1)
+        };
+        for (byte[] bytes : damaged) {
+            assertThrows(SnapshotFormatException.class, () -> ResumeSnapshot.decode(bytes));
+        }
+    }
+
+    @Test
+    void decode_rejectsTruncatedAndOverflowingVarints() {
+        byte[] snapshot = ResumeSnapshot.encode(new ResumeDto(null, "Engineer", null,
+            null, null, null, null, null, null, null));
+        // "RSNP" and the version, then the null full name as a single byte
+        int header = 5;
+        byte[][] lengths = {
+            {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+            {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x1F},
+            {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01}
+        };
+        for (byte[] length : lengths) {
+            byte[] corrupt = new byte[snapshot.length - 1 + length.length];
+            System.arraycopy(snapshot, 0, corrupt, 0, header);
+            System.arraycopy(length, 0, corrupt, header, length.length);
+            System.arraycopy(snapshot, header + 1, corrupt, header + length.length, snapshot.length - header - 1);
+            assertThrows(SnapshotFormatException.class, () -> ResumeSnapshot.decode(corrupt));
+        }
+        byte[] truncated = Arrays.copyOf(snapshot, header + 2);
+        truncated[header] = (byte) 0xFF;
+        truncated[header + 1] = (byte) 0xFF;
+        assertThrows(SnapshotFormatException.class, () -> ResumeSnapshot.decode(truncated));
+    }
+
+    @Test
+    void decode_rejectsUnknownPresenceMarkers() {
+        byte[] absent = ResumeSnapshot.encode(new ResumeDto("Jane", null, null,
+            Arrays.asList((ContactMethodDto) null), null, null, null, null, null, null));
+        byte[] present = ResumeSnapshot.encode(new ResumeDto("Jane", null, null,
+            List.of(new ContactMethodDto(null, null)), null, null, null, null, null, null));
+        int marker = Arrays.mismatch(absent, present);
+        assertEquals(1, present[marker]);
+
+        present[marker] = 2;
+
+        assertThrows(SnapshotFormatException.class, () -> ResumeSnapshot.decode(present));
+    }
+
+    @Test
+    void versionOne_pinsTheEnumConstantOrder() {
+        // Snapshots store ordinals: reordering these constants needs a new snapshot version
+        assertEquals(List.of("EMAIL", "PHONE", "LINKEDIN", "GITHUB", "PORTFOLIO", "CITY", "COUNTRY"),
+            Arrays.stream(ContactTypeDto.values()).map(Enum::name).toList());
+        assertEquals(List.of("NATIVE", "FLUENT", "PROFICIENT", "INTERMEDIATE", "BASIC"),
+            Arrays.stream(LanguageProficiencyDto.values()).map(Enum::name).toList());
+    }
+}
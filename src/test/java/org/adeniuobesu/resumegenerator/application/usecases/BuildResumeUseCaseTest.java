@@ -0,0 +1,220 @@
+package org.adeniuobesu.resumegenerator.application.usecases;
+
+import org.adeniuobesu.resumegenerator.adapters.cache.DiskRenderCache;
+import org.adeniuobesu.resumegenerator.adapters.input.JsonInputStrategy;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.exceptions.OutputProcessingException;
+import org.adeniuobesu.resumegenerator.application.exceptions.ResumeGenerationException;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+import org.adeniuobesu.resumegenerator.core.validation.ResumeValidator;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildResumeUseCaseTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void channelTarget_isHandedToTheExporterAsAChannel() throws Exception {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST));
+        Exporter exporter = new Exporter("TEST/1");
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(Channels.newChannel(file))));
+
+        assertEquals(List.of("channel"), exporter.calls);
+        assertEquals("Resume of Alexandra Chen", file.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void channelTarget_isWrittenAsAStreamWhenTheRenderIsRecorded() throws Exception {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST),
+            new DiskRenderCache(directory, 1024 * 1024));
+        Exporter exporter = new Exporter("TEST/1");
+        ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+        ByteArrayOutputStream served = new ByteArrayOutputStream();
+
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(Channels.newChannel(rendered))));
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(Channels.newChannel(served))));
+
+        assertEquals(List.of("stream"), exporter.calls);
+        assertEquals("Resume of Alexandra Chen", rendered.toString(StandardCharsets.UTF_8));
+        assertEquals("Resume of Alexandra Chen", served.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void streamTarget_isHandedToTheExporterAsAStream() throws Exception {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST));
+        Exporter exporter = new Exporter("TEST/1");
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+
+        pipeline.execute(this::sample, Map.of(exporter, RenderTarget.of(file)));
+
+        assertEquals(List.of("stream"), exporter.calls);
+        assertEquals("Resume of Alexandra Chen", file.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void severalTargets_shareOneCollectedAndValidatedResume() throws Exception {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST));
+        AtomicInteger collections = new AtomicInteger();
+        List<Exporter> exporters = List.of(new Exporter("A/1"), new Exporter("B/1"), new Exporter("C/1"));
+        Map<OutputStrategy<ResumeDto>, RenderTarget> targets = new LinkedHashMap<>();
+        List<ByteArrayOutputStream> files = new ArrayList<>();
+        for (Exporter exporter : exporters) {
+            ByteArrayOutputStream file = new ByteArrayOutputStream();
+            files.add(file);
+            targets.put(exporter, RenderTarget.of(file));
+        }
+
+        pipeline.execute(() -> {
+            collections.incrementAndGet();
+            return sample();
+        }, targets);
+
+        assertEquals(1, collections.get());
+        ResumeDto validated = exporters.get(0).received.get(0);
+        for (int i = 0; i < exporters.size(); i++) {
+            // Every exporter gets the one DTO that came out of validation
+            assertEquals(List.of(validated), exporters.get(i).received);
+            assertSame(validated, exporters.get(i).received.get(0));
+            assertEquals("Resume of Alexandra Chen", files.get(i).toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void severalTargets_areAllWrittenWhenOneExporterFails() {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST));
+        Exporter first = new Exporter("A/1");
+        Exporter failing = new Exporter("B/1", new IllegalStateException("exporter failed"));
+        Exporter last = new Exporter("C/1");
+        ByteArrayOutputStream firstFile = new ByteArrayOutputStream();
+        ByteArrayOutputStream failingFile = new ByteArrayOutputStream();
+        ByteArrayOutputStream lastFile = new ByteArrayOutputStream();
+        Map<OutputStrategy<ResumeDto>, RenderTarget> targets = new LinkedHashMap<>();
+        // The failing export runs first, in this thread, while the others are still queued
+        targets.put(failing, RenderTarget.of(failingFile));
+        targets.put(first, RenderTarget.of(firstFile));
+        targets.put(last, RenderTarget.of(lastFile));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> pipeline.execute(this::sample, targets));
+
+        assertTrue(e.getMessage().contains("exporter failed"), e.getMessage());
+        assertEquals("Resume of Alexandra Chen", firstFile.toString(StandardCharsets.UTF_8));
+        assertEquals("Resume of Alexandra Chen", lastFile.toString(StandardCharsets.UTF_8));
+        // The failed target keeps what its exporter wrote; callers that stage files discard it
+        assertEquals("Resume of Alexandra Chen", failingFile.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void outputProcessingFailure_isReportedAsTheOutputStep() {
+        BuildResumeUseCase pipeline = new BuildResumeUseCase(new ResumeValidator(ValidationMode.FAIL_FAST));
+        Exporter failing = new Exporter("B/1", new OutputProcessingException("B"));
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        Map<OutputStrategy<ResumeDto>, RenderTarget> targets = new LinkedHashMap<>();
+        targets.put(new Exporter("A/1"), RenderTarget.of(file));
+        targets.put(failing, RenderTarget.of(OutputStream.nullOutputStream()));
+
+        ResumeGenerationException e = assertThrows(ResumeGenerationException.class,
+            () -> pipeline.execute(this::sample, targets));
+
+        assertTrue(e.getMessage().endsWith("output generation"), e.getMessage());
+        assertInstanceOf(OutputProcessingException.class, e.getCause());
+        assertEquals("Resume of Alexandra Chen", file.toString(StandardCharsets.UTF_8));
+    }
+
+    // --- Helper Methods ---
+    /**
+     * Writes a line naming the resume, then throws its failure if it has one. Records the
+     * resumes it was given and which of its methods each render called.
+     */
+    private static final class Exporter implements OutputStrategy<ResumeDto> {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final List<ResumeDto> received = new CopyOnWriteArrayList<>();
+        private final String renderingId;
+        private final RuntimeException failure;
+
+        Exporter(String renderingId) {
+            this(renderingId, null);
+        }
+
+        Exporter(String renderingId, RuntimeException failure) {
+            this.renderingId = renderingId;
+            this.failure = failure;
+        }
+
+        @Override
+        public void generate(ResumeDto data, OutputStream os) {
+            calls.add("stream");
+            try {
+                os.write(content(data));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            fail();
+        }
+
+        @Override
+        public void generate(ResumeDto data, WritableByteChannel channel) {
+            calls.add("channel");
+            try {
+                channel.write(ByteBuffer.wrap(content(data)));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            fail();
+        }
+
+        @Override
+        public String renderingId() {
+            return renderingId;
+        }
+
+        private void fail() {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private byte[] content(ResumeDto data) {
+            received.add(data);
+            return ("Resume of " + data.fullName()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private ResumeDto sample() {
+        return new JsonInputStrategy(new ByteArrayInputStream(sampleBytes())).collectData();
+    }
+
+    private static byte[] sampleBytes() {
+        try (InputStream in = BuildResumeUseCaseTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.adeniuobesu.resumegenerator.core.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests: every scanner must agree with the regular expression it
+ * replaces, on both hand-picked edge cases and randomly generated strings.
+ */
+class FormatScannersTest {
+
+    private static final int RANDOM_CASES = 200_000;
+    private static final long SEED = 20240611L;
+
+    // Characters that exercise every branch of the four patterns
+    private static final String ALPHABET =
+        "abhtpsfxyzAZ019_.-@+()/:$?#% \t\n\u000B\f\r\u0085  é😀";
+
+    private static final String[] PREFIXES = {
+        "", "http://", "https://", "ftp://", "httpss://", "HTTP://", "a@", "john.doe@", "+33 ", "2023-"
+    };
+
+    // --- Edge cases ---
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "test@example.com", "a@b.co", "a@.co", "a@b.c", "@b.co", "a@b.c0", "a.b-c_d@x-y.z.org",
+        "a@b..co", "a@b.co.", "a@@b.co", "a b@c.de", "é@b.co", "a@b.cé", "a@b_c.DE", "a@-.co"
+    })
+    void email_matchesRegex(String value) {
+        assertAgrees("EMAIL", FormatScanners::isEmail, value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "+1234567890", "+1 (555) 123-4567", "1234567", "12345678", "123456789012345678901",
+        "12345678901234567890", "1234 567\t8", "+44 20 7946 0958x", "(((((((("
+    })
+    void phone_matchesRegex(String value) {
+        assertAgrees("PHONE", FormatScanners::isPhone, value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "https://github.com/valid", "http://a", "http://ab", "ftp://x.y", "https://", "https:///x",
+        "http://.x", "http://a b", "http://a\nb", "http://ab c", "htt://broken", "www.missing.protocol",
+        "http://a ", "http://😀x", "http://x😀", "https://a\u0085b"
+    })
+    void url_matchesRegex(String value) {
+        assertAgrees("URL", FormatScanners::isUrl, value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-05", "2023-13", "2023-00", "0000-01", "2023-5", "2023/05", "20230-5", "２０２３-05"})
+    void yearMonth_matchesRegex(String value) {
+        assertAgrees("ISO_DATE", FormatScanners::isYearMonth, value);
+        assertEquals(value.matches("\\d{4}-\\d{2}"), FormatScanners.isYearMonthShape(value), value);
+    }
+
+    // --- Random differential runs ---
+    @Test
+    void email_agreesOnRandomInput() {
+        assertAgreesOnRandomInput("EMAIL", FormatScanners::isEmail);
+    }
+
+    @Test
+    void phone_agreesOnRandomInput() {
+        assertAgreesOnRandomInput("PHONE", FormatScanners::isPhone);
+    }
+
+    @Test
+    void url_agreesOnRandomInput() {
+        assertAgreesOnRandomInput("URL", FormatScanners::isUrl);
+    }
+
+    @Test
+    void yearMonth_agreesOnRandomInput() {
+        assertAgreesOnRandomInput("ISO_DATE", FormatScanners::isYearMonth);
+    }
+
+    // --- Hostile input ---
+    @Test
+    void email_rejectsBacktrackingInputInLinearTime() {
+        String hostile = "a@" + "a.".repeat(200_000) + "!";
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertFalse(FormatScanners.isEmail(hostile)));
+    }
+
+    // --- Helper Methods ---
+    private static void assertAgreesOnRandomInput(String patternKey, Predicate<String> scanner) {
+        Pattern pattern = Pattern.compile(ValidationUtils.REGEX_PATTERNS.get(patternKey));
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            String value = PREFIXES[random.nextInt(PREFIXES.length)] + randomString(random);
+            assertEquals(pattern.matcher(value).matches(), scanner.test(value),
+                () -> patternKey + " disagrees on: " + escape(value));
+        }
+    }
+
+    private static void assertAgrees(String patternKey, Predicate<String> scanner, String value) {
+        boolean expected = value.matches(ValidationUtils.REGEX_PATTERNS.get(patternKey));
+        assertEquals(expected, scanner.test(value), () -> patternKey + " disagrees on: " + escape(value));
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(24);
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder();
+        value.chars().forEach(c -> escaped.append(c < 0x20 || c > 0x7E ? String.format("\\u%04X", c) : String.valueOf((char) c)));
+        return escaped.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package org.adeniuobesu.resumegenerator.core.validation;
 
 import org.adeniuobesu.resumegenerator.core.exceptions.InvalidResumeException;
+import org.adeniuobesu.resumegenerator.core.exceptions.ValidationViolation;
 import org.adeniuobesu.resumegenerator.core.models.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ResumeValidatorTest {
 
@@ -208,4 +211,92 @@ class ResumeValidatorTest {
         );
         assertDoesNotThrow(() -> validator.validate(modified));
     }
+
+    // --- Collect-all mode ---
+    private Resume createResumeWithSeveralErrors() {
+        return new Resume(
+            "J", // too short
+            "Senior Software Engineer",
+            null,
+            List.of(
+                new ContactMethod(ContactType.EMAIL, "john@example.com"),
+                new ContactMethod(ContactType.PHONE, "not a phone")
+            ),
+            List.of("Teamwork", "teamwork"), // duplicate
+            List.of(new WorkExperience("TechCorp", "Lead Developer", "2015-13", "2020-12",
+                List.of("Built microservices", "Too short"))),
+            null,
+            List.of(new SkillCategory("Programming", List.of("Java", "J"))),
+            null,
+            null
+        );
+    }
+
+    @Test
+    void testCollectViolationsOnValidResumeIsEmpty() {
+        assertTrue(validator.collectViolations(createValidResume()).isEmpty());
+    }
+
+    @Test
+    void testCollectViolationsReportsEveryErrorWithPath() {
+        List<ValidationViolation> violations = validator.collectViolations(createResumeWithSeveralErrors());
+
+        assertEquals(List.of(
+            "resume",
+            "resume.contactMethods[1]",
+            "resume.workExperiences[0]",
+            "resume.workExperiences[0].keyAchievements[1]",
+            "resume.skillCategories[0].skills[1]",
+            "resume"
+        ), violations.stream().map(ValidationViolation::path).toList());
+        assertEquals(List.of(
+            "Full name", "Phone number", "Start date", "Achievement", "Technical skill", "Soft skills"
+        ), violations.stream().map(ValidationViolation::field).toList());
+    }
+
+    @Test
+    void testCollectViolationsOnNullResume() {
+        List<ValidationViolation> violations = validator.collectViolations(null);
+        assertEquals(1, violations.size());
+        assertEquals("Resume", violations.get(0).field());
+    }
+
+    @Test
+    void testCollectViolationsSkipsDateOrderWhenDateIsMalformed() {
+        Resume resume = createValidResume();
+        Resume invalid = new Resume(
+            resume.fullName(),
+            resume.professionalTitle(),
+            resume.professionalSummary(),
+            resume.contactMethods(),
+            resume.softSkills(),
+            List.of(new WorkExperience("TechCorp", "Lead Developer", "2021", "2020-12", List.of("Built microservices"))),
+            resume.educationHistory(),
+            resume.skillCategories(),
+            resume.hobbies(),
+            resume.languages()
+        );
+        List<ValidationViolation> violations = validator.collectViolations(invalid);
+        assertEquals(1, violations.size());
+        assertEquals("must be in YYYY-MM format", violations.get(0).violation());
+    }
+
+    @Test
+    void testFailFastModeStopsAtFirstError() {
+        InvalidResumeException ex = assertThrows(InvalidResumeException.class,
+            () -> validator.validate(createResumeWithSeveralErrors()));
+        assertEquals("Full name", ex.getField());
+        assertEquals("Full name must be 2-100 characters", ex.getViolation());
+        assertTrue(ex.getViolations().isEmpty());
+    }
+
+    @Test
+    void testCollectAllModeThrowsOnceWithEveryViolation() {
+        ResumeValidator collecting = new ResumeValidator(ValidationMode.COLLECT_ALL);
+        InvalidResumeException ex = assertThrows(InvalidResumeException.class,
+            () -> collecting.validate(createResumeWithSeveralErrors()));
+        assertEquals(6, ex.getViolations().size());
+        assertEquals("Full name", ex.getField());
+        assertDoesNotThrow(() -> collecting.validate(createValidResume()));
+    }
 }
@@ -0,0 +1,61 @@
+package org.adeniuobesu.resumegenerator.infrastructure;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlExporter;
+import org.adeniuobesu.resumegenerator.adapters.output.TextExporter;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.application.ports.RenderTarget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputTargetsTest {
+
+    @TempDir
+    Path directory;
+
+    private final OutputStrategy<ResumeDto> html = new HtmlExporter();
+    private final OutputStrategy<ResumeDto> text = new TextExporter();
+
+    @Test
+    void filesAreStreamsUnlessTheirFormatAsksForAChannel() throws IOException {
+        RenderOptions channels = RenderOptions.defaults().withChannels(Set.of(OutputType.HTML));
+        try (OutputTargets targets = OutputTargets.open(paths(), this::exporter, channels)) {
+            assertInstanceOf(FileChannel.class, targets.targets().get(html).channel());
+            assertNull(targets.targets().get(text).channel());
+        }
+        try (OutputTargets targets = OutputTargets.open(paths(), this::exporter, RenderOptions.defaults())) {
+            assertTrue(targets.targets().values().stream().allMatch(target -> target.channel() == null));
+        }
+    }
+
+    @Test
+    void precompressedFiles_areAlwaysStreams() throws IOException {
+        Set<OutputType> html = Set.of(OutputType.HTML);
+        RenderOptions options = RenderOptions.defaults().withPrecompressed(html).withChannels(html);
+
+        try (OutputTargets targets = OutputTargets.open(paths(), this::exporter, options)) {
+            RenderTarget target = targets.targets().get(this.html);
+            assertNull(target.channel());
+            assertInstanceOf(PrecompressedOutputStream.class, target.stream());
+        }
+    }
+
+    // --- Helper Methods ---
+    private Map<OutputType, Path> paths() {
+        return Map.of(OutputType.HTML, directory.resolve("resume.html"),
+            OutputType.TEXT, directory.resolve("resume.txt"));
+    }
+
+    private OutputStrategy<ResumeDto> exporter(OutputType format) {
+        return format == OutputType.HTML ? html : text;
+    }
+}
@@ -0,0 +1,139 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlExporter;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRendererTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void failingItem_isReportedInOrderAndLeavesNoOutputs() throws Exception {
+        Path in = Files.createDirectories(directory.resolve("in"));
+        Path out = Files.createDirectories(directory.resolve("out"));
+        Path ada = sample(in.resolve("ada.json"));
+        Path broken = Files.writeString(in.resolve("broken.json"), "{\"fullName\": ");
+        Path empty = Files.writeString(in.resolve("empty.json"), "{}");
+        Path grace = sample(in.resolve("grace.json"));
+
+        BatchReport report = renderer(out).render(List.of(ada, broken, empty, grace));
+
+        assertEquals(2, report.succeededCount());
+        assertEquals(List.of(broken.toString(), empty.toString()),
+            report.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals(List.of("ada.html", "ada.html.gz", "ada.text", "grace.html", "grace.html.gz", "grace.text"),
+            listing(out));
+    }
+
+    @Test
+    void sameOutputName_failsTheLaterItem() throws Exception {
+        Path out = Files.createDirectories(directory.resolve("out"));
+        Path first = sample(Files.createDirectories(directory.resolve("a")).resolve("cv.json"));
+        Path second = sample(Files.createDirectories(directory.resolve("b")).resolve("cv.json"));
+        Path snapshot = Files.writeString(directory.resolve("a").resolve("cv.snapshot"), "not read");
+
+        BatchReport report = renderer(out).render(List.of(first, second, snapshot));
+
+        assertEquals(1, report.succeededCount());
+        assertEquals(List.of(second.toString(), snapshot.toString()),
+            report.failures().stream().map(BatchItemResult::input).toList());
+        assertTrue(report.failures().get(0).error().contains("already written by " + first),
+            report.failures().get(0).error());
+        assertEquals(List.of("cv.html", "cv.html.gz", "cv.text"), listing(out));
+        assertTrue(Files.size(out.resolve("cv.html")) > 0);
+    }
+
+    @Test
+    void indexedNames_keepAlikeInputsApart() throws Exception {
+        Path out = Files.createDirectories(directory.resolve("out"));
+        Path first = sample(Files.createDirectories(directory.resolve("a")).resolve("cv.json"));
+        Path second = sample(Files.createDirectories(directory.resolve("b")).resolve("cv.json"));
+
+        BatchReport report = new BatchRenderer(Set.of(OutputType.TEXT), out,
+            new OutputNameTemplate("{index}-{name}.{ext}"), 2).render(List.of(first, second));
+
+        assertEquals(2, report.succeededCount());
+        assertEquals(List.of("1-cv.text", "2-cv.text"), listing(out));
+    }
+
+    @Test
+    void templateWithSubdirectories_createsThemAndRemovesOnlyTheFilesOfFailedItems() throws Exception {
+        Path out = Files.createDirectories(directory.resolve("out"));
+        Path ada = sample(Files.createDirectories(directory.resolve("in")).resolve("ada.json"));
+        Path broken = Files.writeString(directory.resolve("in").resolve("broken.json"), "{\"fullName\": ");
+
+        BatchReport report = new BatchRenderer(Set.of(OutputType.HTML, OutputType.TEXT), out,
+            new OutputNameTemplate("{name}/{ext}/resume.{ext}"), 2).render(List.of(ada, broken));
+
+        assertEquals(1, report.succeededCount());
+        assertEquals(List.of(broken.toString()), report.failures().stream().map(BatchItemResult::input).toList());
+        assertTrue(Files.size(out.resolve("ada/html/resume.html")) > 0);
+        assertTrue(Files.size(out.resolve("ada/text/resume.text")) > 0);
+        assertEquals(List.of("html", "text"), listing(out.resolve("broken")));
+        assertEquals(List.of(), listing(out.resolve("broken/html")));
+    }
+
+    @Test
+    void sharedStylesheet_isLinkedFromPagesInSubdirectories() throws Exception {
+        Path out = Files.createDirectories(directory.resolve("out"));
+        Path ada = sample(Files.createDirectories(directory.resolve("in")).resolve("ada.json"));
+        Path grace = sample(directory.resolve("in").resolve("grace.json"));
+        OutputNameTemplate names = new OutputNameTemplate("{ext}/{name}/index.html");
+        HtmlExporter.Stylesheet stylesheet = HtmlExporter.bundledStylesheet(false);
+        Path css = Files.write(out.resolve(stylesheet.fileName()), stylesheet.content());
+        OutputStrategyFactory exporters = new OutputStrategyFactory(PdfProfile.BALANCED, null, false,
+            names.linkToOutputDirectory(stylesheet.fileName()));
+
+        BatchReport report = new BatchRenderer(Set.of(OutputType.HTML), out, names, 2,
+            RenderOptions.defaults().withExporterFactory(exporters)).render(List.of(ada, grace));
+
+        assertEquals(2, report.succeededCount());
+        for (String name : List.of("ada", "grace")) {
+            Path page = out.resolve("html").resolve(name).resolve("index.html");
+            Matcher link = Pattern.compile("<link rel=\"stylesheet\" href=\"([^\"]+)\">")
+                .matcher(Files.readString(page));
+            assertTrue(link.find(), page.toString());
+            assertEquals(css.normalize(), page.getParent().resolve(link.group(1)).normalize());
+        }
+    }
+
+    // --- Helper Methods ---
+    private static BatchRenderer renderer(Path out) {
+        return new BatchRenderer(Set.of(OutputType.HTML, OutputType.TEXT), out,
+            new OutputNameTemplate(OutputNameTemplate.DEFAULT), 2,
+            RenderOptions.defaults().withPrecompressed(Set.of(OutputType.HTML)));
+    }
+
+    private static Path sample(Path target) throws IOException {
+        try (InputStream in = BatchRendererTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            Files.copy(in, target);
+            return target;
+        }
+    }
+
+    private static List<String> listing(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
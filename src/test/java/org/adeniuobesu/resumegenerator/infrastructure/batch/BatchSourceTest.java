@@ -0,0 +1,60 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void directory_listsItsJsonFilesInOrder() throws IOException {
+        Files.writeString(directory.resolve("b.json"), "{}");
+        Files.writeString(directory.resolve("a.json"), "{}");
+        Files.writeString(directory.resolve("notes.txt"), "");
+        Files.writeString(directory.resolve("c.snapshot"), "");
+        Files.createDirectories(directory.resolve("nested.json"));
+
+        assertEquals(List.of(directory.resolve("a.json"), directory.resolve("b.json")),
+            BatchSource.resolve(directory));
+    }
+
+    @Test
+    void manifest_resolvesPathsAgainstItsDirectory() throws IOException {
+        Path manifest = Files.writeString(Files.createDirectories(directory.resolve("lists")).resolve("batch.txt"), """
+            # Candidates for the spring round
+
+            ada.json
+               ../grace.snapshot\t
+              # indented comment
+            %s
+            """.formatted(directory.resolve("absolute.json")));
+
+        Path base = manifest.toAbsolutePath().getParent();
+        assertEquals(List.of(base.resolve("ada.json"), base.resolve("../grace.snapshot"),
+                directory.resolve("absolute.json")),
+            BatchSource.resolve(manifest));
+    }
+
+    @Test
+    void manifest_withOnlyCommentsAndBlankLines_isEmpty() throws IOException {
+        Path manifest = Files.writeString(directory.resolve("batch.txt"), "# nothing yet\n\n   \n");
+
+        assertEquals(List.of(), BatchSource.resolve(manifest));
+    }
+
+    @Test
+    void ndjson_isRecognisedByItsExtension() throws IOException {
+        assertTrue(BatchSource.isNdjson(directory.resolve("candidates.ndjson")));
+        assertFalse(BatchSource.isNdjson(directory.resolve("candidates.json")));
+        assertFalse(BatchSource.isNdjson(Files.createDirectories(directory.resolve("folder.ndjson"))));
+    }
+}
@@ -0,0 +1,72 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookRendererTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void failedRun_keepsThePreviousBook() throws IOException {
+        Path book = Files.writeString(directory.resolve("book.pdf"), "previous book");
+        Path broken = Files.writeString(directory.resolve("broken.json"), "{\"fullName\": ");
+
+        BatchReport report = renderer(book).render(List.of(broken));
+
+        assertEquals(0, report.succeededCount());
+        assertEquals(List.of(broken.toString()), report.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals("previous book", Files.readString(book));
+        assertEquals(List.of(book, broken), listing());
+    }
+
+    @Test
+    void finishedBook_replacesThePreviousOne() throws IOException {
+        Path book = Files.writeString(directory.resolve("book.pdf"), "previous book");
+        Path broken = Files.writeString(directory.resolve("broken.json"), "{\"fullName\": ");
+        Path sample = sample();
+
+        BatchReport report = renderer(book).render(List.of(sample, broken));
+
+        assertEquals(1, report.succeededCount());
+        assertEquals(1, report.failures().size());
+        try (PDDocument document = Loader.loadPDF(book.toFile())) {
+            assertTrue(document.getNumberOfPages() > 0);
+        }
+        assertEquals(List.of(book, broken, sample), listing());
+    }
+
+    // --- Helper Methods ---
+    private static BookRenderer renderer(Path book) {
+        return new BookRenderer(book, 2, ValidationMode.FAIL_FAST, PdfProfile.SPEED);
+    }
+
+    private Path sample() throws IOException {
+        try (InputStream in = BookRendererTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            Path sample = directory.resolve("sample.json");
+            Files.copy(in, sample);
+            return sample;
+        }
+    }
+
+    private List<Path> listing() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
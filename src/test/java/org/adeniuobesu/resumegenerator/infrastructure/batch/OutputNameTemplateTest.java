@@ -0,0 +1,49 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputNameTemplateTest {
+
+    @Test
+    void resolve_replacesEveryPlaceholder() {
+        OutputNameTemplate template = new OutputNameTemplate("{index}-{name}/{name}.{ext}");
+
+        assertEquals("7-ada/ada.pdf", template.resolve(Path.of("in", "ada.json"), 7, "pdf"));
+        assertEquals("cv.html", new OutputNameTemplate(OutputNameTemplate.DEFAULT)
+            .resolve(Path.of("cv.snapshot"), 1, "html"));
+    }
+
+    @Test
+    void template_mustNameOrNumberItsOutputs() {
+        assertThrows(IllegalArgumentException.class, () -> new OutputNameTemplate("resume.{ext}"));
+        assertThrows(IllegalArgumentException.class, () -> new OutputNameTemplate(null));
+        assertDoesNotThrow(() -> new OutputNameTemplate("resume-{index}"));
+    }
+
+    @Test
+    void containsExtension_onlyWithTheExtensionPlaceholder() {
+        assertTrue(new OutputNameTemplate(OutputNameTemplate.DEFAULT).containsExtension());
+        assertFalse(new OutputNameTemplate("{name}.html").containsExtension());
+    }
+
+    @Test
+    void baseName_dropsTheLastExtensionOnly() {
+        assertEquals("ada", OutputNameTemplate.baseName(Path.of("dir", "ada.json")));
+        assertEquals("ada.v2", OutputNameTemplate.baseName(Path.of("ada.v2.json")));
+        assertEquals(".hidden", OutputNameTemplate.baseName(Path.of(".hidden")));
+        assertEquals("README", OutputNameTemplate.baseName(Path.of("README")));
+    }
+
+    @Test
+    void linkToOutputDirectory_climbsOutOfSubdirectories() {
+        assertEquals("resume.css", new OutputNameTemplate("{name}.{ext}").linkToOutputDirectory("resume.css"));
+        assertEquals("../../resume.css",
+            new OutputNameTemplate("{ext}/{name}/index.html").linkToOutputDirectory("resume.css"));
+        assertEquals("../resume.css",
+            new OutputNameTemplate("./{ext}//{name}.html").linkToOutputDirectory("resume.css"));
+    }
+}
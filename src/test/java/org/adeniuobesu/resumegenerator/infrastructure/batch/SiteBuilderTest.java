@@ -0,0 +1,276 @@
+package org.adeniuobesu.resumegenerator.infrastructure.batch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.PdfProfile;
+import org.adeniuobesu.resumegenerator.adapters.output.HtmlIndexExporter;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SiteBuilderTest {
+
+    private static final FileTime UNTOUCHED = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+
+    @TempDir
+    Path directory;
+
+    private Path inputs;
+    private Path site;
+    private String resume;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inputs = Files.createDirectories(directory.resolve("inputs"));
+        site = Files.createDirectories(directory.resolve("site"));
+        try (InputStream in = SiteBuilderTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            resume = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void unchangedInputs_areSkippedOnTheirSizeAndModificationTime() throws Exception {
+        write("ada", "Ada Lovelace");
+        write("grace", "Grace Hopper");
+        assertEquals(2, build().renderedCount());
+        markUntouched("ada.html", "grace.html", "index.html", SiteManifest.FILE_NAME);
+
+        SiteReport report = build();
+
+        assertEquals(0, report.renderedCount());
+        assertEquals(2, report.unchangedCount());
+        assertEquals(List.of(), report.failures());
+        assertUntouched("ada.html", "grace.html", "index.html", SiteManifest.FILE_NAME);
+    }
+
+    @Test
+    void touchedButIdenticalInputs_areSkippedOnTheirDigest() throws Exception {
+        Path ada = write("ada", "Ada Lovelace");
+        build();
+        markUntouched("ada.html", "index.html");
+        FileTime touched = FileTime.from(Instant.now().plusSeconds(60));
+        Files.setLastModifiedTime(ada, touched);
+
+        SiteReport report = build();
+
+        assertEquals(0, report.renderedCount());
+        assertEquals(1, report.unchangedCount());
+        assertUntouched("ada.html", "index.html");
+        // The new state is recorded, so the next build skips the input on its stat alone
+        assertEquals(touched.to(TimeUnit.NANOSECONDS), manifest().entries().get("ada").modified());
+    }
+
+    @Test
+    void changedInputs_areRenderedAgain() throws Exception {
+        write("ada", "Ada Lovelace");
+        write("grace", "Grace Hopper");
+        build();
+        markUntouched("grace.html");
+        Files.setLastModifiedTime(write("ada", "Ada King"), FileTime.from(Instant.now().plusSeconds(60)));
+
+        SiteReport report = build();
+
+        assertEquals(1, report.renderedCount());
+        assertEquals(1, report.unchangedCount());
+        assertUntouched("grace.html");
+        assertTrue(Files.readString(site.resolve("ada.html")).contains("Ada King"));
+        assertTrue(Files.readString(site.resolve("index.html")).contains("Ada King"));
+        assertEquals("Ada King", manifest().entries().get("ada").fullName());
+    }
+
+    @Test
+    void removedInputs_loseTheirPagesAndIndexPages() throws Exception {
+        write("ada", "Ada Lovelace");
+        write("grace", "Grace Hopper");
+        Path linus = write("linus", "Linus Torvalds");
+        assertEquals(3, builder(1, new OutputStrategyFactory()).build(inputs).indexPageCount());
+        assertTrue(Files.exists(site.resolve("index-3.html")));
+
+        Files.delete(linus);
+        SiteReport report = builder(1, new OutputStrategyFactory()).build(inputs);
+
+        assertEquals(1, report.removedCount());
+        assertEquals(2, report.indexPageCount());
+        assertEquals(List.of("ada.html", "grace.html", "index-2.html", "index.html"), pages());
+        assertEquals(Map.of("ada", "Ada Lovelace", "grace", "Grace Hopper"), fullNames());
+    }
+
+    @Test
+    void failedInputs_areTriedAgainOnTheNextBuild() throws Exception {
+        write("ada", "Ada Lovelace");
+        Path broken = Files.writeString(inputs.resolve("grace.json"), "{\"fullName\": ");
+
+        SiteReport first = build();
+        SiteReport second = build();
+        Files.setLastModifiedTime(write("grace", "Grace Hopper"), FileTime.from(Instant.now().plusSeconds(60)));
+        SiteReport fixed = build();
+
+        assertEquals(List.of(broken.toString()), first.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals(List.of(broken.toString()), second.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals(0, second.renderedCount());
+        assertEquals(1, fixed.renderedCount());
+        assertEquals(1, fixed.unchangedCount());
+        assertEquals(List.of(), fixed.failures());
+        assertEquals(List.of("ada.html", "grace.html", "index.html"), pages());
+    }
+
+    @Test
+    void brokenEditOfAPublishedInput_keepsItsPageAndIndexEntry() throws Exception {
+        write("ada", "Ada Lovelace");
+        Path grace = write("grace", "Grace Hopper");
+        build();
+        String published = Files.readString(site.resolve("grace.html"));
+        Files.writeString(grace, "{\"fullName\": ");
+        Files.setLastModifiedTime(grace, FileTime.from(Instant.now().plusSeconds(60)));
+
+        SiteReport broken = build();
+        SiteReport retried = build();
+
+        assertEquals(List.of(grace.toString()), broken.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals(List.of(grace.toString()), retried.failures().stream().map(BatchItemResult::input).toList());
+        assertEquals(published, Files.readString(site.resolve("grace.html")));
+        assertEquals(List.of("ada.html", "grace.html", "index.html"), pages());
+        try (Stream<Path> files = Files.list(site)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")), "temporary page left behind");
+        }
+        String indexPage = Files.readString(site.resolve("index.html"));
+        assertTrue(indexPage.contains("href=\"grace.html\""), indexPage);
+        assertEquals(Map.of("ada", "Ada Lovelace", "grace", "Grace Hopper"), fullNames());
+
+        Files.setLastModifiedTime(write("grace", "Grace Brewster Hopper"), FileTime.from(Instant.now().plusSeconds(120)));
+        SiteReport fixed = build();
+
+        assertEquals(1, fixed.renderedCount());
+        assertEquals(List.of(), fixed.failures());
+        assertTrue(Files.readString(site.resolve("grace.html")).contains("Grace Brewster Hopper"));
+        assertEquals(Map.of("ada", "Ada Lovelace", "grace", "Grace Brewster Hopper"), fullNames());
+    }
+
+    @Test
+    void newRenderingId_rendersEveryPageAgain() throws Exception {
+        write("ada", "Ada Lovelace");
+        write("grace", "Grace Hopper");
+        build();
+        markUntouched("ada.html", "grace.html");
+
+        SiteReport report = builder(SiteBuilder.DEFAULT_PAGE_SIZE,
+            new OutputStrategyFactory(PdfProfile.BALANCED, null, true)).build(inputs);
+
+        assertEquals(2, report.renderedCount());
+        assertEquals(0, report.unchangedCount());
+        assertNotEquals(UNTOUCHED, Files.getLastModifiedTime(site.resolve("ada.html")));
+        assertNotEquals(UNTOUCHED, Files.getLastModifiedTime(site.resolve("grace.html")));
+        assertTrue(manifest().pagesId().contains(";minified"), manifest().pagesId());
+    }
+
+    @Test
+    void inputsNamedLikeIndexPages_failAndStayInPlace() throws Exception {
+        write("ada", "Ada Lovelace");
+        Path index = write("index", "Index Card");
+        Path second = write("index-2", "Second Index");
+        Path padded = write("index-02", "Padded Index");
+
+        build();
+        SiteReport report = build();
+
+        assertEquals(List.of(second.toString(), index.toString()),
+            report.failures().stream().map(BatchItemResult::input).sorted().toList());
+        assertTrue(Files.exists(index));
+        assertTrue(Files.exists(second));
+        assertTrue(Files.exists(padded));
+        assertEquals(List.of("ada.html", "index-02.html", "index.html"), pages());
+        String indexPage = Files.readString(site.resolve("index.html"));
+        assertTrue(indexPage.contains("href=\"ada.html\""), indexPage);
+        assertFalse(indexPage.contains("Index Card"), indexPage);
+    }
+
+    @Test
+    void manifest_roundTripsEscapedValues() throws IOException {
+        SiteManifest.Entry entry = new SiteManifest.Entry("tab\tname", 42, 1_700_000_000_123_456_789L,
+            "0123abcd", "Line\nbreak\r\\n", "C:\\Users\\ada\t");
+        Path path = directory.resolve(SiteManifest.FILE_NAME);
+
+        new SiteManifest("HTML/2;css=a\tb", "INDEX/1\\", Map.of(entry.name(), entry)).write(path);
+        SiteManifest read = SiteManifest.read(path);
+
+        assertEquals("HTML/2;css=a\tb", read.pagesId());
+        assertEquals("INDEX/1\\", read.indexId());
+        assertEquals(Map.of(entry.name(), entry), read.entries());
+        assertEquals(4, Files.readAllLines(path).size());
+    }
+
+    @Test
+    void manifest_thatCannotBeParsed_readsAsEmpty() throws IOException {
+        Path path = directory.resolve(SiteManifest.FILE_NAME);
+
+        assertEquals(Map.of(), SiteManifest.read(path).entries());
+        Files.writeString(path, "# resume-site 1\npages\tHTML/2\nindex\tINDEX/1\nada\tnot a size\t1\td\tAda\tEngineer\n");
+        assertEquals("", SiteManifest.read(path).pagesId());
+        Files.writeString(path, "# resume-site 0\npages\tHTML/2\nindex\tINDEX/1\n");
+        assertEquals("", SiteManifest.read(path).pagesId());
+        Files.write(path, "# resume-site 1\npages\tHTML/2\nindex\tINDEX/1\nAd\u00e9\t1\t1\td\tAda\tEngineer\n"
+            .getBytes(StandardCharsets.ISO_8859_1));
+        assertEquals("", SiteManifest.read(path).pagesId());
+    }
+
+    // --- Helper Methods ---
+    private SiteReport build() throws Exception {
+        return builder(SiteBuilder.DEFAULT_PAGE_SIZE, new OutputStrategyFactory()).build(inputs);
+    }
+
+    private SiteBuilder builder(int pageSize, OutputStrategyFactory exporters) {
+        return new SiteBuilder(site, pageSize, 2, RenderOptions.defaults().withExporterFactory(exporters),
+            new HtmlIndexExporter());
+    }
+
+    private Path write(String name, String fullName) throws IOException {
+        return Files.writeString(inputs.resolve(name + ".json"), resume.replace("Alexandra Chen", fullName));
+    }
+
+    private void markUntouched(String... files) throws IOException {
+        for (String file : files) {
+            Files.setLastModifiedTime(site.resolve(file), UNTOUCHED);
+        }
+    }
+
+    private void assertUntouched(String... files) throws IOException {
+        for (String file : files) {
+            assertEquals(UNTOUCHED, Files.getLastModifiedTime(site.resolve(file)), file + " was written again");
+        }
+    }
+
+    private SiteManifest manifest() throws IOException {
+        return SiteManifest.read(site.resolve(SiteManifest.FILE_NAME));
+    }
+
+    private Map<String, String> fullNames() throws IOException {
+        Map<String, String> names = new TreeMap<>();
+        manifest().entries().forEach((name, entry) -> names.put(name, entry.fullName()));
+        return names;
+    }
+
+    private List<String> pages() throws IOException {
+        try (Stream<Path> files = Files.list(site)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(".html"))
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.adeniuobesu.resumegenerator.infrastructure.server;
+
+import com.sun.net.httpserver.HttpServer;
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.application.dtos.ResumeDto;
+import org.adeniuobesu.resumegenerator.application.ports.OutputStrategy;
+import org.adeniuobesu.resumegenerator.core.validation.ValidationMode;
+import org.adeniuobesu.resumegenerator.infrastructure.factories.OutputStrategyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderHandlerTest {
+
+    /** More than the response buffer, so the first bytes are on the wire before the failure. */
+    private static final int BEFORE_FAILURE = 64 * 1024;
+
+    private HttpServer server;
+    private String resume;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream in = RenderHandlerTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            resume = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void validResume_isRenderedWithTheContentTypeOfItsFormat() throws IOException {
+        start(new OutputStrategyFactory());
+
+        Response html = post("format=HTML", resume);
+        Response text = post("format=TEXT", resume);
+        Response markdown = post("format=MARKDOWN", resume);
+        Response pdf = post("format=PDF", resume);
+        Response snapshot = post("format=SNAPSHOT", resume);
+
+        assertEquals(200, html.status());
+        assertEquals("text/html; charset=utf-8", html.contentType());
+        assertTrue(html.body().contains("Alexandra Chen"), html.body());
+        assertEquals(200, text.status());
+        assertEquals("text/plain; charset=utf-8", text.contentType());
+        assertTrue(text.body().contains("ALEXANDRA CHEN"), text.body());
+        assertEquals("text/markdown; charset=utf-8", markdown.contentType());
+        assertEquals("application/pdf", pdf.contentType());
+        assertTrue(pdf.body().startsWith("%PDF-"));
+        assertEquals("application/octet-stream", snapshot.contentType());
+    }
+
+    @Test
+    void format_isReadCaseInsensitivelyAndUrlDecodedAmongOtherParameters() throws IOException {
+        start(new OutputStrategyFactory());
+
+        assertEquals("text/html; charset=utf-8", post("format=html", resume).contentType());
+        assertEquals("text/html; charset=utf-8", post("format=%48tml", resume).contentType());
+        assertEquals("text/plain; charset=utf-8", post("lang=en&format=Text&format=HTML", resume).contentType());
+        assertEquals("application/octet-stream", post("format=snapshot", resume).contentType());
+    }
+
+    @Test
+    void missingOrUnknownFormat_is400() throws IOException {
+        start(new OutputStrategyFactory());
+
+        for (String query : new String[] {null, "", "lang=en", "format=", "format=DOCX", "=HTML", "formats=HTML"}) {
+            Response response = post(query, resume);
+
+            assertEquals(400, response.status(), query);
+            assertEquals("text/plain; charset=utf-8", response.contentType(), query);
+            assertEquals("Query parameter 'format' must be one of PDF, HTML, MARKDOWN, TEXT, SNAPSHOT\n",
+                response.body());
+        }
+    }
+
+    @Test
+    void otherMethods_are405() throws IOException {
+        start(new OutputStrategyFactory());
+        HttpURLConnection connection = connect("format=HTML");
+        connection.setRequestMethod("GET");
+
+        Response response = read(connection);
+
+        assertEquals(405, response.status());
+        assertEquals("POST", connection.getHeaderField("Allow"));
+    }
+
+    @Test
+    void malformedJson_is400() throws IOException {
+        start(new OutputStrategyFactory());
+
+        Response response = post("format=HTML", "{\"fullName\": ");
+
+        assertEquals(400, response.status());
+        assertEquals("text/plain; charset=utf-8", response.contentType());
+    }
+
+    @Test
+    void invalidResume_is422() throws IOException {
+        start(new OutputStrategyFactory());
+
+        Response response = post("format=HTML", resume.replace("\"Alexandra Chen\"", "\"\""));
+
+        assertEquals(422, response.status());
+        assertEquals("text/plain; charset=utf-8", response.contentType());
+        assertTrue(response.body().contains("validation"), response.body());
+    }
+
+    @Test
+    void exporterFailingBeforeItWrites_is500() throws IOException {
+        start(failingAfter(0));
+
+        Response response = post("format=TEXT", resume);
+
+        assertEquals(500, response.status());
+        assertEquals("text/plain; charset=utf-8", response.contentType());
+        assertTrue(response.body().contains("exporter failed"), response.body());
+    }
+
+    @Test
+    void exporterFailingAfterItWrites_keepsTheStatusAlreadySent() throws IOException {
+        start(failingAfter(BEFORE_FAILURE));
+
+        HttpURLConnection connection = connect("format=TEXT");
+        send(connection, resume);
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("text/plain; charset=utf-8", connection.getContentType());
+        byte[] body = readTruncated(connection.getInputStream());
+        assertTrue(body.length <= BEFORE_FAILURE, "body: " + body.length);
+        assertFalse(new String(body, StandardCharsets.UTF_8).contains("exporter failed"));
+    }
+
+    // --- Helper Methods ---
+    private record Response(int status, String contentType, String body) {}
+
+    private void start(OutputStrategyFactory exporters) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/render", new RenderHandler(ValidationMode.FAIL_FAST, null, exporters));
+        server.start();
+    }
+
+    /**
+     * TEXT writes {@code bytes} bytes, then fails, so zero bytes is an empty write;
+     * the other formats are the usual ones.
+     */
+    private static OutputStrategyFactory failingAfter(int bytes) {
+        OutputStrategy<ResumeDto> failing = (data, os) -> {
+            try {
+                byte[] page = new byte[bytes];
+                Arrays.fill(page, (byte) 'x');
+                os.write(page);
+                os.flush();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("exporter failed");
+        };
+        return new OutputStrategyFactory() {
+            @Override
+            public OutputStrategy<ResumeDto> create(OutputType type) {
+                return type == OutputType.TEXT ? failing : super.create(type);
+            }
+        };
+    }
+
+    private Response post(String query, String body) throws IOException {
+        HttpURLConnection connection = connect(query);
+        send(connection, body);
+        return read(connection);
+    }
+
+    private HttpURLConnection connect(String query) throws IOException {
+        String uri = "http://localhost:" + server.getAddress().getPort() + "/render"
+            + (query == null ? "" : "?" + query);
+        HttpURLConnection connection = (HttpURLConnection) new URL(uri).openConnection();
+        connection.setConnectTimeout(5_000);
+        connection.setReadTimeout(30_000);
+        return connection;
+    }
+
+    private static void send(HttpURLConnection connection, String body) throws IOException {
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        try (OutputStream os = connection.getOutputStream()) {
+            os.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static Response read(HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        try (in) {
+            String body = in == null ? "" : new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+            return new Response(status, connection.getContentType(), body);
+        }
+    }
+
+    /** Reads what arrives before the body ends or breaks off. */
+    private static byte[] readTruncated(InputStream in) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (in) {
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, n);
+            }
+        } catch (IOException e) {
+            // A truncated chunked body ends the read here
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,152 @@
+package org.adeniuobesu.resumegenerator.infrastructure.watch;
+
+import org.adeniuobesu.resumegenerator.adapters.models.OutputType;
+import org.adeniuobesu.resumegenerator.infrastructure.OutputTargets;
+import org.adeniuobesu.resumegenerator.infrastructure.RenderOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeWatcherTest {
+
+    private static final String RESUME = sample();
+
+    @TempDir
+    Path directory;
+
+    private final List<String> outcomes = new CopyOnWriteArrayList<>();
+
+    @Test
+    void failedRender_keepsTheLastGoodOutputs() throws IOException {
+        Path input = Files.writeString(directory.resolve("resume.json"), RESUME);
+        Path text = directory.resolve("resume.txt");
+        Path html = directory.resolve("resume.html");
+        ResumeWatcher watcher = watcher(input, Map.of(OutputType.TEXT, text, OutputType.HTML, html));
+
+        watcher.render();
+        String renderedText = Files.readString(text);
+        byte[] renderedHtml = Files.readAllBytes(html);
+        byte[] renderedCopy = Files.readAllBytes(OutputTargets.precompressedPath(html));
+        Files.writeString(input, "{\"fullName\": \"Ada");
+        watcher.render();
+
+        assertEquals(List.of("rendered", "failed"), outcomes);
+        assertFalse(renderedText.isEmpty());
+        assertEquals(renderedText, Files.readString(text));
+        assertArrayEquals(renderedHtml, Files.readAllBytes(html));
+        assertArrayEquals(renderedCopy, Files.readAllBytes(OutputTargets.precompressedPath(html)));
+        assertEquals(List.of(html, OutputTargets.precompressedPath(html), input, text), listing());
+    }
+
+    @Test
+    void restoringTheLastGoodContent_rendersAgain() throws IOException {
+        Path input = Files.writeString(directory.resolve("resume.json"), RESUME);
+        ResumeWatcher watcher = watcher(input, Map.of(OutputType.TEXT, directory.resolve("resume.txt")));
+
+        watcher.render();
+        watcher.render();
+        Files.writeString(input, "{\"fullName\": \"Ada");
+        watcher.render();
+        Files.writeString(input, RESUME);
+        watcher.render();
+
+        assertEquals(List.of("rendered", "unchanged", "failed", "rendered"), outcomes);
+    }
+
+    @Test
+    void saveDuringTheFirstRender_isRenderedOnceItEnds() throws Exception {
+        Path input = Files.writeString(directory.resolve("resume.json"), RESUME);
+        Path text = directory.resolve("resume.txt");
+        CountDownLatch renders = new CountDownLatch(2);
+        ResumeWatcher watcher = watcher(input, Map.of(OutputType.TEXT, text), () -> {
+            if (renders.getCount() == 2) {
+                // Saved before the first render returns, as an editor might while it runs
+                Files.writeString(input, RESUME.replace("Alexandra Chen", "Ada Lovelace"));
+            }
+            renders.countDown();
+        });
+        Thread watching = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException | InterruptedException e) {
+                // Interrupted once the test is done
+            }
+        });
+
+        watching.start();
+        try {
+            assertTrue(renders.await(10, TimeUnit.SECONDS), outcomes.toString());
+        } finally {
+            watching.interrupt();
+            watching.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertTrue(Files.readString(text).contains("ADA LOVELACE"));
+    }
+
+    // --- Helper Methods ---
+    /** Reacts to a render on the watching thread. */
+    private interface OnRendered {
+        void run() throws IOException;
+    }
+
+    private ResumeWatcher watcher(Path input, Map<OutputType, Path> outputs) {
+        return watcher(input, outputs, () -> {});
+    }
+
+    private ResumeWatcher watcher(Path input, Map<OutputType, Path> outputs, OnRendered onRendered) {
+        return new ResumeWatcher(input, outputs,
+            RenderOptions.defaults().withPrecompressed(Set.of(OutputType.HTML)), new ResumeWatcher.Listener() {
+                @Override
+                public void rendered(Duration elapsed) {
+                    outcomes.add("rendered");
+                    try {
+                        onRendered.run();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                @Override
+                public void unchanged() {
+                    outcomes.add("unchanged");
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    outcomes.add("failed");
+                }
+            });
+    }
+
+    private static String sample() {
+        try (InputStream in = ResumeWatcherTest.class.getResourceAsStream("/samples/resume.json")) {
+            assertNotNull(in, "bundled sample resume is missing");
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> listing() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}